@@ -0,0 +1,73 @@
+package com.jeontongju.notification.config;
+
+import com.jeontongju.notification.kafka.NotificationKafkaListener;
+import io.github.bitbox.bitbox.util.KafkaTopicNameInfo;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.kafka.ConcurrentKafkaListenerContainerFactoryConfigurer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.retrytopic.RetryTopicConfiguration;
+import org.springframework.kafka.retrytopic.RetryTopicConfigurationBuilder;
+
+@Configuration
+public class KafkaConfig {
+
+  @Value("${notification.kafka.batch.poll-timeout-millis:1000}")
+  private long batchPollTimeout;
+
+  @Value("${notification.kafka.batch.concurrency:1}")
+  private int batchConcurrency;
+
+  @Value("${notification.kafka.retry.attempts:4}")
+  private int retryAttempts;
+
+  @Value("${notification.kafka.retry.delay-millis:1000}")
+  private long retryDelayMillis;
+
+  @Value("${notification.kafka.retry.multiplier:5}")
+  private double retryMultiplier;
+
+  @Value("${notification.kafka.retry.max-delay-millis:60000}")
+  private long retryMaxDelayMillis;
+
+  /** 한 번의 poll 결과를 List로 받는 배치 리스너용 컨테이너 팩토리 */
+  @Bean
+  public ConcurrentKafkaListenerContainerFactory<Object, Object> batchKafkaListenerContainerFactory(
+      ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+      ConsumerFactory<Object, Object> kafkaConsumerFactory) {
+
+    ConcurrentKafkaListenerContainerFactory<Object, Object> factory =
+        new ConcurrentKafkaListenerContainerFactory<>();
+    configurer.configure(factory, kafkaConsumerFactory);
+    factory.setBatchListener(true);
+    factory.setConcurrency(batchConcurrency);
+    factory.getContainerProperties().setPollTimeout(batchPollTimeout);
+    return factory;
+  }
+
+  /**
+   * 단건 리스너용 재시도 토픽 (토픽-retry-0, 토픽-retry-1, ... 지수 백오프) + 최종 실패 시 토픽-dlt
+   *
+   * <p>재시도는 별도 토픽에서 기다리므로 메인 파티션의 다음 레코드 처리를 막지 않는다.
+   */
+  @Bean
+  public RetryTopicConfiguration notificationRetryTopicConfiguration(
+      KafkaTemplate<String, Object> kafkaTemplate) {
+
+    return RetryTopicConfigurationBuilder.newInstance()
+        .maxAttempts(retryAttempts)
+        .exponentialBackoff(retryDelayMillis, retryMultiplier, retryMaxDelayMillis)
+        .includeTopics(
+            List.of(
+                KafkaTopicNameInfo.SEND_ERROR_NOTIFICATION,
+                KafkaTopicNameInfo.SEND_ERROR_CANCELING_ORDER_NOTIFICATION,
+                NotificationKafkaListener.SEND_NOTIFICATION_UNBATCHED))
+        .suffixTopicsWithIndexValues()
+        .dltHandlerMethod("notificationKafkaListener", "handleDlt")
+        .create(kafkaTemplate);
+  }
+}
@@ -0,0 +1,52 @@
+package com.jeontongju.notification.config;
+
+import io.github.bitbox.bitbox.enums.NotificationTypeEnum;
+import java.util.EnumMap;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 알림 전송 제한 설정 (notification.rate-limit.*)
+ *
+ * <p>채널(SSE, FCM) 전체 한도(global)와 회원별 한도(member)를 토큰 버킷으로 적용하고, types 에 정한 알림 유형은 회원별 한도와 함께
+ * (회원, 알림 유형)별 한도를 한 번 더 적용한다.
+ */
+@Component
+@ConfigurationProperties(prefix = "notification.rate-limit")
+@Getter
+@Setter
+public class RateLimitProperties {
+
+  private boolean enabled = true;
+  // local : 노드별 메모리 버킷, redis : 모든 노드가 공유하는 Redis 버킷
+  private String mode = "local";
+  private Policy global = new Policy(2000L, 1000.0);
+  private Policy member = new Policy(30L, 1.0);
+  private Map<NotificationTypeEnum, Policy> types = new EnumMap<>(NotificationTypeEnum.class);
+
+  // 알림 유형별 한도가 없으면 null (회원별 한도만 적용)
+  public Policy getTypePolicy(NotificationTypeEnum notificationType) {
+
+    if (notificationType == null) {
+      return null;
+    }
+    return types.get(notificationType);
+  }
+
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @Getter
+  @Setter
+  public static class Policy {
+
+    // 한 번에 보낼 수 있는 최대 개수
+    private long capacity;
+    // 초당 채워지는 개수
+    private double refillPerSecond;
+  }
+}
@@ -0,0 +1,47 @@
+package com.jeontongju.notification.config;
+
+import io.github.bitbox.bitbox.enums.NotificationTypeEnum;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 알림 이동 링크 설정 (notification.redirect-link.*)
+ *
+ * <p>templates 는 템플릿 키 -> 링크이고, 링크의 {params} 자리에 알림마다 다른 값이 들어간다. types 에 없는 알림 유형은
+ * defaultTemplate 을 사용한다.
+ */
+@Component
+@ConfigurationProperties(prefix = "notification.redirect-link")
+@Getter
+@Setter
+public class RedirectLinkProperties {
+
+  private Map<String, String> templates = defaultTemplates();
+  private Map<NotificationTypeEnum, String> types = defaultTypes();
+  private String defaultTemplate = "order-detail";
+
+  private static Map<String, String> defaultTemplates() {
+
+    Map<String, String> templates = new LinkedHashMap<>();
+    templates.put("product-list", "https://seller.jeontongju.shop/product/list");
+    templates.put("cash-up", "https://seller.jeontongju.shop/cash/up");
+    templates.put("membership-list", "https://jeontongju.shop/membership/list");
+    templates.put("order-detail", "https://jeontongju.shop/orderdetail{params}");
+    templates.put("none", "");
+    return templates;
+  }
+
+  private static Map<NotificationTypeEnum, String> defaultTypes() {
+
+    Map<NotificationTypeEnum, String> types = new EnumMap<>(NotificationTypeEnum.class);
+    types.put(NotificationTypeEnum.OUT_OF_STOCK, "product-list");
+    types.put(NotificationTypeEnum.BALANCE_ACCOUNTS, "cash-up");
+    types.put(NotificationTypeEnum.SUCCESS_SUBSCRIPTION_PAYMENTS, "membership-list");
+    return types;
+  }
+}
@@ -1,12 +1,20 @@
 package com.jeontongju.notification.config;
 
+import com.jeontongju.notification.redis.NotificationRedisListener;
+import com.jeontongju.notification.redis.NotificationRedisPublisher;
+import com.jeontongju.notification.utils.FailedOrderSerializer;
+import com.jeontongju.notification.utils.NodeIdManager;
+import io.github.bitbox.bitbox.dto.ConsumerOrderListResponseDto;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @Configuration
@@ -38,4 +46,28 @@ public class RedisConfig {
     redisTemplate.setValueSerializer(new StringRedisSerializer());
     return redisTemplate;
   }
+
+  /** 주문 실패 내역 저장용 (값은 gzip 압축 JSON) */
+  @Bean
+  public RedisTemplate<String, ConsumerOrderListResponseDto> failedOrderRedisTemplate(
+      FailedOrderSerializer failedOrderSerializer) {
+    RedisTemplate<String, ConsumerOrderListResponseDto> redisTemplate = new RedisTemplate<>();
+    redisTemplate.setConnectionFactory(redisConnectionFactory());
+    redisTemplate.setKeySerializer(new StringRedisSerializer());
+    redisTemplate.setValueSerializer(failedOrderSerializer);
+    return redisTemplate;
+  }
+
+  /** 다중 노드 SSE 전달 시, 현재 노드 채널 구독 */
+  @Bean
+  @ConditionalOnProperty(name = "notification.sse.delivery-mode", havingValue = "redis")
+  public RedisMessageListenerContainer redisMessageListenerContainer(
+      NotificationRedisListener notificationRedisListener, NodeIdManager nodeIdManager) {
+
+    RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+    container.setConnectionFactory(redisConnectionFactory());
+    String channel = NotificationRedisPublisher.NODE_CHANNEL_PREFIX + nodeIdManager.getNodeId();
+    container.addMessageListener(notificationRedisListener, new ChannelTopic(channel));
+    return container;
+  }
 }
@@ -0,0 +1,48 @@
+package com.jeontongju.notification.controller;
+
+import com.jeontongju.notification.dto.request.BroadcastNotificationRequestDto;
+import com.jeontongju.notification.dto.response.BroadcastJobInfoResponseDto;
+import com.jeontongju.notification.service.NotificationBroadcastService;
+import io.github.bitbox.bitbox.dto.ResponseFormat;
+import io.github.bitbox.bitbox.enums.MemberRoleEnum;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+public class NotificationBroadcastRestController {
+
+  private final NotificationBroadcastService notificationBroadcastService;
+
+  @PostMapping("/notifications/broadcast")
+  public ResponseEntity<ResponseFormat<String>> broadcast(
+      @RequestHeader MemberRoleEnum memberRole,
+      @RequestBody BroadcastNotificationRequestDto broadcastDto) {
+
+    return ResponseEntity.status(HttpStatus.ACCEPTED)
+        .body(
+            ResponseFormat.<String>builder()
+                .code(HttpStatus.ACCEPTED.value())
+                .message(HttpStatus.ACCEPTED.name())
+                .detail("전체 알림 전송 시작")
+                .data(notificationBroadcastService.broadcast(memberRole, broadcastDto))
+                .build());
+  }
+
+  @GetMapping("/notifications/broadcast/{jobId}")
+  public ResponseEntity<ResponseFormat<BroadcastJobInfoResponseDto>> getBroadcastJobInfo(
+      @RequestHeader MemberRoleEnum memberRole, @PathVariable String jobId) {
+
+    return ResponseEntity.ok()
+        .body(
+            ResponseFormat.<BroadcastJobInfoResponseDto>builder()
+                .code(HttpStatus.OK.value())
+                .message(HttpStatus.OK.name())
+                .detail("전체 알림 전송 현황 조회 성공")
+                .data(notificationBroadcastService.getJobInfo(memberRole, jobId))
+                .build());
+  }
+}
@@ -0,0 +1,39 @@
+package com.jeontongju.notification.controller;
+
+import com.jeontongju.notification.service.NotificationService;
+import javax.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/** SseEmitter 기반 SSE 연결 (notification.sse.connection-mode=servlet, 기본값) */
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+@ConditionalOnProperty(
+    name = "notification.sse.connection-mode",
+    havingValue = "servlet",
+    matchIfMissing = true)
+public class NotificationConnectRestController {
+
+  private final NotificationService notificationService;
+
+  @GetMapping(value = "/notifications/connect", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public SseEmitter connect(
+      @RequestHeader Long memberId,
+      @RequestHeader(value = "Last-Event-ID", required = false, defaultValue = "")
+          String lastEventId,
+      HttpServletResponse response) {
+
+    response.addHeader("X-Accel-Buffering", "no");
+    response.addHeader(HttpHeaders.CONNECTION, "keep-alive");
+    response.addHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+    return notificationService.subscribe(memberId, lastEventId);
+  }
+}
@@ -4,20 +4,19 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.jeontongju.notification.dto.response.EmitterInfoForSingleInquiryDto;
 import com.jeontongju.notification.dto.response.NotificationInfoForInquiryResponseDto;
 import com.jeontongju.notification.dto.response.UrlForRedirectResponseDto;
+import com.jeontongju.notification.service.KafkaDltReplayService;
 import com.jeontongju.notification.service.NotificationService;
 import io.github.bitbox.bitbox.dto.ResponseFormat;
 import io.github.bitbox.bitbox.dto.ServerErrorForNotificationDto;
 import io.github.bitbox.bitbox.enums.MemberRoleEnum;
 import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
 import javax.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/api")
@@ -25,24 +24,15 @@ import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 public class NotificationRestController {
 
   private final NotificationService notificationService;
-
-  @GetMapping(value = "/notifications/connect", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-  public SseEmitter connect(
-      @RequestHeader Long memberId,
-      @RequestHeader(value = "Last-Event-ID", required = false, defaultValue = "")
-          String lastEventId,
-      HttpServletResponse response) {
-
-    response.addHeader("X-Accel-Buffering", "no");
-    response.addHeader(HttpHeaders.CONNECTION, "keep-alive");
-    response.addHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
-    return notificationService.subscribe(memberId, lastEventId);
-  }
+  private final KafkaDltReplayService kafkaDltReplayService;
 
   @GetMapping("/notifications")
   public ResponseEntity<ResponseFormat<NotificationInfoForInquiryResponseDto>>
       getNotificationInfosForInquiry(
-          @RequestHeader Long memberId, @RequestHeader MemberRoleEnum memberRole) {
+          @RequestHeader Long memberId,
+          @RequestHeader MemberRoleEnum memberRole,
+          @RequestParam(required = false) Long cursor,
+          @RequestParam(defaultValue = "20") int size) {
 
     return ResponseEntity.ok()
         .body(
@@ -50,20 +40,53 @@ public class NotificationRestController {
                 .code(HttpStatus.OK.value())
                 .message(HttpStatus.OK.name())
                 .detail("알림 조회 성공")
-                .data(notificationService.getNotificationInfosForInquiry(memberId, memberRole))
+                .data(
+                    notificationService.getNotificationInfosForInquiry(
+                        memberId, memberRole, cursor, size))
+                .build());
+  }
+
+  @GetMapping("/notifications/unread-count")
+  public ResponseEntity<ResponseFormat<Long>> getUnreadCount(@RequestHeader Long memberId) {
+
+    return ResponseEntity.ok()
+        .body(
+            ResponseFormat.<Long>builder()
+                .code(HttpStatus.OK.value())
+                .message(HttpStatus.OK.name())
+                .detail("안 읽은 알림 개수 조회 성공")
+                .data(notificationService.getUnreadCount(memberId))
                 .build());
   }
 
   @PatchMapping("/notifications")
-  public ResponseEntity<ResponseFormat<Void>> readAllNotification(@RequestHeader Long memberId) {
+  public ResponseEntity<ResponseFormat<Integer>> readAllNotification(
+      @RequestHeader Long memberId) {
 
-    notificationService.readAllNotification(memberId);
     return ResponseEntity.ok()
         .body(
-            ResponseFormat.<Void>builder()
+            ResponseFormat.<Integer>builder()
                 .code(HttpStatus.OK.value())
                 .message(HttpStatus.OK.name())
                 .detail("전체 읽음 처리 성공")
+                .data(notificationService.readAllNotification(memberId))
+                .build());
+  }
+
+  @PostMapping("/notifications/dlt/replay")
+  public ResponseEntity<ResponseFormat<Integer>> replayDeadLetters(
+      @RequestHeader MemberRoleEnum memberRole,
+      @RequestParam String topic,
+      @RequestParam(defaultValue = "1000") int maxRecords)
+      throws ExecutionException, InterruptedException {
+
+    return ResponseEntity.ok()
+        .body(
+            ResponseFormat.<Integer>builder()
+                .code(HttpStatus.OK.value())
+                .message(HttpStatus.OK.name())
+                .detail("DLT 재처리 성공")
+                .data(kafkaDltReplayService.replay(memberRole, topic, maxRecords))
                 .build());
   }
 
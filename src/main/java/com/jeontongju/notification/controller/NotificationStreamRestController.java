@@ -0,0 +1,46 @@
+package com.jeontongju.notification.controller;
+
+import com.jeontongju.notification.dto.response.NotificationInfoResponseDto;
+import com.jeontongju.notification.service.NotificationService;
+import javax.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+
+/**
+ * Flux 기반 SSE 연결 (notification.sse.connection-mode=reactive)
+ *
+ * <p>연결마다 스레드나 SseEmitter 전송 큐를 두지 않고, 응답 스트림을 Spring MVC 의 reactive 반환 타입 지원으로 내보낸다. 다만 Spring
+ * MVC 는 Flux 를 내부적으로 비동기 응답으로 바꾸므로, 요청 스레드는 반환하지만 연결마다 서블릿 비동기 컨텍스트는 그대로 유지된다. 이를 없애려면
+ * WebFlux(Netty) 로 분리된 서비스가 필요하다.
+ *
+ * <p>연결 유지 시간은 전역 비동기 타임 아웃이 아니라 notification.sse.stream.timeout-millis 로 이 스트림에만 적용한다.
+ */
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "notification.sse.connection-mode", havingValue = "reactive")
+public class NotificationStreamRestController {
+
+  private final NotificationService notificationService;
+
+  @GetMapping(value = "/notifications/connect", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public Flux<ServerSentEvent<NotificationInfoResponseDto>> connect(
+      @RequestHeader Long memberId,
+      @RequestHeader(value = "Last-Event-ID", required = false, defaultValue = "")
+          String lastEventId,
+      HttpServletResponse response) {
+
+    response.addHeader("X-Accel-Buffering", "no");
+    response.addHeader(HttpHeaders.CONNECTION, "keep-alive");
+    response.addHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+    return notificationService.subscribeStream(memberId, lastEventId);
+  }
+}
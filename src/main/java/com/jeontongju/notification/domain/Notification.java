@@ -1,7 +1,5 @@
 package com.jeontongju.notification.domain;
 
-import static javax.persistence.GenerationType.IDENTITY;
-
 import javax.persistence.*;
 
 import io.github.bitbox.bitbox.enums.NotificationTypeEnum;
@@ -10,13 +8,21 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "notification")
+@Table(
+    name = "notification",
+    indexes = {
+      @Index(
+          name = "idx_notification_recipient_id_notification_id",
+          columnList = "recipient_id, notification_id"),
+      @Index(name = "idx_notification_recipient_id_is_read", columnList = "recipient_id, is_read")
+    })
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
@@ -25,7 +31,10 @@ import java.time.LocalDateTime;
 public class Notification {
 
   @Id
-  @GeneratedValue(strategy = IDENTITY)
+  @GeneratedValue(generator = "time_ordered_id")
+  @GenericGenerator(
+      name = "time_ordered_id",
+      strategy = "com.jeontongju.notification.utils.TimeOrderedIdGenerator")
   @Column(name = "notification_id")
   private Long notificationId;
 
@@ -44,9 +53,24 @@ public class Notification {
   @Builder.Default
   private Boolean isRead = false;
 
-  @Column(name = "redirect_link", nullable = false)
+  // 묶음 알림인 경우 묶인 이벤트 수
+  @Column(name = "aggregated_count", nullable = false)
+  @Builder.Default
+  private Integer aggregatedCount = 1;
+
+  // 이전 버전에서 저장한 전체 링크 (새 알림은 redirectKey + redirectParams 로 저장)
+  @Column(name = "redirect_link")
   private String redirectLink;
 
+  // 이동 링크 템플릿 키 (RedirectLinkRegistry)
+  @Column(name = "redirect_key", length = 32)
+  private String redirectKey;
+
+  // 템플릿의 {params} 자리에 들어갈 값 (주문 상세 링크는 인코딩한 주문 내역이 들어가므로 길이 제한 없음)
+  @Lob
+  @Column(name = "redirect_params")
+  private String redirectParams;
+
   @CreatedDate
   @Column(name = "created_at", nullable = false)
   private LocalDateTime createdAt;
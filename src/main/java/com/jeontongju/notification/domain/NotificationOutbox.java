@@ -0,0 +1,76 @@
+package com.jeontongju.notification.domain;
+
+import com.jeontongju.notification.enums.NotificationPriorityEnum;
+import java.time.LocalDateTime;
+import javax.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+/** 알림 저장과 같은 트랜잭션에 기록되는 전송 대기 이벤트 (커밋 후 릴레이가 전송) */
+@Entity
+@Table(
+    name = "notification_outbox",
+    indexes = {
+      @Index(
+          name = "idx_notification_outbox_is_delivered_priority_outbox_id",
+          columnList = "is_delivered, priority, outbox_id")
+    })
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Getter
+@EntityListeners(AuditingEntityListener.class)
+public class NotificationOutbox {
+
+  @Id
+  @GeneratedValue(generator = "time_ordered_id")
+  @GenericGenerator(
+      name = "time_ordered_id",
+      strategy = "com.jeontongju.notification.utils.TimeOrderedIdGenerator")
+  @Column(name = "outbox_id")
+  private Long outboxId;
+
+  @Column(name = "recipient_id", nullable = false)
+  private Long recipientId;
+
+  @Column(name = "event_name", nullable = false)
+  private String eventName;
+
+  @Column(name = "notification_id")
+  private Long notificationId;
+
+  @Lob
+  @Column(name = "redirect_url")
+  private String redirectUrl;
+
+  @Column(name = "data")
+  private String data;
+
+  @Column(name = "aggregated_count")
+  private Integer aggregatedCount;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "priority", nullable = false)
+  @Builder.Default
+  private NotificationPriorityEnum priority = NotificationPriorityEnum.NORMAL;
+
+  @Column(name = "is_delivered", nullable = false)
+  @Builder.Default
+  private Boolean isDelivered = false;
+
+  @CreatedDate
+  @Column(name = "created_at", nullable = false)
+  private LocalDateTime createdAt;
+
+  // 이 시각까지 한 노드의 릴레이가 전송 중 (지나면 다른 릴레이가 다시 가져감)
+  @Column(name = "claimed_until")
+  private LocalDateTime claimedUntil;
+
+  @Column(name = "delivered_at")
+  private LocalDateTime deliveredAt;
+}
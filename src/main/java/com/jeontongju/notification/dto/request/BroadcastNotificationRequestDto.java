@@ -0,0 +1,23 @@
+package com.jeontongju.notification.dto.request;
+
+import io.github.bitbox.bitbox.enums.NotificationTypeEnum;
+import io.github.bitbox.bitbox.enums.RecipientTypeEnum;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BroadcastNotificationRequestDto {
+
+  private NotificationTypeEnum notificationType;
+  private RecipientTypeEnum recipientType;
+  // 비어있으면 recipientType 역할의 전체 회원에게 전송
+  private List<Long> recipientIds;
+  // 있으면 FCM 으로도 전송
+  private FCMNotificationRequestDto fcmNotification;
+}
@@ -0,0 +1,29 @@
+package com.jeontongju.notification.dto.response;
+
+import com.jeontongju.notification.enums.BroadcastStatusEnum;
+import io.github.bitbox.bitbox.enums.NotificationTypeEnum;
+import io.github.bitbox.bitbox.enums.RecipientTypeEnum;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Getter
+public class BroadcastJobInfoResponseDto {
+
+  private String jobId;
+  private BroadcastStatusEnum status;
+  private NotificationTypeEnum notificationType;
+  private RecipientTypeEnum recipientType;
+  private long processedCounts;
+  private long failedCounts;
+  private long fcmQueuedCounts;
+  private long fcmRejectedCounts;
+  private LocalDateTime startedAt;
+  private LocalDateTime finishedAt;
+  private double recipientsPerSecond;
+}
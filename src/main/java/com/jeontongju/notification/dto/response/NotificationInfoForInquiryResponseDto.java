@@ -14,4 +14,5 @@ public class NotificationInfoForInquiryResponseDto {
 
   private int notReadcounts;
   private List<NotificationInfoForSingleInquiryDto> notifications;
+  private Long nextCursor;
 }
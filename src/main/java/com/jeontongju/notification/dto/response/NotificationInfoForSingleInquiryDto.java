@@ -19,4 +19,5 @@ public class NotificationInfoForSingleInquiryDto {
   private NotificationTypeEnum notificationType;
   private Boolean isRead;
   private LocalDateTime createdAt;
+  private Integer aggregatedCount;
 }
@@ -14,4 +14,5 @@ public class NotificationInfoResponseDto {
   private Long notificationId;
   private String redirectUrl;
   private Object data;
+  private Integer aggregatedCount;
 }
@@ -0,0 +1,20 @@
+package com.jeontongju.notification.dto.temp;
+
+import io.github.bitbox.bitbox.enums.NotificationTypeEnum;
+import io.github.bitbox.bitbox.enums.RecipientTypeEnum;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Getter
+public class AggregatedNotificationDto {
+
+  private Long recipientId;
+  private RecipientTypeEnum recipientType;
+  private NotificationTypeEnum notificationType;
+  private int aggregatedCount;
+}
@@ -0,0 +1,19 @@
+package com.jeontongju.notification.dto.temp;
+
+import com.jeontongju.notification.dto.response.NotificationInfoResponseDto;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Getter
+public class CachedEventDto {
+
+  private long sequence;
+  private long createdAt;
+  private String eventName;
+  private NotificationInfoResponseDto data;
+}
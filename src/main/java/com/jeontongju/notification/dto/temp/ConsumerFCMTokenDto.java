@@ -0,0 +1,16 @@
+package com.jeontongju.notification.dto.temp;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Getter
+public class ConsumerFCMTokenDto {
+
+  private Long consumerId;
+  private String fcmToken;
+}
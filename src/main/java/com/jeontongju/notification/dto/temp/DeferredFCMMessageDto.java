@@ -0,0 +1,18 @@
+package com.jeontongju.notification.dto.temp;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Getter
+public class DeferredFCMMessageDto {
+
+  private Long memberId;
+  private String title;
+  private String body;
+  private int deferredCount;
+}
@@ -0,0 +1,21 @@
+package com.jeontongju.notification.dto.temp;
+
+import com.jeontongju.notification.dto.response.NotificationInfoResponseDto;
+import com.jeontongju.notification.enums.NotificationPriorityEnum;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Getter
+public class NotificationEnvelopeDto {
+
+  private Long memberId;
+  private String eventName;
+  private List<NotificationInfoResponseDto> events;
+  private NotificationPriorityEnum priority;
+}
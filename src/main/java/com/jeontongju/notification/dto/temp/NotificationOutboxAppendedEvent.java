@@ -0,0 +1,12 @@
+package com.jeontongju.notification.dto.temp;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/** 아웃박스에 전송 대기 이벤트가 추가됨 (커밋 후 릴레이를 바로 깨우는 용도) */
+@AllArgsConstructor
+@Getter
+public class NotificationOutboxAppendedEvent {
+
+  private int appendedCounts;
+}
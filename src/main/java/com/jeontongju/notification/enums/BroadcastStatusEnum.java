@@ -0,0 +1,13 @@
+package com.jeontongju.notification.enums;
+
+public enum BroadcastStatusEnum {
+  RUNNING("전송 중"),
+  COMPLETED("전송 완료"),
+  FAILED("수신자 조회 실패로 중단");
+
+  private String value;
+
+  BroadcastStatusEnum(String value) {
+    this.value = value;
+  }
+}
@@ -0,0 +1,13 @@
+package com.jeontongju.notification.enums;
+
+public enum ConsumedRecordStateEnum {
+  CLAIMED("처음 소비하는 레코드, 처리 중 표시 선점"),
+  DONE("커밋까지 끝난 레코드"),
+  IN_PROGRESS("다른 소비자가 처리 중인 레코드");
+
+  private String value;
+
+  ConsumedRecordStateEnum(String value) {
+    this.value = value;
+  }
+}
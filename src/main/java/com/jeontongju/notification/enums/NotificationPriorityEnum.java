@@ -0,0 +1,20 @@
+package com.jeontongju.notification.enums;
+
+public enum NotificationPriorityEnum {
+  HIGH("주문 실패 등 바로 확인해야 하는 알림", 8),
+  NORMAL("일반 알림", 3),
+  LOW("셀러 대량 알림, 하트비트", 1);
+
+  private String value;
+  // 가중치 비율로 처리 순서를 나눔 (높을수록 자주 처리)
+  private int weight;
+
+  NotificationPriorityEnum(String value, int weight) {
+    this.value = value;
+    this.weight = weight;
+  }
+
+  public int getWeight() {
+    return weight;
+  }
+}
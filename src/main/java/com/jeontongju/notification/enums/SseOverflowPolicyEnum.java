@@ -0,0 +1,13 @@
+package com.jeontongju.notification.enums;
+
+public enum SseOverflowPolicyEnum {
+  DROP_OLDEST("가장 오래된 이벤트 삭제"),
+  COALESCE("쌓인 이벤트를 connect 이벤트 하나로 병합 (클라이언트가 목록 재조회)"),
+  CLOSE("연결 종료");
+
+  private String value;
+
+  SseOverflowPolicyEnum(String value) {
+    this.value = value;
+  }
+}
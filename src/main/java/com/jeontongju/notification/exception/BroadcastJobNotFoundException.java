@@ -0,0 +1,12 @@
+package com.jeontongju.notification.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.NOT_FOUND)
+public class BroadcastJobNotFoundException extends RuntimeException {
+
+  public BroadcastJobNotFoundException(String msg) {
+    super(msg);
+  }
+}
@@ -0,0 +1,12 @@
+package com.jeontongju.notification.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.FORBIDDEN)
+public class ForbiddenMemberRoleException extends RuntimeException {
+
+  public ForbiddenMemberRoleException(String msg) {
+    super(msg);
+  }
+}
@@ -0,0 +1,12 @@
+package com.jeontongju.notification.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidDltTopicException extends RuntimeException {
+
+  public InvalidDltTopicException(String msg) {
+    super(msg);
+  }
+}
@@ -0,0 +1,8 @@
+package com.jeontongju.notification.exception;
+
+public class MemberNotFoundException extends RuntimeException {
+
+  public MemberNotFoundException(String msg) {
+    super(msg);
+  }
+}
@@ -1,23 +1,130 @@
 package com.jeontongju.notification.feign;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.LoadingCache;
 import com.jeontongju.notification.dto.temp.MemberEmailForKeyDto;
-import lombok.RequiredArgsConstructor;
+import com.jeontongju.notification.exception.MemberNotFoundException;
+import com.jeontongju.notification.utils.CustomErrMessage;
+import feign.FeignException;
+import io.github.bitbox.bitbox.enums.MemberRoleEnum;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+@Slf4j
 @Service
 @Transactional(readOnly = true)
-@RequiredArgsConstructor
 public class AuthenticationClientService {
 
   private final AuthenticationServiceClient authenticationServiceClient;
+  // 회원 식별자 -> 이메일 (존재하지 않는 회원은 Optional.empty 로 짧게 캐싱)
+  private final LoadingCache<Long, Optional<MemberEmailForKeyDto>> memberEmailCache;
 
+  public AuthenticationClientService(
+      AuthenticationServiceClient authenticationServiceClient,
+      MeterRegistry meterRegistry,
+      @Value("${notification.cache.member-email.max-size:100000}") long maxSize,
+      @Value("${notification.cache.member-email.ttl-millis:3600000}") long ttlMillis,
+      @Value("${notification.cache.member-email.refresh-millis:1800000}") long refreshMillis,
+      @Value("${notification.cache.member-email.negative-ttl-millis:60000}")
+          long negativeTtlMillis) {
+
+    this.authenticationServiceClient = authenticationServiceClient;
+    this.memberEmailCache =
+        Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfter(new MemberEmailExpiry(ttlMillis, negativeTtlMillis))
+            // 만료 전 백그라운드 갱신 (갱신 실패 시 기존 값 유지)
+            .refreshAfterWrite(refreshMillis, TimeUnit.MILLISECONDS)
+            .recordStats()
+            .build(this::loadMemberEmailForKey);
+    CaffeineCacheMetrics.monitor(meterRegistry, memberEmailCache, "member-email");
+  }
+
+  /**
+   * 회원 이메일 조회 (캐시 우선)
+   *
+   * @param memberId 회원 식별자
+   * @return {MemberEmailForKeyDto} 회원 이메일
+   * @throws MemberNotFoundException 존재하지 않는 회원 (짧게 캐싱된 경우 포함)
+   */
   public MemberEmailForKeyDto getMemberEmailForKey(Long memberId) {
-    return authenticationServiceClient.getMemberEmailForKey(memberId).getData();
+
+    return memberEmailCache
+        .get(memberId)
+        .orElseThrow(() -> new MemberNotFoundException(CustomErrMessage.NOT_FOUND_MEMBER));
   }
 
   public String getConsumerEmail(Long memberId) {
 
-    return authenticationServiceClient.getMemberEmailForKey(memberId).getData().getEmail();
+    return getMemberEmailForKey(memberId).getEmail();
+  }
+
+  /**
+   * 역할별 회원 식별자 목록 조회 (식별자 오름차순, 커서 이후부터)
+   *
+   * @param memberRole 회원 역할
+   * @param cursor 이전 페이지의 마지막 회원 식별자 (첫 페이지는 null)
+   * @param size 페이지 크기
+   * @return {List<Long>} 회원 식별자 목록
+   */
+  public List<Long> getMemberIdsByRole(MemberRoleEnum memberRole, Long cursor, int size) {
+
+    List<Long> memberIds =
+        authenticationServiceClient.getMemberIdsByRole(memberRole, cursor, size).getData();
+    return memberIds == null ? List.of() : memberIds;
+  }
+
+  private Optional<MemberEmailForKeyDto> loadMemberEmailForKey(Long memberId) {
+
+    try {
+      return Optional.ofNullable(
+          authenticationServiceClient.getMemberEmailForKey(memberId).getData());
+    } catch (FeignException.NotFound e) {
+      log.info("[Not found member email]: " + memberId);
+      return Optional.empty();
+    }
+  }
+
+  private static class MemberEmailExpiry implements Expiry<Long, Optional<MemberEmailForKeyDto>> {
+
+    private final long ttlNanos;
+    private final long negativeTtlNanos;
+
+    private MemberEmailExpiry(long ttlMillis, long negativeTtlMillis) {
+      this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+      this.negativeTtlNanos = TimeUnit.MILLISECONDS.toNanos(negativeTtlMillis);
+    }
+
+    @Override
+    public long expireAfterCreate(
+        Long memberId, Optional<MemberEmailForKeyDto> memberEmail, long currentTime) {
+      return memberEmail.isPresent() ? ttlNanos : negativeTtlNanos;
+    }
+
+    @Override
+    public long expireAfterUpdate(
+        Long memberId,
+        Optional<MemberEmailForKeyDto> memberEmail,
+        long currentTime,
+        long currentDuration) {
+      return expireAfterCreate(memberId, memberEmail, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(
+        Long memberId,
+        Optional<MemberEmailForKeyDto> memberEmail,
+        long currentTime,
+        long currentDuration) {
+      return currentDuration;
+    }
   }
 }
@@ -2,12 +2,22 @@ package com.jeontongju.notification.feign;
 
 import com.jeontongju.notification.dto.temp.MemberEmailForKeyDto;
 import io.github.bitbox.bitbox.dto.FeignFormat;
+import io.github.bitbox.bitbox.enums.MemberRoleEnum;
+import java.util.List;
 import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 
 @FeignClient(name = "authentication-service")
 public interface AuthenticationServiceClient {
 
   @PostMapping("/members/email")
   FeignFormat<MemberEmailForKeyDto> getMemberEmailForKey(Long memberId);
+
+  @GetMapping("/members/ids")
+  FeignFormat<List<Long>> getMemberIdsByRole(
+      @RequestParam MemberRoleEnum memberRole,
+      @RequestParam(required = false) Long cursor,
+      @RequestParam int size);
 }
@@ -1,19 +1,278 @@
 package com.jeontongju.notification.feign;
 
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.LoadingCache;
 import com.jeontongju.notification.dto.FCMTokenDto;
-import lombok.RequiredArgsConstructor;
+import com.jeontongju.notification.dto.temp.ConsumerFCMTokenDto;
+import com.jeontongju.notification.repository.FCMTokenRepository;
+import feign.FeignException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * consumer-service 조회 (FCM 토큰은 로컬 캐시 -> Redis(선택) -> consumer-service 순서로 조회)
+ *
+ * <p>여러 회원을 한 번에 조회하면 캐시에 없는 회원만 bulk-size 단위로 묶어서 요청한다. 묶음 요청이 실패하면 그 묶음만 bulk-retries 번
+ * 다시 요청하고, 그래도 실패한 회원은 캐시하지 않고 조회 실패로 돌려준다. FCM 전송이 UNREGISTERED, INVALID_ARGUMENT 로 실패한 토큰은
+ * 캐시에서 제거해 다음 전송 때 다시 조회한다.
+ */
+@Slf4j
 @Service
 @Transactional(readOnly = true)
-@RequiredArgsConstructor
 public class ConsumerClientService {
 
   private final ConsumerServiceClient consumerServiceClient;
+  private final FCMTokenRepository fcmTokenRepository;
+  private final boolean redisEnabled;
+  private final int bulkSize;
+  private final int bulkRetries;
+  // 회원 식별자 -> FCM 토큰 (토큰이 없는 회원은 Optional.empty 로 짧게 캐싱)
+  private final LoadingCache<Long, Optional<String>> fcmTokenCache;
+
+  public ConsumerClientService(
+      ConsumerServiceClient consumerServiceClient,
+      FCMTokenRepository fcmTokenRepository,
+      MeterRegistry meterRegistry,
+      @Value("${notification.cache.fcm-token.max-size:100000}") long maxSize,
+      @Value("${notification.cache.fcm-token.ttl-millis:86400000}") long ttlMillis,
+      @Value("${notification.cache.fcm-token.negative-ttl-millis:60000}") long negativeTtlMillis,
+      @Value("${notification.cache.fcm-token.bulk-size:500}") int bulkSize,
+      @Value("${notification.cache.fcm-token.redis-enabled:false}") boolean redisEnabled,
+      @Value("${notification.cache.fcm-token.bulk-retries:1}") int bulkRetries) {
+
+    this.consumerServiceClient = consumerServiceClient;
+    this.fcmTokenRepository = fcmTokenRepository;
+    this.redisEnabled = redisEnabled;
+    this.bulkSize = bulkSize;
+    this.bulkRetries = bulkRetries;
+    this.fcmTokenCache =
+        Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfter(new FCMTokenExpiry(ttlMillis, negativeTtlMillis))
+            .recordStats()
+            .build(
+                new CacheLoader<Long, Optional<String>>() {
+                  @Override
+                  public Optional<String> load(Long consumerId) {
+                    Optional<String> token = loadAllFCMTokens(List.of(consumerId)).get(consumerId);
+                    if (token == null) {
+                      throw new IllegalStateException("FCM 토큰 조회 실패: " + consumerId);
+                    }
+                    return token;
+                  }
+
+                  @Override
+                  public Map<Long, Optional<String>> loadAll(Iterable<? extends Long> consumerIds) {
+                    List<Long> missedIds = new ArrayList<>();
+                    consumerIds.forEach(missedIds::add);
+                    return loadAllFCMTokens(missedIds);
+                  }
+                });
+    CaffeineCacheMetrics.monitor(meterRegistry, fcmTokenCache, "fcm-token");
+  }
 
   public FCMTokenDto getConsumerFCMToken(Long consumerId) {
 
-    return consumerServiceClient.getConsumerFCMToken(consumerId).getData();
+    return new FCMTokenDto(fcmTokenCache.get(consumerId).orElse(null));
+  }
+
+  /**
+   * 여러 회원의 FCM 토큰 조회 (캐시에 없는 회원만 묶어서 요청)
+   *
+   * @param consumerIds 소비자 식별자 목록
+   * @param unresolvedIds 조회에 실패한 소비자 식별자를 담을 목록 (토큰이 없는 회원과 구분해 다시 시도할 때 사용)
+   * @return {Map<Long, String>} 토큰이 있는 회원만 포함
+   */
+  public Map<Long, String> getConsumerFCMTokens(
+      Collection<Long> consumerIds, Collection<Long> unresolvedIds) {
+
+    Map<Long, Optional<String>> loaded = fcmTokenCache.getAll(consumerIds);
+    Map<Long, String> tokens = new HashMap<>();
+    for (Long consumerId : consumerIds) {
+      Optional<String> token = loaded.get(consumerId);
+      if (token == null) {
+        unresolvedIds.add(consumerId);
+        continue;
+      }
+      token.ifPresent(value -> tokens.put(consumerId, value));
+    }
+    return tokens;
+  }
+
+  /**
+   * 더 이상 유효하지 않은 FCM 토큰 제거
+   *
+   * @param consumerId 소비자 식별자
+   */
+  public void evictConsumerFCMToken(Long consumerId) {
+
+    fcmTokenCache.invalidate(consumerId);
+    if (!redisEnabled) {
+      return;
+    }
+    try {
+      fcmTokenRepository.delete(consumerId);
+    } catch (DataAccessException e) {
+      log.error("[During fcm token cache]: Error while evicting token={}", e.getMessage());
+    }
+  }
+
+  private Map<Long, Optional<String>> loadAllFCMTokens(List<Long> consumerIds) {
+
+    Map<Long, String> tokens = new HashMap<>();
+    List<Long> missedIds = consumerIds;
+    if (redisEnabled) {
+      tokens.putAll(findAllInRedis(consumerIds));
+      missedIds = new ArrayList<>();
+      for (Long consumerId : consumerIds) {
+        if (!tokens.containsKey(consumerId)) {
+          missedIds.add(consumerId);
+        }
+      }
+    }
+
+    // 조회에 실패한 묶음의 회원은 결과에서 빼서 캐시하지 않음
+    Map<Long, String> fetchedTokens = new HashMap<>();
+    List<Long> failedIds = new ArrayList<>();
+    for (int from = 0; from < missedIds.size(); from += bulkSize) {
+      List<Long> chunk = missedIds.subList(from, Math.min(from + bulkSize, missedIds.size()));
+      try {
+        fetchedTokens.putAll(fetchFCMTokensWithRetry(chunk));
+      } catch (FeignException e) {
+        log.error("[During fcm token cache]: Error while fetching tokens={}", e.getMessage());
+        failedIds.addAll(chunk);
+      }
+    }
+    if (redisEnabled) {
+      saveAllInRedis(fetchedTokens);
+    }
+    tokens.putAll(fetchedTokens);
+
+    Map<Long, Optional<String>> loaded = new HashMap<>();
+    for (Long consumerId : consumerIds) {
+      loaded.put(consumerId, Optional.ofNullable(tokens.get(consumerId)));
+    }
+    failedIds.forEach(loaded::remove);
+    return loaded;
+  }
+
+  private Map<Long, String> fetchFCMTokensWithRetry(List<Long> consumerIds) {
+
+    for (int attempt = 0; ; attempt++) {
+      try {
+        return fetchFCMTokens(consumerIds);
+      } catch (FeignException e) {
+        if (attempt >= bulkRetries) {
+          throw e;
+        }
+        log.info("[During fcm token cache]: retry fetching tokens: " + e.getMessage());
+      }
+    }
+  }
+
+  private Map<Long, String> fetchFCMTokens(List<Long> consumerIds) {
+
+    Map<Long, String> tokens = new HashMap<>();
+    if (consumerIds.size() == 1) {
+      putIfPresent(tokens, consumerIds.get(0), fetchFCMToken(consumerIds.get(0)));
+      return tokens;
+    }
+
+    try {
+      List<ConsumerFCMTokenDto> fetched =
+          consumerServiceClient.getConsumerFCMTokens(consumerIds).getData();
+      if (fetched != null) {
+        for (ConsumerFCMTokenDto fetchedToken : fetched) {
+          putIfPresent(tokens, fetchedToken.getConsumerId(), fetchedToken.getFcmToken());
+        }
+      }
+    } catch (FeignException.NotFound | FeignException.MethodNotAllowed e) {
+      // 일괄 조회를 지원하지 않는 consumer-service 버전이면 한 건씩 조회
+      log.info("[During fcm token cache]: bulk lookup unavailable, fetching one by one");
+      for (Long consumerId : consumerIds) {
+        putIfPresent(tokens, consumerId, fetchFCMToken(consumerId));
+      }
+    }
+    return tokens;
+  }
+
+  private String fetchFCMToken(Long consumerId) {
+
+    try {
+      FCMTokenDto fcmTokenDto = consumerServiceClient.getConsumerFCMToken(consumerId).getData();
+      return fcmTokenDto == null ? null : fcmTokenDto.getFcmToken();
+    } catch (FeignException.NotFound e) {
+      log.info("[Not found consumer fcm token]: " + consumerId);
+      return null;
+    }
+  }
+
+  private void putIfPresent(Map<Long, String> tokens, Long consumerId, String token) {
+
+    if (consumerId != null && token != null) {
+      tokens.put(consumerId, token);
+    }
+  }
+
+  // Redis 장애 시에는 consumer-service 에서 조회
+  private Map<Long, String> findAllInRedis(List<Long> consumerIds) {
+
+    try {
+      return fcmTokenRepository.findAllByMemberIds(consumerIds);
+    } catch (DataAccessException e) {
+      log.error("[During fcm token cache]: Error while reading tokens={}", e.getMessage());
+      return Map.of();
+    }
+  }
+
+  private void saveAllInRedis(Map<Long, String> tokens) {
+
+    try {
+      fcmTokenRepository.saveAll(tokens);
+    } catch (DataAccessException e) {
+      log.error("[During fcm token cache]: Error while saving tokens={}", e.getMessage());
+    }
+  }
+
+  private static class FCMTokenExpiry implements Expiry<Long, Optional<String>> {
+
+    private final long ttlNanos;
+    private final long negativeTtlNanos;
+
+    private FCMTokenExpiry(long ttlMillis, long negativeTtlMillis) {
+      this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+      this.negativeTtlNanos = TimeUnit.MILLISECONDS.toNanos(negativeTtlMillis);
+    }
+
+    @Override
+    public long expireAfterCreate(Long consumerId, Optional<String> token, long currentTime) {
+      return token.isPresent() ? ttlNanos : negativeTtlNanos;
+    }
+
+    @Override
+    public long expireAfterUpdate(
+        Long consumerId, Optional<String> token, long currentTime, long currentDuration) {
+      return expireAfterCreate(consumerId, token, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(
+        Long consumerId, Optional<String> token, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
   }
 }
@@ -1,14 +1,21 @@
 package com.jeontongju.notification.feign;
 
 import com.jeontongju.notification.dto.FCMTokenDto;
+import com.jeontongju.notification.dto.temp.ConsumerFCMTokenDto;
 import io.github.bitbox.bitbox.dto.FeignFormat;
+import java.util.List;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 
 @FeignClient(name = "consumer-service")
 public interface ConsumerServiceClient {
 
   @GetMapping("/consumers/{consumerId}/fcm-token")
   FeignFormat<FCMTokenDto> getConsumerFCMToken(@PathVariable Long consumerId);
+
+  @PostMapping("/consumers/fcm-tokens")
+  FeignFormat<List<ConsumerFCMTokenDto>> getConsumerFCMTokens(@RequestBody List<Long> consumerIds);
 }
@@ -0,0 +1,158 @@
+package com.jeontongju.notification.kafka;
+
+import com.jeontongju.notification.enums.ConsumedRecordStateEnum;
+import com.jeontongju.notification.repository.ConsumedRecordRepository;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Kafka 레코드 중복 소비 방지 (토픽_파티션_오프셋 키를 Redis 에 선점)
+ *
+ * <p>리밸런스나 재전달로 같은 레코드가 다시 오면 DB 작업 전에 걸러낸다. 선점은 짧은 처리 중 표시로 하고 DB 커밋이 끝난 뒤 {@link
+ * #complete(List)} 로 완료 표시를 남기므로, 커밋 전에 소비자가 죽어도 레코드가 버려지지 않는다. 다른 소비자가 처리 중인 레코드는 완료되거나 처리 중
+ * 표시가 만료될 때까지 기다린다.
+ */
+@Slf4j
+@Component
+public class KafkaDeduplicator {
+
+  private final ConsumedRecordRepository consumedRecordRepository;
+  private final long inProgressPollMillis;
+
+  public KafkaDeduplicator(
+      ConsumedRecordRepository consumedRecordRepository,
+      @Value("${notification.kafka.dedupe.in-progress-poll-millis:500}")
+          long inProgressPollMillis) {
+
+    this.consumedRecordRepository = consumedRecordRepository;
+    this.inProgressPollMillis = inProgressPollMillis;
+  }
+
+  public String makeRecordKey(String topic, int partition, long offset) {
+    return topic + "_" + partition + "_" + offset;
+  }
+
+  /**
+   * 단일 레코드 선점
+   *
+   * @param recordKey 레코드 키 (토픽_파티션_오프셋)
+   * @return {boolean} 처음 소비하는 레코드인지 여부
+   */
+  public boolean claim(String recordKey) {
+
+    boolean claimed = claimStates(List.of(recordKey)).get(0) == ConsumedRecordStateEnum.CLAIMED;
+    if (!claimed) {
+      log.info("[KafkaDeduplicator's claim executes]: 중복 레코드 무시: " + recordKey);
+    }
+    return claimed;
+  }
+
+  /**
+   * 배치 레코드 선점 후 처음 소비하는 레코드만 반환
+   *
+   * @param topics 레코드별 토픽
+   * @param partitions 레코드별 파티션
+   * @param offsets 레코드별 오프셋
+   * @param payloads 레코드별 내용
+   * @param claimedKeys 선점에 성공한 레코드 키를 담을 목록 (완료 표시, 실패 시 해제용)
+   * @return {List<T>} 처음 소비하는 레코드 내용
+   */
+  public <T> List<T> claimAll(
+      List<String> topics,
+      List<Integer> partitions,
+      List<Long> offsets,
+      List<T> payloads,
+      List<String> claimedKeys) {
+
+    List<String> recordKeys = new ArrayList<>(payloads.size());
+    for (int i = 0; i < payloads.size(); i++) {
+      recordKeys.add(makeRecordKey(topics.get(i), partitions.get(i), offsets.get(i)));
+    }
+
+    List<ConsumedRecordStateEnum> states = claimStates(recordKeys);
+    List<T> freshPayloads = new ArrayList<>(payloads.size());
+    for (int i = 0; i < payloads.size(); i++) {
+      if (states.get(i) == ConsumedRecordStateEnum.CLAIMED) {
+        claimedKeys.add(recordKeys.get(i));
+        freshPayloads.add(payloads.get(i));
+      }
+    }
+    if (freshPayloads.size() < payloads.size()) {
+      log.info(
+          "[KafkaDeduplicator's claimAll executes]: 중복 레코드 무시: "
+              + (payloads.size() - freshPayloads.size())
+              + "건");
+    }
+    return freshPayloads;
+  }
+
+  /**
+   * DB 커밋까지 끝난 레코드를 완료로 표시 (이후 재전달은 중복으로 무시)
+   *
+   * @param recordKeys 레코드 키 목록
+   */
+  public void complete(List<String> recordKeys) {
+
+    if (recordKeys.isEmpty()) {
+      return;
+    }
+    consumedRecordRepository.saveAllDone(recordKeys);
+  }
+
+  public void release(List<String> recordKeys) {
+
+    if (recordKeys.isEmpty()) {
+      return;
+    }
+    consumedRecordRepository.deleteAll(recordKeys);
+  }
+
+  // 다른 소비자가 처리 중인 키는 완료되거나 처리 중 표시가 만료될 때까지 다시 선점 시도
+  private List<ConsumedRecordStateEnum> claimStates(List<String> recordKeys) {
+
+    List<ConsumedRecordStateEnum> states =
+        new ArrayList<>(consumedRecordRepository.saveAllIfAbsent(recordKeys));
+    long deadline =
+        System.currentTimeMillis()
+            + consumedRecordRepository.getProcessingTtl().toMillis()
+            + inProgressPollMillis;
+
+    while (true) {
+      List<Integer> pendingIndexes = new ArrayList<>();
+      for (int i = 0; i < states.size(); i++) {
+        if (states.get(i) == ConsumedRecordStateEnum.IN_PROGRESS) {
+          pendingIndexes.add(i);
+        }
+      }
+      if (pendingIndexes.isEmpty()) {
+        return states;
+      }
+      if (System.currentTimeMillis() > deadline) {
+        throw new IllegalStateException("처리 중 표시가 만료되지 않은 레코드: " + pendingIndexes.size() + "건");
+      }
+
+      log.info(
+          "[KafkaDeduplicator's claimStates executes]: 다른 소비자가 처리 중인 레코드 대기: "
+              + pendingIndexes.size()
+              + "건");
+      try {
+        Thread.sleep(inProgressPollMillis);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException(e);
+      }
+
+      List<String> pendingKeys = new ArrayList<>(pendingIndexes.size());
+      for (int index : pendingIndexes) {
+        pendingKeys.add(recordKeys.get(index));
+      }
+      List<ConsumedRecordStateEnum> retried = consumedRecordRepository.saveAllIfAbsent(pendingKeys);
+      for (int i = 0; i < pendingIndexes.size(); i++) {
+        states.set(pendingIndexes.get(i), retried.get(i));
+      }
+    }
+  }
+}
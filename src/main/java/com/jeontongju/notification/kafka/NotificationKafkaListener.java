@@ -1,56 +1,256 @@
 package com.jeontongju.notification.kafka;
 
+import com.jeontongju.notification.service.NotificationCoalescer;
+import com.jeontongju.notification.service.NotificationRateLimiter;
 import com.jeontongju.notification.service.NotificationService;
 import io.github.bitbox.bitbox.dto.MemberInfoForNotificationDto;
 import io.github.bitbox.bitbox.dto.ServerErrorForNotificationDto;
+import io.github.bitbox.bitbox.enums.NotificationTypeEnum;
 import io.github.bitbox.bitbox.util.KafkaTopicNameInfo;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
+import org.springframework.util.concurrent.ListenableFuture;
 
+/**
+ * 알림 Kafka 리스너
+ *
+ * <p>단건 리스너의 실패는 예외로 올려 재시도 토픽(지수 백오프 단계)과 DLT 로 넘긴다(KafkaConfig 참고). 배치 리스너가 실패하면 해당 poll 의
+ * 레코드를 단건 토픽으로 넘겨서 각각 재시도하므로, 문제 있는 레코드 하나가 파티션 전체를 막지 않는다.
+ *
+ * <p>회원별 순서는 한 poll 안에서만 지킨다. 실패한 레인의 레코드는 수신 회원 식별자를 키로 단건 토픽에 순서대로 넘기지만, 재시도를 기다리는 동안
+ * 메인 토픽에 들어온 같은 회원의 다음 레코드는 먼저 저장될 수 있다(재시도 토픽은 파티션을 막지 않는 대신 순서를 보장하지 않음).
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class NotificationKafkaListener {
 
+  // 배치 처리에 실패한 알림 레코드를 한 건씩 다시 처리하는 토픽
+  public static final String SEND_NOTIFICATION_UNBATCHED =
+      KafkaTopicNameInfo.SEND_NOTIFICATION + "-unbatched";
+
   private final NotificationService notificationService;
+  private final KafkaDeduplicator kafkaDeduplicator;
+  private final RecipientLaneExecutor recipientLaneExecutor;
+  private final NotificationCoalescer notificationCoalescer;
+  private final NotificationRateLimiter notificationRateLimiter;
+  private final KafkaTemplate<String, Object> kafkaTemplate;
+  private final MeterRegistry meterRegistry;
+
+  @KafkaListener(
+      topics = KafkaTopicNameInfo.SEND_NOTIFICATION,
+      containerFactory = "batchKafkaListenerContainerFactory",
+      properties = {
+        "max.poll.records=${notification.kafka.batch.max-size:500}",
+        "fetch.min.bytes=${notification.kafka.batch.fetch-min-bytes:16384}",
+        "fetch.max.wait.ms=${notification.kafka.batch.poll-window-millis:200}"
+      })
+  public void sendNotification(
+      @Payload List<MemberInfoForNotificationDto> notificationDtos,
+      @Header(KafkaHeaders.RECEIVED_TOPIC) List<String> topics,
+      @Header(KafkaHeaders.RECEIVED_PARTITION_ID) List<Integer> partitions,
+      @Header(KafkaHeaders.OFFSET) List<Long> offsets)
+      throws ExecutionException, InterruptedException {
 
-  @KafkaListener(topics = KafkaTopicNameInfo.SEND_NOTIFICATION)
-  public void sendNotification(MemberInfoForNotificationDto notificationDto)
-      throws InterruptedException {
+    // 이미 처리한 레코드는 DB 작업 전에 제외
+    List<String> claimedKeys = new ArrayList<>();
+    List<MemberInfoForNotificationDto> freshDtos =
+        kafkaDeduplicator.claimAll(topics, partitions, offsets, notificationDtos, claimedKeys);
+    if (freshDtos.isEmpty()) {
+      return;
+    }
 
+    // 몰리는 알림 유형과 전송 한도를 넘은 알림은 묶음 알림으로 넘기고 나머지만 바로 처리
+    List<MemberInfoForNotificationDto> passedDtos = new ArrayList<>(freshDtos.size());
+    List<String> passedKeys = new ArrayList<>(freshDtos.size());
+    List<Integer> failedIndexes;
     try {
-      notificationService.send(
-          notificationDto.getRecipientId(),
-          notificationDto.getRecipientType(),
-          notificationDto.getNotificationType());
-    } catch (Exception e) {
-      log.error("During Send Event: Error while do notification={}", e.getMessage());
+      List<Integer> offeredIndexes = new ArrayList<>(freshDtos.size());
+      List<Long> offeredRecipientIds = new ArrayList<>(freshDtos.size());
+      List<NotificationTypeEnum> offeredTypes = new ArrayList<>(freshDtos.size());
+      for (int i = 0; i < freshDtos.size(); i++) {
+        MemberInfoForNotificationDto freshDto = freshDtos.get(i);
+        if (notificationCoalescer.offer(freshDto)) {
+          offeredIndexes.add(i);
+          offeredRecipientIds.add(freshDto.getRecipientId());
+          offeredTypes.add(freshDto.getNotificationType());
+        }
+      }
+
+      // poll 한 번의 전송 한도를 한 번에 확인
+      List<Boolean> allowed =
+          notificationRateLimiter.tryAcquireAll(
+              NotificationRateLimiter.SSE_CHANNEL, offeredRecipientIds, offeredTypes);
+      for (int i = 0; i < offeredIndexes.size(); i++) {
+        MemberInfoForNotificationDto freshDto = freshDtos.get(offeredIndexes.get(i));
+        if (!allowed.get(i)) {
+          notificationCoalescer.defer(freshDto);
+          continue;
+        }
+        passedDtos.add(freshDto);
+        passedKeys.add(claimedKeys.get(offeredIndexes.get(i)));
+      }
+
+      // 회원별 순서는 지키면서 레인마다 따로 저장, 실패한 레인의 레코드만 단건 토픽으로 넘김
+      failedIndexes =
+          recipientLaneExecutor.executeAll(
+              passedDtos,
+              MemberInfoForNotificationDto::getRecipientId,
+              notificationService::sendAll);
+    } catch (InterruptedException | RuntimeException e) {
+      kafkaDeduplicator.release(claimedKeys);
+      throw e;
+    }
+
+    List<MemberInfoForNotificationDto> failedDtos = new ArrayList<>(failedIndexes.size());
+    List<String> failedKeys = new ArrayList<>(failedIndexes.size());
+    for (int index : failedIndexes) {
+      failedDtos.add(passedDtos.get(index));
+      failedKeys.add(passedKeys.get(index));
+    }
+
+    // 커밋이 끝난 레코드만 완료로 표시 (실패한 레코드는 단건 토픽 발행이 끝난 뒤 표시)
+    Set<String> failedKeySet = new HashSet<>(failedKeys);
+    List<String> doneKeys = new ArrayList<>(claimedKeys.size());
+    for (String claimedKey : claimedKeys) {
+      if (!failedKeySet.contains(claimedKey)) {
+        doneKeys.add(claimedKey);
+      }
+    }
+    kafkaDeduplicator.complete(doneKeys);
+    if (failedIndexes.isEmpty()) {
+      return;
     }
+
+    countFailure(topics.get(0));
+    handOffUnbatched(failedDtos, failedKeys);
+  }
+
+  @KafkaListener(topics = SEND_NOTIFICATION_UNBATCHED)
+  public void sendUnbatchedNotification(
+      @Payload MemberInfoForNotificationDto notificationDto,
+      @Header(KafkaHeaders.RECEIVED_TOPIC) String topic,
+      @Header(KafkaHeaders.RECEIVED_PARTITION_ID) int partition,
+      @Header(KafkaHeaders.OFFSET) long offset) {
+
+    consumeOnce(
+        topic, partition, offset, () -> notificationService.sendAll(List.of(notificationDto)));
   }
 
   @KafkaListener(topics = KafkaTopicNameInfo.SEND_ERROR_NOTIFICATION)
-  public void sendServerErrorNotification(ServerErrorForNotificationDto serverErrorDto)
-      throws InterruptedException {
+  public void sendServerErrorNotification(
+      @Payload ServerErrorForNotificationDto serverErrorDto,
+      @Header(KafkaHeaders.RECEIVED_TOPIC) String topic,
+      @Header(KafkaHeaders.RECEIVED_PARTITION_ID) int partition,
+      @Header(KafkaHeaders.OFFSET) long offset) {
 
-    try {
-      notificationService.sendError(serverErrorDto);
-    } catch (Exception e) {
-      log.error("During Send Event: Error while do server-error-notification={}", e.getMessage());
-    }
+    consumeOnce(
+        topic,
+        partition,
+        offset,
+        () -> {
+          try {
+            notificationService.sendError(serverErrorDto);
+          } catch (Exception e) {
+            throw new IllegalStateException(e);
+          }
+        });
   }
 
   @KafkaListener(topics = KafkaTopicNameInfo.SEND_ERROR_CANCELING_ORDER_NOTIFICATION)
   public void sendServerErrorCancelingOrderNotification(
-      MemberInfoForNotificationDto memberInfoDto) {
+      @Payload MemberInfoForNotificationDto memberInfoDto,
+      @Header(KafkaHeaders.RECEIVED_TOPIC) String topic,
+      @Header(KafkaHeaders.RECEIVED_PARTITION_ID) int partition,
+      @Header(KafkaHeaders.OFFSET) long offset) {
+
+    consumeOnce(
+        topic,
+        partition,
+        offset,
+        () -> notificationService.sendCancelingServerError(memberInfoDto));
+  }
+
+  /**
+   * 모든 재시도에 실패한 레코드 처리 (DLT 리플레이 API 로 다시 넣을 수 있음)
+   *
+   * @param payload 레코드 내용
+   * @param topic DLT 토픽
+   */
+  public void handleDlt(
+      @Payload Object payload, @Header(KafkaHeaders.RECEIVED_TOPIC) String topic) {
+
+    meterRegistry.counter("notification.kafka.dlt", "topic", topic).increment();
+    log.error("During Send Event: Error moved to dead letter topic={}, payload={}", topic, payload);
+  }
+
+  /**
+   * 중복 레코드는 건너뛰고 처리, 커밋이 끝나면 완료로 표시하고 실패 시 선점을 해제하고 예외를 올려 재시도 토픽으로 넘김
+   *
+   * @param topic 레코드 토픽 (메인 또는 재시도 단계 토픽)
+   * @param partition 레코드 파티션
+   * @param offset 레코드 오프셋
+   * @param handler 실제 처리
+   */
+  private void consumeOnce(String topic, int partition, long offset, Runnable handler) {
+
+    String recordKey = kafkaDeduplicator.makeRecordKey(topic, partition, offset);
+    if (!kafkaDeduplicator.claim(recordKey)) {
+      return;
+    }
 
     try {
-      notificationService.sendCancelingServerError(memberInfoDto);
-    } catch (Exception e) {
+      handler.run();
+    } catch (RuntimeException e) {
+      kafkaDeduplicator.release(List.of(recordKey));
+      countFailure(topic);
       log.error(
-          "During Send Event: Error while recovering Order By Order Cancel Fail={}",
-          e.getMessage());
+          "During Send Event: Error while consuming topic={}, error={}", topic, e.getMessage());
+      throw e;
     }
+    kafkaDeduplicator.complete(List.of(recordKey));
+  }
+
+  // 단건 토픽 발행이 모두 끝난 뒤 반환해야 오프셋이 커밋됨 (발행 실패 시 선점을 해제하고 배치를 다시 받음)
+  private void handOffUnbatched(
+      List<MemberInfoForNotificationDto> notificationDtos, List<String> claimedKeys)
+      throws ExecutionException, InterruptedException {
+
+    List<ListenableFuture<SendResult<String, Object>>> futures =
+        new ArrayList<>(notificationDtos.size());
+    try {
+      for (MemberInfoForNotificationDto notificationDto : notificationDtos) {
+        futures.add(
+            kafkaTemplate.send(
+                SEND_NOTIFICATION_UNBATCHED,
+                String.valueOf(notificationDto.getRecipientId()),
+                notificationDto));
+      }
+      for (ListenableFuture<SendResult<String, Object>> future : futures) {
+        future.get();
+      }
+    } catch (ExecutionException | InterruptedException | RuntimeException e) {
+      kafkaDeduplicator.release(claimedKeys);
+      throw e;
+    }
+    kafkaDeduplicator.complete(claimedKeys);
+  }
+
+  // 토픽 이름에 재시도 단계가 붙어 있으므로 단계별로 집계됨
+  private void countFailure(String topic) {
+    meterRegistry.counter("notification.kafka.consume.failure", "topic", topic).increment();
   }
 }
@@ -0,0 +1,89 @@
+package com.jeontongju.notification.kafka;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 배치 레코드를 수신 회원 식별자 해시로 레인에 나눠서 동시에 처리
+ *
+ * <p>같은 회원의 레코드는 항상 같은 레인에서 순서대로 처리되고, 모든 레인이 끝나야 반환하므로 리스너가 반환한 뒤에 오프셋이 커밋된다. 한 파티션에 몰린
+ * 레코드도 여러 코어에서 처리할 수 있다.
+ */
+@Slf4j
+@Component
+public class RecipientLaneExecutor {
+
+  private final int laneCount;
+  private final ExecutorService lanePool;
+
+  public RecipientLaneExecutor(@Value("${notification.kafka.lanes:0}") int laneCount) {
+
+    // 0 이하면 코어 수만큼 사용
+    this.laneCount = laneCount > 0 ? laneCount : Runtime.getRuntime().availableProcessors();
+    this.lanePool = Executors.newFixedThreadPool(this.laneCount);
+  }
+
+  @PreDestroy
+  public void stop() {
+    lanePool.shutdown();
+  }
+
+  /**
+   * 레인별로 나눠서 처리하고 모든 레인이 끝날 때까지 대기
+   *
+   * @param records 처리할 레코드 (poll 순서)
+   * @param recipientIdOf 레코드의 수신 회원 식별자
+   * @param handler 레인 하나의 레코드 목록을 처리하는 작업 (레인마다 한 번 호출)
+   * @return {List<Integer>} 처리에 실패한 레인에 속한 레코드의 인덱스 (오름차순)
+   * @throws InterruptedException 대기 중 인터럽트
+   */
+  public <T> List<Integer> executeAll(
+      List<T> records, Function<T, Long> recipientIdOf, Consumer<List<T>> handler)
+      throws InterruptedException {
+
+    List<List<Integer>> laneIndexes = new ArrayList<>(laneCount);
+    for (int lane = 0; lane < laneCount; lane++) {
+      laneIndexes.add(new ArrayList<>());
+    }
+    for (int i = 0; i < records.size(); i++) {
+      int lane = Math.floorMod(recipientIdOf.apply(records.get(i)).hashCode(), laneCount);
+      laneIndexes.get(lane).add(i);
+    }
+
+    List<List<Integer>> submittedIndexes = new ArrayList<>(laneCount);
+    List<Future<?>> futures = new ArrayList<>(laneCount);
+    for (List<Integer> indexes : laneIndexes) {
+      if (indexes.isEmpty()) {
+        continue;
+      }
+      List<T> laneRecords = new ArrayList<>(indexes.size());
+      for (int index : indexes) {
+        laneRecords.add(records.get(index));
+      }
+      submittedIndexes.add(indexes);
+      futures.add(lanePool.submit(() -> handler.accept(laneRecords)));
+    }
+
+    List<Integer> failedIndexes = new ArrayList<>();
+    for (int i = 0; i < futures.size(); i++) {
+      try {
+        futures.get(i).get();
+      } catch (ExecutionException e) {
+        log.error("During Send Event: Error while processing lane={}", e.getCause().getMessage());
+        failedIndexes.addAll(submittedIndexes.get(i));
+      }
+    }
+    failedIndexes.sort(null);
+    return failedIndexes;
+  }
+}
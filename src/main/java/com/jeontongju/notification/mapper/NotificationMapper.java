@@ -5,35 +5,39 @@ import com.jeontongju.notification.dto.response.NotificationInfoForInquiryRespon
 import com.jeontongju.notification.dto.response.NotificationInfoForSingleInquiryDto;
 import com.jeontongju.notification.dto.response.NotificationInfoResponseDto;
 import com.jeontongju.notification.dto.response.UrlForRedirectResponseDto;
+import com.jeontongju.notification.utils.RedirectLinkRegistry;
 import io.github.bitbox.bitbox.enums.NotificationTypeEnum;
 import io.github.bitbox.bitbox.enums.RecipientTypeEnum;
-import java.util.ArrayList;
 import java.util.List;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 @Component
+@RequiredArgsConstructor
 public class NotificationMapper {
 
+  private final RedirectLinkRegistry redirectLinkRegistry;
+
   public Notification toEntity(
       Long recipientId,
       RecipientTypeEnum recipientTypeEnum,
       NotificationTypeEnum notificationTypeEnum) {
 
-    String redirectLink;
-    if (notificationTypeEnum == NotificationTypeEnum.OUT_OF_STOCK) {
-      redirectLink = "https://seller.jeontongju.shop/product/list";
-    } else if (notificationTypeEnum == NotificationTypeEnum.BALANCE_ACCOUNTS) {
-      redirectLink = "https://seller.jeontongju.shop/cash/up";
-    } else if (notificationTypeEnum == NotificationTypeEnum.SUCCESS_SUBSCRIPTION_PAYMENTS) {
-      redirectLink = "https://jeontongju.shop/membership/list";
-    } else {
-      redirectLink = "https://jeontongju.shop/orderdetail";
-    }
+    return toEntity(recipientId, recipientTypeEnum, notificationTypeEnum, 1);
+  }
+
+  public Notification toEntity(
+      Long recipientId,
+      RecipientTypeEnum recipientTypeEnum,
+      NotificationTypeEnum notificationTypeEnum,
+      int aggregatedCount) {
+
     return Notification.builder()
         .recipientId(recipientId)
         .recipientTypeEnum(recipientTypeEnum)
         .notificationTypeEnum(notificationTypeEnum)
-        .redirectLink(redirectLink)
+        .aggregatedCount(aggregatedCount)
+        .redirectKey(redirectLinkRegistry.getTemplateKey(notificationTypeEnum))
         .build();
   }
 
@@ -41,62 +45,63 @@ public class NotificationMapper {
       Long recipientId,
       RecipientTypeEnum recipientTypeEnum,
       NotificationTypeEnum notificationType,
-      String redirectLink) {
+      String redirectKey) {
+    return toIncludedRedirectLinkEntity(
+        recipientId, recipientTypeEnum, notificationType, redirectKey, null);
+  }
+
+  public Notification toIncludedRedirectLinkEntity(
+      Long recipientId,
+      RecipientTypeEnum recipientTypeEnum,
+      NotificationTypeEnum notificationType,
+      String redirectKey,
+      String redirectParams) {
 
     return Notification.builder()
         .recipientId(recipientId)
         .recipientTypeEnum(recipientTypeEnum)
         .notificationTypeEnum(notificationType)
-        .redirectLink(redirectLink)
+        .redirectKey(redirectKey)
+        .redirectParams(redirectParams)
         .build();
   }
 
-  public List<NotificationInfoForSingleInquiryDto> toListLookupDto(
-      List<Notification> notifications) {
-
-    List<NotificationInfoForSingleInquiryDto> inquiryResponseDtos = new ArrayList<>();
-    for (Notification notification : notifications) {
+  /**
+   * 저장된 템플릿 키 + 파라미터로 이동 링크 생성 (이전 버전 알림은 저장된 링크 그대로)
+   *
+   * @param notification 알림 객체
+   * @return {String} 이동 링크
+   */
+  public String toRedirectUrl(Notification notification) {
 
-      NotificationInfoForSingleInquiryDto build =
-          NotificationInfoForSingleInquiryDto.builder()
-              .notificationId(notification.getNotificationId())
-              .notificationType(notification.getNotificationTypeEnum())
-              .isRead(notification.getIsRead())
-              .createdAt(notification.getCreatedAt())
-              .build();
-      inquiryResponseDtos.add(build);
+    if (notification.getRedirectKey() == null) {
+      return notification.getRedirectLink();
     }
-    return inquiryResponseDtos;
+    return redirectLinkRegistry.render(
+        notification.getRedirectKey(), notification.getRedirectParams());
   }
 
   public NotificationInfoForInquiryResponseDto toInquiryDto(
-      int notReadCounts, List<NotificationInfoForSingleInquiryDto> notifications) {
+      int notReadCounts, List<NotificationInfoForSingleInquiryDto> notifications, Long nextCursor) {
 
     return NotificationInfoForInquiryResponseDto.builder()
         .notReadcounts(notReadCounts)
         .notifications(notifications)
+        .nextCursor(nextCursor)
         .build();
   }
 
-  public NotificationInfoResponseDto toNotificationDto(Long notificationId, String redirectUrl, Object data) {
+  public NotificationInfoResponseDto toNotificationDto(
+      Long notificationId, String redirectUrl, Object data) {
 
-    if(data instanceof Notification && redirectUrl == null) {
-      Notification savedNotification = (Notification) data;
-
-      NotificationTypeEnum notificationTypeEnum = savedNotification.getNotificationTypeEnum();
-      if (notificationTypeEnum == NotificationTypeEnum.OUT_OF_STOCK) { // 재고 소진
-        redirectUrl = "https://seller.jeontongju.shop/product/list";
-      } else if (notificationTypeEnum == NotificationTypeEnum.BALANCE_ACCOUNTS) { // 정산
-        redirectUrl = "https://seller.jeontongju.shop/cash/up";
-      } else if (notificationTypeEnum == NotificationTypeEnum.SUCCESS_SUBSCRIPTION_PAYMENTS) { // 구독 결제
-        redirectUrl = "https://jeontongju.shop/membership/list";
-      }
+    if (data instanceof Notification && redirectUrl == null) {
+      redirectUrl = toRedirectUrl((Notification) data);
     }
     return NotificationInfoResponseDto.builder()
-            .notificationId(notificationId)
-            .redirectUrl(redirectUrl)
-            .data(data)
-            .build();
+        .notificationId(notificationId)
+        .redirectUrl(redirectUrl)
+        .data(data)
+        .build();
   }
 
   public UrlForRedirectResponseDto toRedirectUrlDto(String redirectUrl) {
@@ -0,0 +1,37 @@
+package com.jeontongju.notification.redis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jeontongju.notification.dto.temp.NotificationEnvelopeDto;
+import com.jeontongju.notification.enums.NotificationPriorityEnum;
+import com.jeontongju.notification.service.NotificationDeliveryService;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationRedisListener implements MessageListener {
+
+  private final NotificationDeliveryService notificationDeliveryService;
+  private final ObjectMapper objectMapper;
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+
+    try {
+      NotificationEnvelopeDto envelope =
+          objectMapper.readValue(message.getBody(), NotificationEnvelopeDto.class);
+      // 이전 버전 노드가 보낸 메시지에는 우선순위가 없음
+      NotificationPriorityEnum priority =
+          envelope.getPriority() == null ? NotificationPriorityEnum.NORMAL : envelope.getPriority();
+      notificationDeliveryService.deliverLocally(
+          envelope.getMemberId(), envelope.getEventName(), envelope.getEvents(), priority);
+    } catch (IOException e) {
+      log.error("During Receive Event: Error while reading envelope={}", e.getMessage());
+    }
+  }
+}
@@ -0,0 +1,30 @@
+package com.jeontongju.notification.redis;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jeontongju.notification.dto.temp.NotificationEnvelopeDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationRedisPublisher {
+
+  public static final String NODE_CHANNEL_PREFIX = "SSE_NODE_";
+
+  private final RedisTemplate<String, String> redisTemplate;
+  private final ObjectMapper objectMapper;
+
+  public void publish(String nodeId, NotificationEnvelopeDto envelope) {
+
+    try {
+      redisTemplate.convertAndSend(
+          NODE_CHANNEL_PREFIX + nodeId, objectMapper.writeValueAsString(envelope));
+    } catch (JsonProcessingException e) {
+      log.error("During Publish Event: Error while serializing envelope={}", e.getMessage());
+    }
+  }
+}
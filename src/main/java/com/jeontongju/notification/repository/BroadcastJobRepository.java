@@ -0,0 +1,185 @@
+package com.jeontongju.notification.repository;
+
+import com.jeontongju.notification.dto.response.BroadcastJobInfoResponseDto;
+import com.jeontongju.notification.enums.BroadcastStatusEnum;
+import io.github.bitbox.bitbox.enums.NotificationTypeEnum;
+import io.github.bitbox.bitbox.enums.RecipientTypeEnum;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 전체 알림 전송 작업 진행 상황 (Redis Hash, 노드 간 공유)
+ *
+ * <p>작업마다 Hash 하나에 상태와 개수를 두므로 작업을 시작한 노드가 아니어도 진행 상황을 조회할 수 있다. job-retention-millis 가 지나면
+ * 삭제된다.
+ */
+@Repository
+public class BroadcastJobRepository {
+
+  private static final String BROADCAST_JOB_KEY_PREFIX = "BROADCAST_JOB_";
+
+  // 키가 있을 때만 개수 증가 (보관 기간이 지나 삭제된 작업은 다시 만들지 않음)
+  // ARGV : 처리 개수, 실패 개수, FCM 전송 큐 추가 개수, FCM 전송 큐 거부 개수
+  private static final RedisScript<Long> INCREASE_COUNTS_SCRIPT =
+      new DefaultRedisScript<>(
+          "if redis.call('exists', KEYS[1]) == 0 then return 0 end "
+              + "redis.call('hincrby', KEYS[1], 'processedCounts', ARGV[1]) "
+              + "redis.call('hincrby', KEYS[1], 'failedCounts', ARGV[2]) "
+              + "redis.call('hincrby', KEYS[1], 'fcmQueuedCounts', ARGV[3]) "
+              + "redis.call('hincrby', KEYS[1], 'fcmRejectedCounts', ARGV[4]) "
+              + "return 1",
+          Long.class);
+
+  // 키가 있을 때만 종료 표시, ARGV : 종료 상태, 종료 시각
+  private static final RedisScript<Long> FINISH_SCRIPT =
+      new DefaultRedisScript<>(
+          "if redis.call('exists', KEYS[1]) == 0 then return 0 end "
+              + "redis.call('hset', KEYS[1], 'status', ARGV[1], 'finishedAt', ARGV[2]) "
+              + "return 1",
+          Long.class);
+
+  private final RedisTemplate<String, String> redisTemplate;
+  private final long jobRetentionMillis;
+
+  public BroadcastJobRepository(
+      RedisTemplate<String, String> redisTemplate,
+      @Value("${notification.broadcast.job-retention-millis:86400000}") long jobRetentionMillis) {
+
+    this.redisTemplate = redisTemplate;
+    this.jobRetentionMillis = jobRetentionMillis;
+  }
+
+  /**
+   * 전송 작업 저장 (전송 중 상태, 개수 0)
+   *
+   * @param jobId 작업 식별자
+   * @param notificationType 알림 유형
+   * @param recipientType 수신자 유형 (없으면 null)
+   */
+  public void save(
+      String jobId, NotificationTypeEnum notificationType, RecipientTypeEnum recipientType) {
+
+    Map<String, String> fields = new HashMap<>();
+    fields.put("status", BroadcastStatusEnum.RUNNING.name());
+    fields.put("notificationType", notificationType == null ? "" : notificationType.name());
+    fields.put("recipientType", recipientType == null ? "" : recipientType.name());
+    fields.put("processedCounts", "0");
+    fields.put("failedCounts", "0");
+    fields.put("fcmQueuedCounts", "0");
+    fields.put("fcmRejectedCounts", "0");
+    fields.put("startedAt", String.valueOf(System.currentTimeMillis()));
+
+    String key = BROADCAST_JOB_KEY_PREFIX + jobId;
+    redisTemplate.opsForHash().putAll(key, fields);
+    redisTemplate.expire(key, Duration.ofMillis(jobRetentionMillis));
+  }
+
+  /**
+   * 묶음 하나의 처리 결과 반영 (스크립트 한 번)
+   *
+   * @param jobId 작업 식별자
+   * @param processedCounts 처리 개수
+   * @param failedCounts 실패 개수
+   * @param fcmQueuedCounts FCM 전송 큐 추가 개수
+   * @param fcmRejectedCounts FCM 전송 큐 거부 개수
+   */
+  public void increaseCounts(
+      String jobId,
+      long processedCounts,
+      long failedCounts,
+      long fcmQueuedCounts,
+      long fcmRejectedCounts) {
+
+    redisTemplate.execute(
+        INCREASE_COUNTS_SCRIPT,
+        List.of(BROADCAST_JOB_KEY_PREFIX + jobId),
+        String.valueOf(processedCounts),
+        String.valueOf(failedCounts),
+        String.valueOf(fcmQueuedCounts),
+        String.valueOf(fcmRejectedCounts));
+  }
+
+  /**
+   * 전송 작업 종료 표시
+   *
+   * @param jobId 작업 식별자
+   * @param status 종료 상태
+   */
+  public void finish(String jobId, BroadcastStatusEnum status) {
+
+    redisTemplate.execute(
+        FINISH_SCRIPT,
+        List.of(BROADCAST_JOB_KEY_PREFIX + jobId),
+        status.name(),
+        String.valueOf(System.currentTimeMillis()));
+  }
+
+  /**
+   * 전송 작업 진행 상황 조회
+   *
+   * @param jobId 작업 식별자
+   * @return {Optional<BroadcastJobInfoResponseDto>} 처리 개수 + 처리 속도 (없거나 보관 기간이 지나면 empty)
+   */
+  public Optional<BroadcastJobInfoResponseDto> findByJobId(String jobId) {
+
+    Map<Object, Object> fields =
+        redisTemplate.opsForHash().entries(BROADCAST_JOB_KEY_PREFIX + jobId);
+    if (fields.isEmpty()) {
+      return Optional.empty();
+    }
+
+    long startedAtMillis = Long.parseLong(String.valueOf(fields.get("startedAt")));
+    Object finishedAtField = fields.get("finishedAt");
+    Long finishedAtMillis =
+        finishedAtField == null ? null : Long.parseLong(String.valueOf(finishedAtField));
+    long endMillis = finishedAtMillis == null ? System.currentTimeMillis() : finishedAtMillis;
+    long elapsedMillis = Math.max(1L, endMillis - startedAtMillis);
+    long processedCounts = longField(fields, "processedCounts");
+
+    return Optional.of(
+        BroadcastJobInfoResponseDto.builder()
+            .jobId(jobId)
+            .status(BroadcastStatusEnum.valueOf(String.valueOf(fields.get("status"))))
+            .notificationType(enumField(NotificationTypeEnum.class, fields, "notificationType"))
+            .recipientType(enumField(RecipientTypeEnum.class, fields, "recipientType"))
+            .processedCounts(processedCounts)
+            .failedCounts(longField(fields, "failedCounts"))
+            .fcmQueuedCounts(longField(fields, "fcmQueuedCounts"))
+            .fcmRejectedCounts(longField(fields, "fcmRejectedCounts"))
+            .startedAt(toLocalDateTime(startedAtMillis))
+            .finishedAt(finishedAtMillis == null ? null : toLocalDateTime(finishedAtMillis))
+            .recipientsPerSecond(processedCounts * 1000.0 / elapsedMillis)
+            .build());
+  }
+
+  private long longField(Map<Object, Object> fields, String name) {
+
+    Object value = fields.get(name);
+    return value == null ? 0L : Long.parseLong(String.valueOf(value));
+  }
+
+  private <E extends Enum<E>> E enumField(
+      Class<E> enumType, Map<Object, Object> fields, String name) {
+
+    Object value = fields.get(name);
+    if (value == null || String.valueOf(value).isEmpty()) {
+      return null;
+    }
+    return Enum.valueOf(enumType, String.valueOf(value));
+  }
+
+  private LocalDateTime toLocalDateTime(long epochMillis) {
+    return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+  }
+}
@@ -0,0 +1,187 @@
+package com.jeontongju.notification.repository;
+
+import com.jeontongju.notification.dto.temp.AggregatedNotificationDto;
+import io.github.bitbox.bitbox.enums.NotificationTypeEnum;
+import io.github.bitbox.bitbox.enums.RecipientTypeEnum;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 알림 묶음 구간 (Redis, 노드 간 공유)
+ *
+ * <p>(회원, 알림 유형)별 구간을 Hash 로 두고 묶음 시간이 끝나는 시각을 Sorted Set 에 둔다. 저장할 때는 구간을 저장 중 키로 옮기고 선점 기간을
+ * 걸어두므로, 저장 도중 노드가 종료되거나 저장에 실패해도 선점 기간이 지나면 다른 노드가 다시 저장한다.
+ */
+@Repository
+public class CoalesceWindowRepository {
+
+  private static final String WINDOW_KEY_PREFIX = "COALESCE_WINDOW_";
+  private static final String FLUSHING_KEY_PREFIX = "COALESCE_FLUSHING_";
+  private static final String WINDOW_DUE_KEY = "COALESCE_WINDOW_DUE";
+  private static final String FLUSHING_DUE_KEY = "COALESCE_FLUSHING_DUE";
+
+  // 구간이 없으면 열고(1) 있으면 묶인 개수 증가(0), ARGV : 구간, 수신자 유형, 구간 종료 시각, 열 때 묶인 개수
+  private static final RedisScript<Long> OFFER_SCRIPT =
+      new DefaultRedisScript<>(
+          "if redis.call('exists', KEYS[1]) == 0 then "
+              + "redis.call('hset', KEYS[1], 'recipientType', ARGV[2], 'absorbed', ARGV[4]) "
+              + "redis.call('zadd', KEYS[2], ARGV[3], ARGV[1]) "
+              + "return 1 end "
+              + "redis.call('hincrby', KEYS[1], 'absorbed', 1) "
+              + "return 0",
+          Long.class);
+
+  // 선점 기간이 지난 저장 중 구간을 다시 선점하고, 묶음 시간이 끝난 구간을 저장 중으로 옮김
+  // (이미 저장 중인 같은 구간이 있으면 개수를 합침), ARGV : 현재 시각, 선점 종료 시각, 최대 개수, 키 접두사 2개
+  // 반환 : {구간, 수신자 유형, 묶인 개수} 반복
+  @SuppressWarnings("rawtypes")
+  private static final RedisScript<List> CLAIM_DUE_SCRIPT =
+      new DefaultRedisScript<>(
+          "local claimed = {} "
+              + "local stale = redis.call('zrangebyscore', KEYS[2], '-inf', ARGV[1], "
+              + "'limit', 0, ARGV[3]) "
+              + "for _, window in ipairs(stale) do "
+              + "redis.call('zadd', KEYS[2], ARGV[2], window) "
+              + "claimed[#claimed + 1] = window end "
+              + "local due = redis.call('zrangebyscore', KEYS[1], '-inf', ARGV[1], "
+              + "'limit', 0, ARGV[3]) "
+              + "for _, window in ipairs(due) do "
+              + "redis.call('zrem', KEYS[1], window) "
+              + "local windowKey = ARGV[4] .. window "
+              + "local flushingKey = ARGV[5] .. window "
+              + "local absorbed = tonumber(redis.call('hget', windowKey, 'absorbed') or '0') "
+              + "if absorbed == 0 then redis.call('del', windowKey) "
+              + "elseif redis.call('exists', flushingKey) == 1 then "
+              + "redis.call('hincrby', flushingKey, 'absorbed', absorbed) "
+              + "redis.call('del', windowKey) "
+              + "else redis.call('rename', windowKey, flushingKey) "
+              + "redis.call('zadd', KEYS[2], ARGV[2], window) "
+              + "claimed[#claimed + 1] = window end end "
+              + "local result = {} "
+              + "for _, window in ipairs(claimed) do "
+              + "local fields = "
+              + "redis.call('hmget', ARGV[5] .. window, 'recipientType', 'absorbed') "
+              + "if fields[2] then "
+              + "result[#result + 1] = window "
+              + "result[#result + 1] = fields[1] "
+              + "result[#result + 1] = fields[2] "
+              + "else redis.call('zrem', KEYS[2], window) end end "
+              + "return result",
+          List.class);
+
+  // 저장한 개수만큼 빼고 남은 게 없으면 삭제, 저장하는 동안 합쳐진 개수가 있으면 다음 주기에 바로 저장되도록 남김
+  // ARGV : 구간, 저장한 개수, 현재 시각
+  private static final RedisScript<Long> COMPLETE_SCRIPT =
+      new DefaultRedisScript<>(
+          "local absorbed = tonumber(redis.call('hget', KEYS[1], 'absorbed') or '0') "
+              + "local remaining = absorbed - tonumber(ARGV[2]) "
+              + "if remaining <= 0 then "
+              + "redis.call('del', KEYS[1]) redis.call('zrem', KEYS[2], ARGV[1]) return 0 end "
+              + "redis.call('hset', KEYS[1], 'absorbed', remaining) "
+              + "redis.call('zadd', KEYS[2], ARGV[3], ARGV[1]) "
+              + "return remaining",
+          Long.class);
+
+  private final RedisTemplate<String, String> redisTemplate;
+
+  public CoalesceWindowRepository(RedisTemplate<String, String> redisTemplate) {
+    this.redisTemplate = redisTemplate;
+  }
+
+  /**
+   * 구간이 없으면 열고, 있으면 묶인 개수 증가
+   *
+   * @param aggregatedDto 수신 회원 정보 + 알림 유형 + 구간을 열 때의 묶인 개수
+   * @param closesAt 구간을 새로 열 때의 묶음 종료 시각
+   * @return {boolean} 구간을 새로 열었는지 여부
+   */
+  public boolean saveOrIncrease(AggregatedNotificationDto aggregatedDto, long closesAt) {
+
+    String window = makeWindow(aggregatedDto);
+    Long opened =
+        redisTemplate.execute(
+            OFFER_SCRIPT,
+            List.of(WINDOW_KEY_PREFIX + window, WINDOW_DUE_KEY),
+            window,
+            aggregatedDto.getRecipientType().name(),
+            String.valueOf(closesAt),
+            String.valueOf(aggregatedDto.getAggregatedCount()));
+    return opened != null && opened == 1L;
+  }
+
+  /**
+   * 묶음 시간이 끝났거나 선점 기간이 지난 구간 선점
+   *
+   * @param now 현재 시각
+   * @param claimedUntil 선점 종료 시각 (이때까지 완료되지 않으면 다시 선점됨)
+   * @param limit 최대 개수
+   * @return {List<AggregatedNotificationDto>} 저장할 묶음 알림
+   */
+  public List<AggregatedNotificationDto> claimAllDue(long now, long claimedUntil, int limit) {
+
+    List<?> results =
+        redisTemplate.execute(
+            CLAIM_DUE_SCRIPT,
+            List.of(WINDOW_DUE_KEY, FLUSHING_DUE_KEY),
+            String.valueOf(now),
+            String.valueOf(claimedUntil),
+            String.valueOf(limit),
+            WINDOW_KEY_PREFIX,
+            FLUSHING_KEY_PREFIX);
+
+    List<AggregatedNotificationDto> aggregatedDtos = new ArrayList<>(results.size() / 3);
+    for (int i = 0; i + 2 < results.size(); i += 3) {
+      String window = String.valueOf(results.get(i));
+      int separator = window.indexOf('_');
+      aggregatedDtos.add(
+          AggregatedNotificationDto.builder()
+              .recipientId(Long.parseLong(window.substring(0, separator)))
+              .recipientType(RecipientTypeEnum.valueOf(String.valueOf(results.get(i + 1))))
+              .notificationType(NotificationTypeEnum.valueOf(window.substring(separator + 1)))
+              .aggregatedCount(Integer.parseInt(String.valueOf(results.get(i + 2))))
+              .build());
+    }
+    return aggregatedDtos;
+  }
+
+  /**
+   * 저장이 끝난 구간 삭제
+   *
+   * @param aggregatedDtos 저장한 묶음 알림
+   */
+  public void deleteAll(List<AggregatedNotificationDto> aggregatedDtos) {
+
+    String now = String.valueOf(System.currentTimeMillis());
+    for (AggregatedNotificationDto aggregatedDto : aggregatedDtos) {
+      String window = makeWindow(aggregatedDto);
+      redisTemplate.execute(
+          COMPLETE_SCRIPT,
+          List.of(FLUSHING_KEY_PREFIX + window, FLUSHING_DUE_KEY),
+          window,
+          String.valueOf(aggregatedDto.getAggregatedCount()),
+          now);
+    }
+  }
+
+  /**
+   * 저장에 실패한 구간의 선점 해제 (다음 주기에 다시 선점)
+   *
+   * @param aggregatedDtos 저장에 실패한 묶음 알림
+   */
+  public void releaseAll(List<AggregatedNotificationDto> aggregatedDtos) {
+
+    double now = System.currentTimeMillis();
+    for (AggregatedNotificationDto aggregatedDto : aggregatedDtos) {
+      redisTemplate.opsForZSet().add(FLUSHING_DUE_KEY, makeWindow(aggregatedDto), now);
+    }
+  }
+
+  // 회원 식별자_알림 유형
+  private String makeWindow(AggregatedNotificationDto aggregatedDto) {
+    return aggregatedDto.getRecipientId() + "_" + aggregatedDto.getNotificationType().name();
+  }
+}
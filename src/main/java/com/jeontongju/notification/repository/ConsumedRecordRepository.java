@@ -0,0 +1,123 @@
+package com.jeontongju.notification.repository;
+
+import com.jeontongju.notification.enums.ConsumedRecordStateEnum;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 소비한 Kafka 레코드 키 (Redis)
+ *
+ * <p>선점할 때는 짧은 처리 중 표시(processing)만 남기고, DB 커밋이 끝난 뒤에 긴 TTL 의 완료 표시(done)로 바꾼다. 커밋 전에 죽은 소비자의
+ * 선점은 처리 중 TTL 이 지나면 풀리므로 재전달된 레코드를 다시 처리할 수 있다.
+ */
+@Repository
+public class ConsumedRecordRepository {
+
+  private static final String CONSUMED_RECORD_KEY_PREFIX = "KAFKA_CONSUMED_";
+  private static final String PROCESSING = "processing";
+  private static final String DONE = "done";
+
+  // 키 별로 처리 중 표시 선점(1), 이미 완료(0), 다른 소비자가 처리 중(2), ARGV[1] 은 처리 중 표시 보관 시간
+  @SuppressWarnings("rawtypes")
+  private static final RedisScript<List> CLAIM_SCRIPT =
+      new DefaultRedisScript<>(
+          "local states = {} "
+              + "for i = 1, #KEYS do "
+              + "if redis.call('set', KEYS[i], '"
+              + PROCESSING
+              + "', 'NX', 'PX', ARGV[1]) then states[i] = 1 "
+              + "elseif redis.call('get', KEYS[i]) == '"
+              + DONE
+              + "' then states[i] = 0 "
+              + "else states[i] = 2 end end "
+              + "return states",
+          List.class);
+
+  private final RedisTemplate<String, String> redisTemplate;
+  private final Duration processingTtl;
+  private final Duration consumedRecordTtl;
+
+  public ConsumedRecordRepository(
+      RedisTemplate<String, String> redisTemplate,
+      @Value("${notification.kafka.dedupe.processing-ttl-millis:60000}") long processingTtlMillis,
+      @Value("${notification.kafka.dedupe.ttl-millis:86400000}") long consumedRecordTtlMillis) {
+
+    this.redisTemplate = redisTemplate;
+    this.processingTtl = Duration.ofMillis(processingTtlMillis);
+    this.consumedRecordTtl = Duration.ofMillis(consumedRecordTtlMillis);
+  }
+
+  public Duration getProcessingTtl() {
+    return processingTtl;
+  }
+
+  /**
+   * 레코드 키 선점 (처리 중 표시 SET NX, 한 번의 스크립트 호출로 처리)
+   *
+   * @param recordKeys 레코드 키 목록 (토픽_파티션_오프셋)
+   * @return {List<ConsumedRecordStateEnum>} 키 별 선점 결과
+   */
+  public List<ConsumedRecordStateEnum> saveAllIfAbsent(List<String> recordKeys) {
+
+    List<?> results =
+        redisTemplate.execute(
+            CLAIM_SCRIPT, toKeys(recordKeys), String.valueOf(processingTtl.toMillis()));
+
+    List<ConsumedRecordStateEnum> states = new ArrayList<>(recordKeys.size());
+    for (Object result : results) {
+      long state = ((Number) result).longValue();
+      states.add(
+          state == 1L
+              ? ConsumedRecordStateEnum.CLAIMED
+              : state == 0L ? ConsumedRecordStateEnum.DONE : ConsumedRecordStateEnum.IN_PROGRESS);
+    }
+    return states;
+  }
+
+  /**
+   * 커밋이 끝난 레코드를 완료로 표시 (TTL 동안 같은 레코드 중복 처리 방지, 한 번의 파이프라인으로 처리)
+   *
+   * @param recordKeys 레코드 키 목록 (토픽_파티션_오프셋)
+   */
+  public void saveAllDone(List<String> recordKeys) {
+
+    List<String> keys = toKeys(recordKeys);
+    redisTemplate.executePipelined(
+        new SessionCallback<Object>() {
+          @Override
+          @SuppressWarnings("unchecked")
+          public <K, V> Object execute(RedisOperations<K, V> operations)
+              throws DataAccessException {
+
+            RedisOperations<String, String> stringOperations =
+                (RedisOperations<String, String>) operations;
+            for (String key : keys) {
+              stringOperations.opsForValue().set(key, DONE, consumedRecordTtl);
+            }
+            return null;
+          }
+        });
+  }
+
+  public void deleteAll(List<String> recordKeys) {
+    redisTemplate.delete(toKeys(recordKeys));
+  }
+
+  private List<String> toKeys(List<String> recordKeys) {
+
+    List<String> keys = new ArrayList<>(recordKeys.size());
+    for (String recordKey : recordKeys) {
+      keys.add(CONSUMED_RECORD_KEY_PREFIX + recordKey);
+    }
+    return keys;
+  }
+}
@@ -0,0 +1,44 @@
+package com.jeontongju.notification.repository;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+/** 회원의 SSE 연결을 가지고 있는 노드 목록 (Redis Set) */
+@Repository
+public class EmitterPresenceRepository {
+
+  private static final String PRESENCE_KEY_PREFIX = "SSE_PRESENCE_";
+
+  private final RedisTemplate<String, String> redisTemplate;
+  private final Duration presenceTtl;
+
+  public EmitterPresenceRepository(
+      RedisTemplate<String, String> redisTemplate,
+      @Value("${notification.sse.presence-ttl-millis:3600000}") long presenceTtlMillis) {
+
+    this.redisTemplate = redisTemplate;
+    this.presenceTtl = Duration.ofMillis(presenceTtlMillis);
+  }
+
+  public void save(Long memberId, String nodeId) {
+
+    // 비정상 종료된 노드가 남지 않도록 연결마다 만료 시간 갱신
+    String key = PRESENCE_KEY_PREFIX + memberId;
+    redisTemplate.opsForSet().add(key, nodeId);
+    redisTemplate.expire(key, presenceTtl);
+  }
+
+  public void delete(Long memberId, String nodeId) {
+    redisTemplate.opsForSet().remove(PRESENCE_KEY_PREFIX + memberId, nodeId);
+  }
+
+  public Set<String> findAllNodeByMemberId(Long memberId) {
+
+    Set<String> nodes = redisTemplate.opsForSet().members(PRESENCE_KEY_PREFIX + memberId);
+    return nodes == null ? Collections.emptySet() : nodes;
+  }
+}
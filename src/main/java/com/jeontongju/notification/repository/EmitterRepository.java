@@ -1,21 +1,29 @@
 package com.jeontongju.notification.repository;
 
+import com.jeontongju.notification.dto.response.NotificationInfoResponseDto;
+import com.jeontongju.notification.dto.temp.CachedEventDto;
+import java.util.List;
 import java.util.Map;
-
-import com.jeontongju.notification.domain.Notification;
+import java.util.Optional;
+import java.util.Set;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 public interface EmitterRepository {
 
-  SseEmitter save(String emitterId, SseEmitter sseEmitter); // emitter 저장
+  SseEmitter save(Long memberId, String emitterId, SseEmitter sseEmitter); // emitter 저장
+
+  void deletedById(Long memberId, String emitterId);
+
+  Map<String, SseEmitter> findAllEmitterByMemberId(Long memberId);
 
-  void deletedById(String emitterId);
+  Set<Long> findAllMemberId();
 
-  Map<String, Object> findAllEventCacheStartWithByEmail(String email);
+  CachedEventDto saveEventCache(
+      Long memberId, String eventName, NotificationInfoResponseDto event); // 이벤트 캐시 저장
 
-  Map<String, SseEmitter> findAllEmitterStartWithByEmail(String email);
+  Optional<List<CachedEventDto>> findAllEventCacheAfter(Long memberId, long lastSequence);
 
-  void saveEventCache(String key, Notification event);
+  long findLastEventSequence(Long memberId);
 
   void delete(String email, Long memberId);
 }
@@ -1,11 +1,18 @@
 package com.jeontongju.notification.repository;
 
+import com.jeontongju.notification.dto.response.NotificationInfoResponseDto;
+import com.jeontongju.notification.dto.temp.CachedEventDto;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
-
-import com.jeontongju.notification.domain.Notification;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Repository;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
@@ -13,47 +20,116 @@ import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 @Repository
 public class EmitterRepositoryImpl implements EmitterRepository {
 
-  private final Map<String, SseEmitter> emitters = new ConcurrentHashMap<>();
-  private final Map<String, Notification> eventCache = new ConcurrentHashMap<>();
+  // 회원 식별자 -> (emitterId -> SseEmitter)
+  private final Map<Long, Map<String, SseEmitter>> emitters = new ConcurrentHashMap<>();
+  // 회원 식별자 -> 최근 이벤트 링 버퍼
+  private final Map<Long, MemberEventBuffer> eventCaches = new ConcurrentHashMap<>();
+
+  private final int eventCacheSize;
+  private final long eventCacheTtlMillis;
+
+  public EmitterRepositoryImpl(
+      @Value("${notification.sse.event-cache.size:100}") int eventCacheSize,
+      @Value("${notification.sse.event-cache.ttl-millis:600000}") long eventCacheTtlMillis) {
+
+    this.eventCacheSize = eventCacheSize;
+    this.eventCacheTtlMillis = eventCacheTtlMillis;
+  }
 
   @Override
-  public SseEmitter save(String emitterId, SseEmitter sseEmitter) {
-    emitters.put(emitterId, sseEmitter);
+  public SseEmitter save(Long memberId, String emitterId, SseEmitter sseEmitter) {
+
+    // 빈 버킷 제거(deletedById)와 경합하지 않도록 버킷 생성과 추가를 compute 안에서 처리
+    emitters.compute(
+        memberId,
+        (key, bucket) -> {
+          Map<String, SseEmitter> target = bucket != null ? bucket : new ConcurrentHashMap<>();
+          target.put(emitterId, sseEmitter);
+          return target;
+        });
     return sseEmitter;
   }
 
   @Override
-  public void deletedById(String emitterId) {
-    emitters.remove(emitterId);
+  public void deletedById(Long memberId, String emitterId) {
+
+    // 마지막 emitter가 제거되면 회원 버킷도 함께 제거
+    emitters.computeIfPresent(
+        memberId,
+        (key, bucket) -> {
+          bucket.remove(emitterId);
+          return bucket.isEmpty() ? null : bucket;
+        });
   }
 
   @Override
-  public Map<String, Object> findAllEventCacheStartWithByEmail(String email) {
+  public Map<String, SseEmitter> findAllEmitterByMemberId(Long memberId) {
 
-    return eventCache.entrySet().stream()
-        .filter(entry -> entry.getKey().startsWith(email))
-        .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    Map<String, SseEmitter> bucket = emitters.get(memberId);
+    if (bucket == null) {
+      return Collections.emptyMap();
+    }
+    return new HashMap<>(bucket);
   }
 
   @Override
-  public Map<String, SseEmitter> findAllEmitterStartWithByEmail(String email) {
-    return emitters.entrySet().stream()
-        .filter(entry -> entry.getKey().startsWith(email))
-        .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+  public Set<Long> findAllMemberId() {
+    return new HashSet<>(emitters.keySet());
   }
 
   @Override
-  public void saveEventCache(String key, Notification event) {
-    eventCache.put(key, event);
+  public CachedEventDto saveEventCache(
+      Long memberId, String eventName, NotificationInfoResponseDto event) {
+
+    long now = System.currentTimeMillis();
+    CachedEventDto[] saved = new CachedEventDto[1];
+    // 만료 정리와 경합하지 않도록 버퍼 생성과 추가를 compute 안에서 처리
+    eventCaches.compute(
+        memberId,
+        (key, buffer) -> {
+          MemberEventBuffer target = buffer != null ? buffer : createEventBuffer(now);
+          saved[0] = target.append(eventName, event, now);
+          return target;
+        });
+    return saved[0];
   }
 
   @Override
-  public void delete(String email, Long memberId) {
+  public Optional<List<CachedEventDto>> findAllEventCacheAfter(Long memberId, long lastSequence) {
+
+    MemberEventBuffer buffer = eventCaches.get(memberId);
+    if (buffer == null) {
+      return Optional.empty();
+    }
+    return buffer.findAllAfter(lastSequence, System.currentTimeMillis());
+  }
 
-    emitters.entrySet().stream()
-        .filter(entry -> entry.getKey().startsWith(email + "_" + memberId))
-        .forEach(entry -> emitters.remove(entry.getKey()));
+  @Override
+  public long findLastEventSequence(Long memberId) {
+
+    long now = System.currentTimeMillis();
+    return eventCaches.computeIfAbsent(memberId, key -> createEventBuffer(now)).getLastSequence();
+  }
+
+  @Override
+  public void delete(String email, Long memberId) {
 
+    emitters.remove(memberId);
     log.info("[Successful removed]");
   }
+
+  /** 보관 기간이 지나 비어버린 이벤트 캐시 정리 */
+  @Scheduled(fixedDelayString = "${notification.sse.event-cache.ttl-millis:600000}")
+  public void evictExpiredEventCaches() {
+
+    long now = System.currentTimeMillis();
+    for (Long memberId : eventCaches.keySet()) {
+      eventCaches.computeIfPresent(
+          memberId, (key, buffer) -> buffer.evictExpiredAndCheckEmpty(now) ? null : buffer);
+    }
+  }
+
+  private MemberEventBuffer createEventBuffer(long now) {
+    return new MemberEventBuffer(eventCacheSize, eventCacheTtlMillis, now);
+  }
 }
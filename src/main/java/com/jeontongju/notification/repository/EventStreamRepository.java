@@ -0,0 +1,44 @@
+package com.jeontongju.notification.repository;
+
+import com.jeontongju.notification.dto.response.NotificationInfoResponseDto;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Sinks;
+
+/** reactive 모드 SSE 연결 저장소 (회원 식별자 -> 연결별 Sink) */
+@Repository
+public class EventStreamRepository {
+
+  private final Map<Long, Set<Sinks.Many<ServerSentEvent<NotificationInfoResponseDto>>>> streams =
+      new ConcurrentHashMap<>();
+
+  public void save(Long memberId, Sinks.Many<ServerSentEvent<NotificationInfoResponseDto>> sink) {
+    streams.computeIfAbsent(memberId, key -> ConcurrentHashMap.newKeySet()).add(sink);
+  }
+
+  public void delete(Long memberId, Sinks.Many<ServerSentEvent<NotificationInfoResponseDto>> sink) {
+
+    // 마지막 연결이 제거되면 회원 버킷도 함께 제거
+    streams.computeIfPresent(
+        memberId,
+        (key, bucket) -> {
+          bucket.remove(sink);
+          return bucket.isEmpty() ? null : bucket;
+        });
+  }
+
+  public Set<Sinks.Many<ServerSentEvent<NotificationInfoResponseDto>>> findAllByMemberId(
+      Long memberId) {
+
+    Set<Sinks.Many<ServerSentEvent<NotificationInfoResponseDto>>> bucket = streams.get(memberId);
+    if (bucket == null) {
+      return Collections.emptySet();
+    }
+    return new HashSet<>(bucket);
+  }
+}
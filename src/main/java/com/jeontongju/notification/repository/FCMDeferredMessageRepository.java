@@ -0,0 +1,112 @@
+package com.jeontongju.notification.repository;
+
+import com.jeontongju.notification.dto.temp.DeferredFCMMessageDto;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 전송 한도를 넘어 미룬 FCM 메시지 (Redis, 노드 간 공유)
+ *
+ * <p>회원별 마지막 메시지와 미룬 개수를 Hash 로 두고, 전송할 회원을 Sorted Set 에 둔다. 노드가 재시작되어도 미룬 메시지는 남아 있어 다음 주기에
+ * 어느 노드든 묶음 메시지로 전송한다.
+ */
+@Repository
+public class FCMDeferredMessageRepository {
+
+  private static final String DEFERRED_KEY_PREFIX = "FCM_DEFERRED_";
+  private static final String DEFERRED_DUE_KEY = "FCM_DEFERRED_DUE";
+
+  // 마지막 메시지 저장 + 미룬 개수 증가, ARGV : 회원 식별자, 제목, 내용, 개수, 현재 시각, 메시지 덮어쓰기 여부
+  // (다시 미룰 때는 그 사이 들어온 더 최근 메시지를 덮어쓰지 않음)
+  private static final RedisScript<Long> SAVE_SCRIPT =
+      new DefaultRedisScript<>(
+          "if ARGV[6] == '1' or redis.call('exists', KEYS[1]) == 0 then "
+              + "redis.call('hset', KEYS[1], 'title', ARGV[2], 'body', ARGV[3]) end "
+              + "local counts = redis.call('hincrby', KEYS[1], 'counts', ARGV[4]) "
+              + "redis.call('zadd', KEYS[2], 'NX', ARGV[5], ARGV[1]) "
+              + "return counts",
+          Long.class);
+
+  // 전송할 회원의 메시지를 꺼내고 삭제, ARGV : 현재 시각, 최대 개수, 키 접두사
+  // 반환 : {회원 식별자, 제목, 내용, 개수} 반복
+  @SuppressWarnings("rawtypes")
+  private static final RedisScript<List> CLAIM_DUE_SCRIPT =
+      new DefaultRedisScript<>(
+          "local result = {} "
+              + "local due = redis.call('zrangebyscore', KEYS[1], '-inf', ARGV[1], "
+              + "'limit', 0, ARGV[2]) "
+              + "for _, memberId in ipairs(due) do "
+              + "local key = ARGV[3] .. memberId "
+              + "local fields = redis.call('hmget', key, 'title', 'body', 'counts') "
+              + "redis.call('del', key) "
+              + "redis.call('zrem', KEYS[1], memberId) "
+              + "if fields[3] then "
+              + "result[#result + 1] = memberId "
+              + "result[#result + 1] = fields[1] or '' "
+              + "result[#result + 1] = fields[2] or '' "
+              + "result[#result + 1] = fields[3] end end "
+              + "return result",
+          List.class);
+
+  private final RedisTemplate<String, String> redisTemplate;
+
+  public FCMDeferredMessageRepository(RedisTemplate<String, String> redisTemplate) {
+    this.redisTemplate = redisTemplate;
+  }
+
+  /**
+   * 미룬 메시지 저장 (회원별 마지막 메시지 + 개수)
+   *
+   * @param deferredDto 수신 회원 식별자 + 메시지 + 미룬 개수
+   * @param overwrite 저장된 메시지를 덮어쓸지 여부
+   * @return {long} 저장 후 미룬 개수
+   */
+  public long save(DeferredFCMMessageDto deferredDto, boolean overwrite) {
+
+    Long counts =
+        redisTemplate.execute(
+            SAVE_SCRIPT,
+            List.of(DEFERRED_KEY_PREFIX + deferredDto.getMemberId(), DEFERRED_DUE_KEY),
+            String.valueOf(deferredDto.getMemberId()),
+            Objects.toString(deferredDto.getTitle(), ""),
+            Objects.toString(deferredDto.getBody(), ""),
+            String.valueOf(deferredDto.getDeferredCount()),
+            String.valueOf(System.currentTimeMillis()),
+            overwrite ? "1" : "0");
+    return counts == null ? 0L : counts;
+  }
+
+  /**
+   * 미룬 메시지를 꺼내고 삭제
+   *
+   * @param limit 최대 회원 수
+   * @return {List<DeferredFCMMessageDto>} 회원별 미룬 메시지
+   */
+  public List<DeferredFCMMessageDto> claimAllDue(int limit) {
+
+    List<?> results =
+        redisTemplate.execute(
+            CLAIM_DUE_SCRIPT,
+            List.of(DEFERRED_DUE_KEY),
+            String.valueOf(System.currentTimeMillis()),
+            String.valueOf(limit),
+            DEFERRED_KEY_PREFIX);
+
+    List<DeferredFCMMessageDto> deferredDtos = new ArrayList<>(results.size() / 4);
+    for (int i = 0; i + 3 < results.size(); i += 4) {
+      deferredDtos.add(
+          DeferredFCMMessageDto.builder()
+              .memberId(Long.parseLong(String.valueOf(results.get(i))))
+              .title(String.valueOf(results.get(i + 1)))
+              .body(String.valueOf(results.get(i + 2)))
+              .deferredCount(Integer.parseInt(String.valueOf(results.get(i + 3))))
+              .build());
+    }
+    return deferredDtos;
+  }
+}
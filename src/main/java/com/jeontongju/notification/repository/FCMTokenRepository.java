@@ -0,0 +1,90 @@
+package com.jeontongju.notification.repository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Repository;
+
+/** 회원 식별자 -> FCM 토큰 (Redis, 여러 노드가 같은 조회 결과를 공유) */
+@Repository
+public class FCMTokenRepository {
+
+  private static final String FCM_TOKEN_KEY_PREFIX = "FCM_TOKEN_";
+
+  private final RedisTemplate<String, String> redisTemplate;
+  private final Duration fcmTokenTtl;
+
+  public FCMTokenRepository(
+      RedisTemplate<String, String> redisTemplate,
+      @Value("${notification.cache.fcm-token.ttl-millis:86400000}") long fcmTokenTtlMillis) {
+
+    this.redisTemplate = redisTemplate;
+    this.fcmTokenTtl = Duration.ofMillis(fcmTokenTtlMillis);
+  }
+
+  /**
+   * 여러 회원의 FCM 토큰 조회 (MGET 한 번)
+   *
+   * @param memberIds 회원 식별자 목록
+   * @return {Map<Long, String>} 저장된 회원만 포함
+   */
+  public Map<Long, String> findAllByMemberIds(List<Long> memberIds) {
+
+    List<String> keys = new ArrayList<>(memberIds.size());
+    for (Long memberId : memberIds) {
+      keys.add(FCM_TOKEN_KEY_PREFIX + memberId);
+    }
+    List<String> values = redisTemplate.opsForValue().multiGet(keys);
+
+    Map<Long, String> tokens = new HashMap<>();
+    if (values == null) {
+      return tokens;
+    }
+    for (int i = 0; i < memberIds.size(); i++) {
+      if (values.get(i) != null) {
+        tokens.put(memberIds.get(i), values.get(i));
+      }
+    }
+    return tokens;
+  }
+
+  /**
+   * FCM 토큰 저장 (TTL 포함, 한 번의 파이프라인으로 처리)
+   *
+   * @param tokens 회원 식별자 -> FCM 토큰
+   */
+  public void saveAll(Map<Long, String> tokens) {
+
+    if (tokens.isEmpty()) {
+      return;
+    }
+    redisTemplate.executePipelined(
+        new SessionCallback<Object>() {
+          @Override
+          @SuppressWarnings("unchecked")
+          public <K, V> Object execute(RedisOperations<K, V> operations)
+              throws DataAccessException {
+
+            RedisOperations<String, String> stringOperations =
+                (RedisOperations<String, String>) operations;
+            tokens.forEach(
+                (memberId, token) ->
+                    stringOperations
+                        .opsForValue()
+                        .set(FCM_TOKEN_KEY_PREFIX + memberId, token, fcmTokenTtl));
+            return null;
+          }
+        });
+  }
+
+  public void delete(Long memberId) {
+    redisTemplate.delete(FCM_TOKEN_KEY_PREFIX + memberId);
+  }
+}
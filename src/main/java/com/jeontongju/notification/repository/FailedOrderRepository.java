@@ -0,0 +1,40 @@
+package com.jeontongju.notification.repository;
+
+import io.github.bitbox.bitbox.dto.ConsumerOrderListResponseDto;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 서버 오류로 실패한 소비자의 마지막 주문 내역 (Redis, gzip 압축)
+ *
+ * <p>주문 상세 링크 파라미터는 알림에 저장하므로, 파라미터 없이 저장된 이전 알림의 링크를 만들 때만 읽는다.
+ */
+@Repository
+public class FailedOrderRepository {
+
+  private static final String FAILED_ORDER_KEY_PREFIX = "CONSUMER_";
+
+  private final RedisTemplate<String, ConsumerOrderListResponseDto> failedOrderRedisTemplate;
+  private final Duration failedOrderTtl;
+
+  public FailedOrderRepository(
+      @Qualifier("failedOrderRedisTemplate")
+          RedisTemplate<String, ConsumerOrderListResponseDto> failedOrderRedisTemplate,
+      @Value("${notification.failed-order.ttl-millis:604800000}") long failedOrderTtlMillis) {
+    this.failedOrderRedisTemplate = failedOrderRedisTemplate;
+    this.failedOrderTtl = Duration.ofMillis(failedOrderTtlMillis);
+  }
+
+  public void save(Long consumerId, ConsumerOrderListResponseDto order) {
+    failedOrderRedisTemplate
+        .opsForValue()
+        .set(FAILED_ORDER_KEY_PREFIX + consumerId, order, failedOrderTtl);
+  }
+
+  public ConsumerOrderListResponseDto findByConsumerId(Long consumerId) {
+    return failedOrderRedisTemplate.opsForValue().get(FAILED_ORDER_KEY_PREFIX + consumerId);
+  }
+}
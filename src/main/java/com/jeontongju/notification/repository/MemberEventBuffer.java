@@ -0,0 +1,118 @@
+package com.jeontongju.notification.repository;
+
+import com.jeontongju.notification.dto.response.NotificationInfoResponseDto;
+import com.jeontongju.notification.dto.temp.CachedEventDto;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 회원 한 명의 최근 이벤트를 보관하는 고정 크기 링 버퍼
+ *
+ * <p>시퀀스는 버퍼 안에서 연속적으로 증가하므로, Last-Event-ID 의 시퀀스만으로 다음 이벤트의 위치를 바로 계산할 수 있다.
+ */
+public class MemberEventBuffer {
+
+  private final CachedEventDto[] events;
+  private final long ttlMillis;
+
+  // 가장 오래된 이벤트의 위치와 보관 중인 이벤트 수
+  private int head;
+  private int size;
+  private long lastSequence;
+
+  /**
+   * @param capacity 보관할 최대 이벤트 수
+   * @param ttlMillis 이벤트 보관 시간
+   * @param initialSequence 시작 시퀀스 (재시작 후에도 이전 시퀀스보다 커지도록 현재 시각 사용)
+   */
+  public MemberEventBuffer(int capacity, long ttlMillis, long initialSequence) {
+    this.events = new CachedEventDto[capacity];
+    this.ttlMillis = ttlMillis;
+    this.lastSequence = initialSequence;
+  }
+
+  /**
+   * 이벤트 추가 (가득 찬 경우 가장 오래된 이벤트를 덮어씀)
+   *
+   * @param eventName 이벤트 이름
+   * @param data 전송 내용
+   * @param now 현재 시각
+   * @return {CachedEventDto} 시퀀스가 부여된 이벤트
+   */
+  public synchronized CachedEventDto append(
+      String eventName, NotificationInfoResponseDto data, long now) {
+
+    CachedEventDto event =
+        CachedEventDto.builder()
+            .sequence(++lastSequence)
+            .createdAt(now)
+            .eventName(eventName)
+            .data(data)
+            .build();
+
+    int tail = (head + size) % events.length;
+    events[tail] = event;
+    if (size == events.length) {
+      head = (head + 1) % events.length;
+    } else {
+      size += 1;
+    }
+    return event;
+  }
+
+  /**
+   * lastSequence 이후의 이벤트 조회
+   *
+   * @param lastSequence 클라이언트가 마지막으로 받은 시퀀스
+   * @param now 현재 시각
+   * @return {Optional<List<CachedEventDto>>} 이어서 보낼 이벤트, 버퍼에서 이미 밀려났거나 발급한 적 없는 시퀀스면 empty
+   */
+  public synchronized Optional<List<CachedEventDto>> findAllAfter(long lastSequence, long now) {
+
+    evictExpired(now);
+    if (lastSequence > this.lastSequence) {
+      return Optional.empty();
+    }
+    if (lastSequence == this.lastSequence) {
+      return Optional.of(new ArrayList<>());
+    }
+
+    long firstSequence = this.lastSequence - size + 1;
+    if (lastSequence + 1 < firstSequence) {
+      return Optional.empty();
+    }
+
+    int offset = (int) (lastSequence + 1 - firstSequence);
+    List<CachedEventDto> lostEvents = new ArrayList<>(size - offset);
+    for (int i = offset; i < size; i++) {
+      lostEvents.add(events[(head + i) % events.length]);
+    }
+    return Optional.of(lostEvents);
+  }
+
+  public synchronized long getLastSequence() {
+    return lastSequence;
+  }
+
+  /**
+   * 만료된 이벤트 제거 후 비었는지 확인
+   *
+   * @param now 현재 시각
+   * @return {boolean} 보관 중인 이벤트가 없는지 여부
+   */
+  public synchronized boolean evictExpiredAndCheckEmpty(long now) {
+
+    evictExpired(now);
+    return size == 0;
+  }
+
+  private void evictExpired(long now) {
+
+    while (size > 0 && events[head].getCreatedAt() + ttlMillis < now) {
+      events[head] = null;
+      head = (head + 1) % events.length;
+      size -= 1;
+    }
+  }
+}
@@ -0,0 +1,51 @@
+package com.jeontongju.notification.repository;
+
+import com.jeontongju.notification.domain.NotificationOutbox;
+import com.jeontongju.notification.enums.NotificationPriorityEnum;
+import java.time.LocalDateTime;
+import java.util.List;
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+  // lock.timeout -2 : SKIP LOCKED (다른 노드의 릴레이가 잡은 행은 건너뜀), 선점 기간이 지난 행은 다시 가져옴
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @QueryHints(@QueryHint(name = "javax.persistence.lock.timeout", value = "-2"))
+  @Query(
+      "select o from NotificationOutbox o "
+          + "where o.isDelivered = false and o.priority = :priority "
+          + "and (o.claimedUntil is null or o.claimedUntil < :now) "
+          + "order by o.outboxId")
+  List<NotificationOutbox> findPendingForUpdate(
+      @Param("priority") NotificationPriorityEnum priority,
+      @Param("now") LocalDateTime now,
+      Pageable pageable);
+
+  @Modifying(clearAutomatically = true)
+  @Query(
+      "update NotificationOutbox o set o.claimedUntil = :claimedUntil "
+          + "where o.outboxId in :outboxIds")
+  int updateAllClaimed(
+      @Param("outboxIds") List<Long> outboxIds, @Param("claimedUntil") LocalDateTime claimedUntil);
+
+  @Modifying(clearAutomatically = true)
+  @Query(
+      "update NotificationOutbox o set o.isDelivered = true, o.deliveredAt = :deliveredAt "
+          + "where o.outboxId in :outboxIds")
+  int updateAllDelivered(
+      @Param("outboxIds") List<Long> outboxIds, @Param("deliveredAt") LocalDateTime deliveredAt);
+
+  @Modifying
+  @Query(
+      "delete from NotificationOutbox o "
+          + "where o.isDelivered = true and o.deliveredAt < :deliveredBefore")
+  int deleteAllDeliveredBefore(@Param("deliveredBefore") LocalDateTime deliveredBefore);
+}
@@ -1,9 +1,15 @@
 package com.jeontongju.notification.repository;
 
 import com.jeontongju.notification.domain.Notification;
+import com.jeontongju.notification.dto.response.NotificationInfoForSingleInquiryDto;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
 
@@ -12,4 +18,27 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
   List<Notification> findByRecipientId(Long memberId);
 
   List<Notification> findByRecipientIdAndIsRead(Long memberId, boolean isRead);
+
+  long countByRecipientIdAndIsRead(Long memberId, boolean isRead);
+
+  @Query(
+      "select n.notificationId from Notification n "
+          + "where n.notificationId in :notificationIds and n.isRead = false")
+  List<Long> findAllUnreadIdByNotificationIdIn(
+      @Param("notificationIds") Collection<Long> notificationIds);
+
+  @Modifying(clearAutomatically = true)
+  @Query(
+      "update Notification n set n.isRead = true "
+          + "where n.recipientId = :memberId and n.isRead = false")
+  int updateAllIsReadByRecipientId(@Param("memberId") Long memberId);
+
+  @Query(
+      "select new com.jeontongju.notification.dto.response.NotificationInfoForSingleInquiryDto("
+          + "n.notificationId, n.notificationTypeEnum, n.isRead, n.createdAt, n.aggregatedCount) "
+          + "from Notification n "
+          + "where n.recipientId = :memberId and n.notificationId < :cursor "
+          + "order by n.notificationId desc")
+  List<NotificationInfoForSingleInquiryDto> findSliceByRecipientId(
+      @Param("memberId") Long memberId, @Param("cursor") Long cursor, Pageable pageable);
 }
@@ -0,0 +1,132 @@
+package com.jeontongju.notification.repository;
+
+import com.jeontongju.notification.config.RateLimitProperties.Policy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+/** 노드 간 공유 토큰 버킷 (Redis Hash, 스크립트 한 번으로 보충 + 사용) */
+@Repository
+public class RateLimitRepository {
+
+  private static final String RATE_LIMIT_KEY_PREFIX = "RATE_LIMIT_";
+
+  // KEYS : 전체 버킷, 회원/알림 유형 버킷들 / ARGV : 현재 시각, 전체 버킷의 최대 개수와 밀리초당 보충 개수, 버킷 수,
+  // 버킷별 최대 개수와 밀리초당 보충 개수, 요청별 (회원 버킷 위치, 알림 유형 버킷 위치(없으면 0)) (KEYS 기준)
+  // 요청 순서대로 요청의 버킷과 전체 버킷에 모두 토큰이 있을 때만 모두 사용 / 반환 : 요청별 1 사용 성공, 0 한도 초과
+  @SuppressWarnings("rawtypes")
+  private static final RedisScript<List> TRY_ACQUIRE_ALL_SCRIPT =
+      new DefaultRedisScript<>(
+          "local now = tonumber(ARGV[1]) "
+              + "local function load(key, capacity, refill) "
+              + "local bucket = redis.call('hmget', key, 'tokens', 'ts') "
+              + "local tokens = tonumber(bucket[1]) or capacity "
+              + "local ts = tonumber(bucket[2]) or now "
+              + "return {tokens = math.min(capacity, tokens + math.max(0, now - ts) * refill), "
+              + "ts = math.max(ts, now), capacity = capacity, refill = refill} end "
+              + "local buckets = {load(KEYS[1], tonumber(ARGV[2]), tonumber(ARGV[3]))} "
+              + "local bucketCounts = tonumber(ARGV[4]) "
+              + "for j = 1, bucketCounts do "
+              + "buckets[j + 1] = "
+              + "load(KEYS[j + 1], tonumber(ARGV[3 + 2 * j]), tonumber(ARGV[4 + 2 * j])) end "
+              + "local results = {} "
+              + "for i = 5 + 2 * bucketCounts, #ARGV, 2 do "
+              + "local member = buckets[tonumber(ARGV[i])] "
+              + "local typed = buckets[tonumber(ARGV[i + 1])] "
+              + "if member.tokens >= 1 and (typed == nil or typed.tokens >= 1) "
+              + "and buckets[1].tokens >= 1 then "
+              + "member.tokens = member.tokens - 1 "
+              + "if typed then typed.tokens = typed.tokens - 1 end "
+              + "buckets[1].tokens = buckets[1].tokens - 1 "
+              + "results[#results + 1] = 1 "
+              + "else results[#results + 1] = 0 end end "
+              + "for j = 1, #buckets do "
+              + "local bucket = buckets[j] "
+              + "redis.call('hset', KEYS[j], 'tokens', tostring(bucket.tokens), 'ts', bucket.ts) "
+              + "redis.call('pexpire', KEYS[j], math.ceil(bucket.capacity / bucket.refill) + 1000) "
+              + "end "
+              + "return results",
+          List.class);
+
+  private final RedisTemplate<String, String> redisTemplate;
+
+  public RateLimitRepository(RedisTemplate<String, String> redisTemplate) {
+    this.redisTemplate = redisTemplate;
+  }
+
+  /**
+   * 여러 요청의 토큰을 한 번의 스크립트 호출로 사용
+   *
+   * @param globalBucketKey 전체 버킷 키
+   * @param globalPolicy 전체 버킷 한도
+   * @param memberBucketKeys 요청별 회원 버킷 키 (같은 키 중복 가능)
+   * @param memberPolicy 회원 버킷 한도
+   * @param typeBucketKeys 요청별 (회원, 알림 유형) 버킷 키 (없으면 null)
+   * @param typePolicies 요청별 (회원, 알림 유형) 버킷 한도 (없으면 null)
+   * @return {List<Boolean>} 요청별 사용 성공 여부
+   */
+  public List<Boolean> tryAcquireAll(
+      String globalBucketKey,
+      Policy globalPolicy,
+      List<String> memberBucketKeys,
+      Policy memberPolicy,
+      List<String> typeBucketKeys,
+      List<Policy> typePolicies) {
+
+    List<String> keys = new ArrayList<>();
+    keys.add(RATE_LIMIT_KEY_PREFIX + globalBucketKey);
+    List<String> bucketArgs = new ArrayList<>();
+    List<String> requestArgs = new ArrayList<>(memberBucketKeys.size() * 2);
+    // 버킷 키 -> KEYS 위치 (Lua 인덱스)
+    Map<String, Integer> keyIndexes = new HashMap<>();
+    for (int i = 0; i < memberBucketKeys.size(); i++) {
+      int memberIndex =
+          indexOf(memberBucketKeys.get(i), memberPolicy, keys, bucketArgs, keyIndexes);
+      int typeIndex =
+          typeBucketKeys.get(i) == null
+              ? 0
+              : indexOf(typeBucketKeys.get(i), typePolicies.get(i), keys, bucketArgs, keyIndexes);
+      requestArgs.add(String.valueOf(memberIndex));
+      requestArgs.add(String.valueOf(typeIndex));
+    }
+
+    List<String> args = new ArrayList<>(4 + bucketArgs.size() + requestArgs.size());
+    args.add(String.valueOf(System.currentTimeMillis()));
+    args.add(String.valueOf(globalPolicy.getCapacity()));
+    args.add(String.valueOf(globalPolicy.getRefillPerSecond() / 1000d));
+    args.add(String.valueOf(keyIndexes.size()));
+    args.addAll(bucketArgs);
+    args.addAll(requestArgs);
+
+    List<?> results = redisTemplate.execute(TRY_ACQUIRE_ALL_SCRIPT, keys, args.toArray());
+    List<Boolean> allowed = new ArrayList<>(results.size());
+    for (Object result : results) {
+      allowed.add(((Number) result).longValue() == 1L);
+    }
+    return allowed;
+  }
+
+  // 처음 나온 버킷이면 KEYS 와 한도 인자에 추가
+  private int indexOf(
+      String bucketKey,
+      Policy policy,
+      List<String> keys,
+      List<String> bucketArgs,
+      Map<String, Integer> keyIndexes) {
+
+    Integer keyIndex = keyIndexes.get(bucketKey);
+    if (keyIndex == null) {
+      keys.add(RATE_LIMIT_KEY_PREFIX + bucketKey);
+      keyIndex = keys.size();
+      keyIndexes.put(bucketKey, keyIndex);
+      bucketArgs.add(String.valueOf(policy.getCapacity()));
+      bucketArgs.add(String.valueOf(policy.getRefillPerSecond() / 1000d));
+    }
+    return keyIndex;
+  }
+}
@@ -0,0 +1,100 @@
+package com.jeontongju.notification.repository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+/** 회원별 안 읽은 알림 개수 (Redis) */
+@Repository
+public class UnreadCountRepository {
+
+  private static final String UNREAD_COUNT_KEY_PREFIX = "UNREAD_COUNT_";
+  private static final String UNREAD_APPLIED_KEY_PREFIX = "UNREAD_APPLIED_";
+
+  // 카운터가 기대한 값(ARGV[1], 빈 문자열이면 키 없음)일 때만 저장
+  private static final RedisScript<Long> COMPARE_AND_SET_SCRIPT =
+      new DefaultRedisScript<>(
+          "local current = redis.call('get', KEYS[1]) "
+              + "if ARGV[1] == '' then if current then return 0 end "
+              + "elseif current ~= ARGV[1] then return 0 end "
+              + "redis.call('set', KEYS[1], ARGV[2], 'PX', ARGV[3]) "
+              + "return 1",
+          Long.class);
+
+  // 처음 반영하는 아웃박스 이벤트(KEYS[2..])만 세어 카운터(KEYS[1])가 있을 때 증가, ARGV[1] 은 반영 표시 보관 시간
+  private static final RedisScript<Long> INCREASE_ONCE_SCRIPT =
+      new DefaultRedisScript<>(
+          "local applied = 0 "
+              + "for i = 2, #KEYS do "
+              + "if redis.call('set', KEYS[i], '1', 'NX', 'PX', ARGV[1]) then "
+              + "applied = applied + 1 end end "
+              + "if applied == 0 or redis.call('exists', KEYS[1]) == 0 then return nil end "
+              + "return redis.call('incrby', KEYS[1], applied)",
+          Long.class);
+
+  private final RedisTemplate<String, String> redisTemplate;
+  private final Duration unreadCountTtl;
+  private final Duration appliedTtl;
+
+  public UnreadCountRepository(
+      RedisTemplate<String, String> redisTemplate,
+      @Value("${notification.unread-count.ttl-millis:86400000}") long unreadCountTtlMillis,
+      @Value("${notification.unread-count.applied-ttl-millis:86400000}") long appliedTtlMillis) {
+
+    this.redisTemplate = redisTemplate;
+    this.unreadCountTtl = Duration.ofMillis(unreadCountTtlMillis);
+    this.appliedTtl = Duration.ofMillis(appliedTtlMillis);
+  }
+
+  public Long findByMemberId(Long memberId) {
+
+    String count = redisTemplate.opsForValue().get(UNREAD_COUNT_KEY_PREFIX + memberId);
+    return count == null ? null : Long.parseLong(count);
+  }
+
+  public void delete(Long memberId) {
+    redisTemplate.delete(UNREAD_COUNT_KEY_PREFIX + memberId);
+  }
+
+  /**
+   * 카운터가 그대로일 때만 저장 (재계산 중에 들어온 증감을 덮어쓰지 않음)
+   *
+   * @param memberId 회원 식별자
+   * @param expected 재계산 전에 읽은 값 (키가 없었으면 null)
+   * @param count 저장할 값
+   * @return {boolean} 저장 여부
+   */
+  public boolean compareAndSave(Long memberId, Long expected, long count) {
+
+    Long saved =
+        redisTemplate.execute(
+            COMPARE_AND_SET_SCRIPT,
+            List.of(UNREAD_COUNT_KEY_PREFIX + memberId),
+            expected == null ? "" : String.valueOf(expected),
+            String.valueOf(count),
+            String.valueOf(unreadCountTtl.toMillis()));
+    return saved != null && saved == 1L;
+  }
+
+  /**
+   * 아웃박스 이벤트별로 한 번만 증가 (키가 없으면 반영 표시만 남기고 다음 조회 시 다시 계산)
+   *
+   * @param memberId 회원 식별자
+   * @param outboxIds 반영할 아웃박스 이벤트 식별자 목록
+   */
+  public void increaseOnce(Long memberId, List<Long> outboxIds) {
+
+    List<String> keys = new ArrayList<>(outboxIds.size() + 1);
+    keys.add(UNREAD_COUNT_KEY_PREFIX + memberId);
+    for (Long outboxId : outboxIds) {
+      keys.add(UNREAD_APPLIED_KEY_PREFIX + outboxId);
+    }
+    redisTemplate.execute(INCREASE_ONCE_SCRIPT, keys, String.valueOf(appliedTtl.toMillis()));
+  }
+
+}
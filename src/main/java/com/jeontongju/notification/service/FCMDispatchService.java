@@ -0,0 +1,279 @@
+package com.jeontongju.notification.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.api.core.ApiFutureCallback;
+import com.google.api.core.ApiFutures;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.Notification;
+import com.google.firebase.messaging.SendResponse;
+import com.jeontongju.notification.dto.request.FCMNotificationRequestDto;
+import com.jeontongju.notification.feign.ConsumerClientService;
+import com.jeontongju.notification.utils.CustomErrMessage;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * FCM 메시지를 모아서 sendAll 로 비동기 전송
+ *
+ * <p>호출한 쪽은 큐에 넣기만 하고 바로 반환하며, 짧은 주기마다 최대 500건씩 묶어서 전송한다. 묶음의 FCM 토큰은 한 번에 조회하고,
+ * UNREGISTERED 로 실패한 토큰은 일정 시간 동안 다시 전송하지 않는다. UNREGISTERED, INVALID_ARGUMENT 로 실패하면 토큰 캐시에서도
+ * 제거한다.
+ *
+ * <p>토큰 조회에 실패한 회원의 메시지는 버리지 않고 다음 주기에 다시 큐에 넣으며, lookup-attempts 번 실패하면 버린다. 캐시에 토큰이 있는 회원은
+ * 조회 실패와 상관없이 바로 전송한다.
+ */
+@Slf4j
+@Service
+public class FCMDispatchService {
+
+  // FCM sendAll 최대 메시지 수
+  static final int MAX_BATCH_SIZE = 500;
+
+  private final FirebaseMessaging firebaseMessaging;
+  private final ConsumerClientService consumerClientService;
+  private final BlockingQueue<PendingMessage> pendingMessages;
+  private final Cache<String, Boolean> deadTokens;
+  private final long dispatchWindowMillis;
+  private final int lookupAttempts;
+  private ScheduledExecutorService dispatcher;
+
+  public FCMDispatchService(
+      FirebaseMessaging firebaseMessaging,
+      ConsumerClientService consumerClientService,
+      @Value("${notification.fcm.queue-capacity:100000}") int queueCapacity,
+      @Value("${notification.fcm.dispatch-window-millis:100}") long dispatchWindowMillis,
+      @Value("${notification.fcm.dead-token-ttl-millis:86400000}") long deadTokenTtlMillis,
+      @Value("${notification.fcm.lookup-attempts:3}") int lookupAttempts) {
+
+    this.firebaseMessaging = firebaseMessaging;
+    this.consumerClientService = consumerClientService;
+    this.pendingMessages = new ArrayBlockingQueue<>(queueCapacity);
+    this.deadTokens =
+        Caffeine.newBuilder()
+            .maximumSize(queueCapacity)
+            .expireAfterWrite(deadTokenTtlMillis, TimeUnit.MILLISECONDS)
+            .build();
+    this.dispatchWindowMillis = dispatchWindowMillis;
+    this.lookupAttempts = lookupAttempts;
+  }
+
+  @PostConstruct
+  public void start() {
+
+    dispatcher = Executors.newSingleThreadScheduledExecutor();
+    dispatcher.scheduleWithFixedDelay(
+        this::flush, dispatchWindowMillis, dispatchWindowMillis, TimeUnit.MILLISECONDS);
+  }
+
+  @PreDestroy
+  public void stop() {
+
+    dispatcher.shutdown();
+    flush();
+  }
+
+  /**
+   * 전송 큐에 추가 (블로킹 없음)
+   *
+   * @param memberId 수신 회원 식별자
+   * @param fcmNotificationDto 알림 제목 + 내용
+   * @return {boolean} 큐에 추가 성공 여부 (가득 찬 경우 false)
+   */
+  public boolean enqueue(Long memberId, FCMNotificationRequestDto fcmNotificationDto) {
+
+    boolean queued = pendingMessages.offer(new PendingMessage(memberId, fcmNotificationDto, 0));
+    if (!queued) {
+      log.error("[During fcm Logic]: queue is full. targetMemberId={}", memberId);
+    }
+    return queued;
+  }
+
+  /**
+   * 전송 큐에 추가 (가득 찬 경우 자리가 날 때까지 대기)
+   *
+   * @param memberId 수신 회원 식별자
+   * @param fcmNotificationDto 알림 제목 + 내용
+   * @param timeoutMillis 최대 대기 시간
+   * @return {boolean} 큐에 추가 성공 여부 (대기 시간 안에 자리가 나지 않은 경우 false)
+   * @throws InterruptedException 대기 중 인터럽트
+   */
+  public boolean enqueue(
+      Long memberId, FCMNotificationRequestDto fcmNotificationDto, long timeoutMillis)
+      throws InterruptedException {
+
+    boolean queued =
+        pendingMessages.offer(
+            new PendingMessage(memberId, fcmNotificationDto, 0),
+            timeoutMillis,
+            TimeUnit.MILLISECONDS);
+    if (!queued) {
+      log.error("[During fcm Logic]: queue is still full. targetMemberId={}", memberId);
+    }
+    return queued;
+  }
+
+  /** 큐에 쌓인 메시지를 최대 500건씩 묶어서 비동기 전송, 토큰 조회에 실패한 메시지는 다음 주기에 다시 전송 */
+  public void flush() {
+
+    List<PendingMessage> drained = new ArrayList<>(MAX_BATCH_SIZE);
+    List<PendingMessage> retries = new ArrayList<>();
+    while (pendingMessages.drainTo(drained, MAX_BATCH_SIZE) > 0) {
+      try {
+        retries.addAll(sendBatch(drained));
+      } catch (Exception e) {
+        log.error("[During fcm Logic]: Error while dispatching batch={}", e.getMessage());
+        retries.addAll(drained);
+      }
+      drained.clear();
+    }
+    requeue(retries);
+  }
+
+  /**
+   * @return {List<PendingMessage>} 토큰 조회에 실패해 다시 보낼 메시지
+   */
+  private List<PendingMessage> sendBatch(List<PendingMessage> batch) {
+
+    Set<Long> memberIds = new HashSet<>();
+    for (PendingMessage pendingMessage : batch) {
+      memberIds.add(pendingMessage.memberId);
+    }
+    Set<Long> unresolvedIds = new HashSet<>();
+    Map<Long, String> tokensByMember =
+        consumerClientService.getConsumerFCMTokens(memberIds, unresolvedIds);
+
+    List<PendingMessage> retries = new ArrayList<>();
+    List<Message> messages = new ArrayList<>(batch.size());
+    List<Long> recipientIds = new ArrayList<>(batch.size());
+    List<String> tokens = new ArrayList<>(batch.size());
+    for (PendingMessage pendingMessage : batch) {
+      if (unresolvedIds.contains(pendingMessage.memberId)) {
+        retries.add(pendingMessage);
+        continue;
+      }
+      String token = resolveToken(pendingMessage.memberId, tokensByMember);
+      if (token == null) {
+        continue;
+      }
+      recipientIds.add(pendingMessage.memberId);
+      tokens.add(token);
+      messages.add(toMessage(token, pendingMessage.fcmNotificationDto));
+    }
+    if (messages.isEmpty()) {
+      return retries;
+    }
+
+    ApiFutures.addCallback(
+        firebaseMessaging.sendAllAsync(messages),
+        new ApiFutureCallback<BatchResponse>() {
+          @Override
+          public void onSuccess(BatchResponse batchResponse) {
+            handleResponses(recipientIds, tokens, batchResponse);
+          }
+
+          @Override
+          public void onFailure(Throwable t) {
+            log.error("[During fcm Logic]: Error firebaseMessaging.sendAll()={}", t.getMessage());
+          }
+        },
+        MoreExecutors.directExecutor());
+    return retries;
+  }
+
+  // 시도 횟수를 넘겼거나 큐가 가득 찬 메시지는 버림
+  private void requeue(List<PendingMessage> retries) {
+
+    for (PendingMessage pendingMessage : retries) {
+      PendingMessage retry = pendingMessage.nextAttempt();
+      if (retry.attempts >= lookupAttempts || !pendingMessages.offer(retry)) {
+        log.error(
+            "[During fcm Logic]: Error dropped after token lookup failures. targetMemberId={}",
+            pendingMessage.memberId);
+      }
+    }
+  }
+
+  private String resolveToken(Long memberId, Map<Long, String> tokensByMember) {
+
+    String token = tokensByMember.get(memberId);
+    if (token == null) {
+      log.info("[During fcm Logic]: " + CustomErrMessage.NOT_FOUND_FCM_TOKEN + " " + memberId);
+      return null;
+    }
+    if (deadTokens.getIfPresent(token) != null) {
+      return null;
+    }
+    return token;
+  }
+
+  // 응답 순서는 요청 순서와 같으므로 인덱스로 토큰을 찾음
+  private void handleResponses(
+      List<Long> recipientIds, List<String> tokens, BatchResponse batchResponse) {
+
+    List<SendResponse> responses = batchResponse.getResponses();
+    for (int i = 0; i < responses.size(); i++) {
+      SendResponse response = responses.get(i);
+      if (response.isSuccessful()) {
+        continue;
+      }
+      FirebaseMessagingException exception = response.getException();
+      MessagingErrorCode errorCode = exception.getMessagingErrorCode();
+      if (errorCode == MessagingErrorCode.UNREGISTERED) {
+        deadTokens.put(tokens.get(i), Boolean.TRUE);
+      }
+      if (errorCode == MessagingErrorCode.UNREGISTERED
+          || errorCode == MessagingErrorCode.INVALID_ARGUMENT) {
+        consumerClientService.evictConsumerFCMToken(recipientIds.get(i));
+      }
+      log.error("[During fcm Logic]: Fail Sending Notification={}", exception.getMessage());
+    }
+  }
+
+  private Message toMessage(String token, FCMNotificationRequestDto fcmNotificationDto) {
+
+    Notification notification =
+        Notification.builder()
+            .setTitle(fcmNotificationDto.getTitle())
+            .setBody(fcmNotificationDto.getBody())
+            .build();
+    return Message.builder().setToken(token).setNotification(notification).build();
+  }
+
+  private static class PendingMessage {
+
+    private final Long memberId;
+    private final FCMNotificationRequestDto fcmNotificationDto;
+    // 토큰 조회에 실패한 횟수
+    private final int attempts;
+
+    private PendingMessage(
+        Long memberId, FCMNotificationRequestDto fcmNotificationDto, int attempts) {
+      this.memberId = memberId;
+      this.fcmNotificationDto = fcmNotificationDto;
+      this.attempts = attempts;
+    }
+
+    private PendingMessage nextAttempt() {
+      return new PendingMessage(memberId, fcmNotificationDto, attempts + 1);
+    }
+  }
+}
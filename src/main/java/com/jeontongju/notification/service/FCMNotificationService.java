@@ -1,48 +1,114 @@
 package com.jeontongju.notification.service;
 
-import com.google.firebase.messaging.FirebaseMessaging;
-import com.google.firebase.messaging.FirebaseMessagingException;
-import com.google.firebase.messaging.Message;
-import com.google.firebase.messaging.Notification;
-import com.jeontongju.notification.dto.FCMTokenDto;
 import com.jeontongju.notification.dto.request.FCMNotificationRequestDto;
-import com.jeontongju.notification.feign.ConsumerClientService;
-import com.jeontongju.notification.utils.CustomErrMessage;
-import lombok.RequiredArgsConstructor;
+import com.jeontongju.notification.dto.temp.DeferredFCMMessageDto;
+import com.jeontongju.notification.repository.FCMDeferredMessageRepository;
+import java.util.List;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+/**
+ * FCM 알림 전송
+ *
+ * <p>전송 한도를 넘은 메시지는 Redis 에 회원별로 묶어두므로 노드가 재시작되어도 사라지지 않는다. 묶음 메시지를 전송 큐에 넣지 못하면 다시 미뤄 다음
+ * 주기에 전송한다.
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class FCMNotificationService {
 
-  private final FirebaseMessaging firebaseMessaging;
-  private final ConsumerClientService consumerClientService;
+  private final FCMDispatchService fcmDispatchService;
+  private final NotificationRateLimiter notificationRateLimiter;
+  private final FCMDeferredMessageRepository fcmDeferredMessageRepository;
+  private final int digestBatchSize;
+
+  public FCMNotificationService(
+      FCMDispatchService fcmDispatchService,
+      NotificationRateLimiter notificationRateLimiter,
+      FCMDeferredMessageRepository fcmDeferredMessageRepository,
+      @Value("${notification.rate-limit.fcm-digest-batch-size:500}") int digestBatchSize) {
+
+    this.fcmDispatchService = fcmDispatchService;
+    this.notificationRateLimiter = notificationRateLimiter;
+    this.fcmDeferredMessageRepository = fcmDeferredMessageRepository;
+    this.digestBatchSize = digestBatchSize;
+  }
 
   public String sendNotificationByToken(
       Long memberId, FCMNotificationRequestDto fcmNotificationDto) {
 
-    FCMTokenDto fcmTokenDto = consumerClientService.getConsumerFCMToken(memberId);
+    // 한도를 넘으면 버리지 않고 묶어서 나중에 한 번에 전송
+    if (!notificationRateLimiter.tryAcquire(NotificationRateLimiter.FCM_CHANNEL, memberId, null)
+        && defer(toDeferredDto(memberId, fcmNotificationDto), true)) {
+      return "Deferred Notification. targetMemberId=" + memberId;
+    }
+
+    // 토큰 조회와 전송은 FCMDispatchService 에서 묶어서 비동기로 처리
+    if (fcmDispatchService.enqueue(memberId, fcmNotificationDto)) {
+      return "Queued Notification. targetMemberId=" + memberId;
+    }
+    return "Fail Sending Notification. targetMemberId=" + memberId;
+  }
+
+  /** 미룬 메시지를 회원별 묶음 메시지 한 건으로 전송 (큐가 가득 차면 다시 미룸) */
+  @Scheduled(fixedDelayString = "${notification.rate-limit.fcm-digest-interval-millis:10000}")
+  public void flushDeferredMessages() {
+
+    List<DeferredFCMMessageDto> deferredDtos;
+    try {
+      deferredDtos = fcmDeferredMessageRepository.claimAllDue(digestBatchSize);
+    } catch (Exception e) {
+      log.error("[During fcm Logic]: Error while claiming deferred messages={}", e.getMessage());
+      return;
+    }
 
-    if (fcmTokenDto.getFcmToken() == null) {
-      throw new RuntimeException(CustomErrMessage.NOT_FOUND_FCM_TOKEN);
+    for (DeferredFCMMessageDto deferredDto : deferredDtos) {
+      if (!fcmDispatchService.enqueue(deferredDto.getMemberId(), toDigest(deferredDto))) {
+        defer(deferredDto, false);
+      }
     }
-    Notification notification =
-        Notification.builder()
-            .setTitle(fcmNotificationDto.getTitle())
-            .setBody(fcmNotificationDto.getBody())
-            .build();
+  }
 
-    Message message =
-        Message.builder().setToken(fcmTokenDto.getFcmToken()).setNotification(notification).build();
+  // Redis 에 저장하지 못하면 미루지 않고 바로 전송
+  private boolean defer(DeferredFCMMessageDto deferredDto, boolean overwrite) {
 
     try {
-      firebaseMessaging.send(message);
-      return "Successful Send Notification. targetMemberId=" + memberId;
-    } catch (FirebaseMessagingException e) {
-      log.error("[During fcm Logic]: Error firebaseMessaging.send()={}", e.getMessage());
-      return "Fail Sending Notification. targetMemberId=" + memberId;
+      fcmDeferredMessageRepository.save(deferredDto, overwrite);
+      return true;
+    } catch (Exception e) {
+      log.error(
+          "[During fcm Logic]: Error while deferring message. targetMemberId={}, error={}",
+          deferredDto.getMemberId(),
+          e.getMessage());
+      return false;
+    }
+  }
+
+  private DeferredFCMMessageDto toDeferredDto(
+      Long memberId, FCMNotificationRequestDto fcmNotificationDto) {
+
+    return DeferredFCMMessageDto.builder()
+        .memberId(memberId)
+        .title(fcmNotificationDto.getTitle())
+        .body(fcmNotificationDto.getBody())
+        .deferredCount(1)
+        .build();
+  }
+
+  private FCMNotificationRequestDto toDigest(DeferredFCMMessageDto deferredDto) {
+
+    if (deferredDto.getDeferredCount() == 1) {
+      return FCMNotificationRequestDto.builder()
+          .title(deferredDto.getTitle())
+          .body(deferredDto.getBody())
+          .build();
     }
+    return FCMNotificationRequestDto.builder()
+        .title(deferredDto.getTitle())
+        .body(
+            deferredDto.getBody() + " 외 " + (deferredDto.getDeferredCount() - 1) + "건의 알림이 있습니다.")
+        .build();
   }
 }
@@ -0,0 +1,136 @@
+package com.jeontongju.notification.service;
+
+import com.jeontongju.notification.exception.ForbiddenMemberRoleException;
+import com.jeontongju.notification.exception.InvalidDltTopicException;
+import com.jeontongju.notification.utils.CustomErrMessage;
+import io.github.bitbox.bitbox.enums.MemberRoleEnum;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Service;
+import org.springframework.util.concurrent.ListenableFuture;
+
+/**
+ * DLT 레코드 재처리
+ *
+ * <p>DLT 를 전용 컨슈머 그룹으로 읽어서 원래 토픽으로 다시 발행한다. 발행이 끝난 레코드까지만 오프셋을 커밋하므로 같은 레코드를 두 번 리플레이하지
+ * 않는다. 관리자만 호출할 수 있고, 메인 토픽을 넘기면 레코드를 통째로 다시 발행하게 되므로 -dlt 토픽만 받는다.
+ */
+@Slf4j
+@Service
+public class KafkaDltReplayService {
+
+  private static final Duration POLL_TIMEOUT = Duration.ofSeconds(1);
+  private static final String DLT_SUFFIX = "-dlt";
+
+  private final ConsumerFactory<Object, Object> consumerFactory;
+  private final KafkaTemplate<Object, Object> kafkaTemplate;
+  private final String replayGroupId;
+
+  public KafkaDltReplayService(
+      ConsumerFactory<Object, Object> consumerFactory,
+      KafkaTemplate<Object, Object> kafkaTemplate,
+      @Value("${notification.kafka.dlt.replay-group-id:notification-dlt-replay}")
+          String replayGroupId) {
+
+    this.consumerFactory = consumerFactory;
+    this.kafkaTemplate = kafkaTemplate;
+    this.replayGroupId = replayGroupId;
+  }
+
+  /**
+   * DLT 레코드를 원래 토픽으로 다시 발행
+   *
+   * @param memberRole 요청한 회원 역할 (관리자만 가능)
+   * @param dltTopic 재처리할 DLT 토픽
+   * @param maxRecords 한 번에 재처리할 최대 레코드 수
+   * @return {int} 다시 발행한 레코드 수
+   * @throws ExecutionException 발행 실패
+   * @throws InterruptedException 발행 대기 중 인터럽트
+   */
+  public int replay(MemberRoleEnum memberRole, String dltTopic, int maxRecords)
+      throws ExecutionException, InterruptedException {
+
+    if (memberRole != MemberRoleEnum.ROLE_ADMIN) {
+      throw new ForbiddenMemberRoleException(CustomErrMessage.FORBIDDEN_MEMBER_ROLE);
+    }
+    if (dltTopic == null || !dltTopic.endsWith(DLT_SUFFIX)) {
+      throw new InvalidDltTopicException(CustomErrMessage.INVALID_DLT_TOPIC);
+    }
+
+    Properties properties = new Properties();
+    properties.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+    properties.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+    properties.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxRecords);
+
+    int replayedCounts = 0;
+    try (Consumer<Object, Object> consumer =
+        consumerFactory.createConsumer(replayGroupId, null, "-replay", properties)) {
+
+      List<TopicPartition> partitions = new ArrayList<>();
+      consumer
+          .partitionsFor(dltTopic)
+          .forEach(info -> partitions.add(new TopicPartition(dltTopic, info.partition())));
+      consumer.assign(partitions);
+
+      while (replayedCounts < maxRecords) {
+        ConsumerRecords<Object, Object> records = consumer.poll(POLL_TIMEOUT);
+        if (records.isEmpty()) {
+          break;
+        }
+
+        Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+        List<ListenableFuture<SendResult<Object, Object>>> futures = new ArrayList<>();
+        for (ConsumerRecord<Object, Object> record : records) {
+          if (replayedCounts >= maxRecords) {
+            break;
+          }
+          futures.add(
+              kafkaTemplate.send(
+                  new ProducerRecord<>(findOriginalTopic(record), record.key(), record.value())));
+          offsets.put(
+              new TopicPartition(record.topic(), record.partition()),
+              new OffsetAndMetadata(record.offset() + 1));
+          replayedCounts++;
+        }
+        for (ListenableFuture<SendResult<Object, Object>> future : futures) {
+          future.get();
+        }
+        consumer.commitSync(offsets);
+      }
+    }
+
+    log.info("[KafkaDltReplayService's replay executes]: " + dltTopic + " " + replayedCounts);
+    return replayedCounts;
+  }
+
+  // 재시도 단계 토픽에서 실패한 레코드도 메인 토픽으로 보내서 재시도 단계를 처음부터 다시 거치게 함
+  private String findOriginalTopic(ConsumerRecord<Object, Object> record) {
+
+    Header originalTopic = record.headers().lastHeader(KafkaHeaders.DLT_ORIGINAL_TOPIC);
+    String topic =
+        originalTopic == null
+            ? record.topic().substring(0, record.topic().length() - DLT_SUFFIX.length())
+            : new String(originalTopic.value(), StandardCharsets.UTF_8);
+    return topic.replaceFirst("-retry(-\\d+)?$", "");
+  }
+}
@@ -0,0 +1,232 @@
+package com.jeontongju.notification.service;
+
+import com.jeontongju.notification.dto.request.BroadcastNotificationRequestDto;
+import com.jeontongju.notification.dto.request.FCMNotificationRequestDto;
+import com.jeontongju.notification.dto.response.BroadcastJobInfoResponseDto;
+import com.jeontongju.notification.enums.BroadcastStatusEnum;
+import com.jeontongju.notification.exception.BroadcastJobNotFoundException;
+import com.jeontongju.notification.exception.ForbiddenMemberRoleException;
+import com.jeontongju.notification.exception.InvalidBroadcastRecipientException;
+import com.jeontongju.notification.feign.AuthenticationClientService;
+import com.jeontongju.notification.repository.BroadcastJobRepository;
+import com.jeontongju.notification.utils.CustomErrMessage;
+import io.github.bitbox.bitbox.dto.MemberInfoForNotificationDto;
+import io.github.bitbox.bitbox.enums.MemberRoleEnum;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 한 알림을 여러 회원에게 전송 (수신자 목록 또는 역할 전체)
+ *
+ * <p>수신자를 chunk-size 단위로 나눠 알림과 아웃박스를 한 번에 저장하고, SSE 전송은 아웃박스 릴레이가, FCM 전송은 FCM 전송 큐가 각자
+ * 처리한다. 작업 진행 상황은 묶음마다 Redis 에 반영하므로 어느 노드에서든 조회할 수 있다.
+ *
+ * <p>FCM 전송 큐가 가득 차면 자리가 날 때까지 fcm-enqueue-timeout-millis 만큼 기다리며 전송 속도를 늦추고, 그래도 자리가 나지 않은 수신자만
+ * 거부 개수로 센다. 전송 시작과 진행 상황 조회는 관리자만 가능하고, 수신자 목록과 수신자 유형이 모두 없는 요청은 작업을 만들지 않고 거부한다.
+ */
+@Slf4j
+@Service
+public class NotificationBroadcastService {
+
+  private final NotificationService notificationService;
+  private final FCMDispatchService fcmDispatchService;
+  private final AuthenticationClientService authenticationClientService;
+  private final BroadcastJobRepository broadcastJobRepository;
+  private final ExecutorService broadcastExecutor;
+  private final int chunkSize;
+  private final long fcmEnqueueTimeoutMillis;
+  private final Counter recipientCounter;
+
+  public NotificationBroadcastService(
+      NotificationService notificationService,
+      FCMDispatchService fcmDispatchService,
+      AuthenticationClientService authenticationClientService,
+      BroadcastJobRepository broadcastJobRepository,
+      MeterRegistry meterRegistry,
+      @Value("${notification.broadcast.threads:2}") int threads,
+      @Value("${notification.broadcast.chunk-size:1000}") int chunkSize,
+      @Value("${notification.broadcast.fcm-enqueue-timeout-millis:5000}")
+          long fcmEnqueueTimeoutMillis) {
+
+    this.notificationService = notificationService;
+    this.fcmDispatchService = fcmDispatchService;
+    this.authenticationClientService = authenticationClientService;
+    this.broadcastJobRepository = broadcastJobRepository;
+    this.broadcastExecutor = Executors.newFixedThreadPool(threads);
+    this.chunkSize = chunkSize;
+    this.fcmEnqueueTimeoutMillis = fcmEnqueueTimeoutMillis;
+    this.recipientCounter =
+        Counter.builder("notification.broadcast.recipients").register(meterRegistry);
+  }
+
+  @PreDestroy
+  public void stop() {
+    broadcastExecutor.shutdown();
+  }
+
+  /**
+   * 전송 작업 시작 (바로 반환하고 백그라운드에서 전송)
+   *
+   * @param memberRole 요청한 회원 역할 (관리자만 가능)
+   * @param broadcastDto 알림 유형 + 수신자 목록 또는 역할 + FCM 내용
+   * @return {String} 작업 식별자
+   */
+  public String broadcast(MemberRoleEnum memberRole, BroadcastNotificationRequestDto broadcastDto) {
+
+    checkAdmin(memberRole);
+    List<Long> recipientIds = broadcastDto.getRecipientIds();
+    if ((recipientIds == null || recipientIds.isEmpty())
+        && broadcastDto.getRecipientType() == null) {
+      throw new InvalidBroadcastRecipientException(CustomErrMessage.INVALID_BROADCAST_RECIPIENT);
+    }
+
+    String jobId = UUID.randomUUID().toString();
+    broadcastJobRepository.save(
+        jobId, broadcastDto.getNotificationType(), broadcastDto.getRecipientType());
+    broadcastExecutor.execute(() -> run(jobId, broadcastDto));
+    return jobId;
+  }
+
+  /**
+   * 전송 작업 진행 상황 조회
+   *
+   * @param memberRole 요청한 회원 역할 (관리자만 가능)
+   * @param jobId 작업 식별자
+   * @return {BroadcastJobInfoResponseDto} 처리 개수 + 처리 속도
+   */
+  public BroadcastJobInfoResponseDto getJobInfo(MemberRoleEnum memberRole, String jobId) {
+
+    checkAdmin(memberRole);
+    return broadcastJobRepository
+        .findByJobId(jobId)
+        .orElseThrow(
+            () -> new BroadcastJobNotFoundException(CustomErrMessage.NOT_FOUND_BROADCAST_JOB));
+  }
+
+  private void checkAdmin(MemberRoleEnum memberRole) {
+
+    if (memberRole != MemberRoleEnum.ROLE_ADMIN) {
+      throw new ForbiddenMemberRoleException(CustomErrMessage.FORBIDDEN_MEMBER_ROLE);
+    }
+  }
+
+  private void run(String jobId, BroadcastNotificationRequestDto broadcastDto) {
+
+    long processedCounts = 0L;
+    BroadcastStatusEnum status = BroadcastStatusEnum.COMPLETED;
+    try {
+      List<Long> recipientIds = broadcastDto.getRecipientIds();
+      if (recipientIds != null && !recipientIds.isEmpty()) {
+        for (int from = 0; from < recipientIds.size(); from += chunkSize) {
+          processedCounts +=
+              sendChunk(
+                  jobId,
+                  broadcastDto,
+                  recipientIds.subList(from, Math.min(from + chunkSize, recipientIds.size())));
+        }
+      } else {
+        processedCounts = sendToRole(jobId, broadcastDto);
+      }
+    } catch (InterruptedException e) {
+      log.error("[During broadcast]: Error interrupted while queueing fcm={}", e.getMessage());
+      Thread.currentThread().interrupt();
+      status = BroadcastStatusEnum.FAILED;
+    } catch (Exception e) {
+      log.error("[During broadcast]: Error while reading recipients={}", e.getMessage());
+      status = BroadcastStatusEnum.FAILED;
+    }
+
+    try {
+      broadcastJobRepository.finish(jobId, status);
+    } catch (Exception e) {
+      log.error("[During broadcast]: Error while finishing job={}", e.getMessage());
+    }
+    log.info("[NotificationBroadcastService's run executes]: " + processedCounts + "명에게 전송");
+  }
+
+  // 역할 전체 회원을 커서로 나눠 가져오면서 전송
+  private long sendToRole(String jobId, BroadcastNotificationRequestDto broadcastDto)
+      throws InterruptedException {
+
+    MemberRoleEnum memberRole = MemberRoleEnum.valueOf(broadcastDto.getRecipientType().name());
+    long processedCounts = 0L;
+    Long cursor = null;
+    while (true) {
+      List<Long> recipientIds =
+          authenticationClientService.getMemberIdsByRole(memberRole, cursor, chunkSize);
+      if (recipientIds.isEmpty()) {
+        return processedCounts;
+      }
+      processedCounts += sendChunk(jobId, broadcastDto, recipientIds);
+      if (recipientIds.size() < chunkSize) {
+        return processedCounts;
+      }
+      cursor = recipientIds.get(recipientIds.size() - 1);
+    }
+  }
+
+  // 실패한 묶음은 세어두고 다음 묶음을 계속 처리, FCM 전송 큐가 가득 차면 자리가 날 때까지 대기
+  private long sendChunk(
+      String jobId, BroadcastNotificationRequestDto broadcastDto, List<Long> recipientIds)
+      throws InterruptedException {
+
+    List<MemberInfoForNotificationDto> notificationDtos = new ArrayList<>(recipientIds.size());
+    for (Long recipientId : recipientIds) {
+      notificationDtos.add(
+          MemberInfoForNotificationDto.builder()
+              .recipientId(recipientId)
+              .recipientType(broadcastDto.getRecipientType())
+              .notificationType(broadcastDto.getNotificationType())
+              .build());
+    }
+
+    try {
+      notificationService.sendAll(notificationDtos);
+    } catch (Exception e) {
+      log.error("[During broadcast]: Error while saving chunk={}", e.getMessage());
+      increaseCounts(jobId, 0L, recipientIds.size(), 0L, 0L);
+      return 0L;
+    }
+    recipientCounter.increment(recipientIds.size());
+
+    long fcmQueuedCounts = 0L;
+    long fcmRejectedCounts = 0L;
+    FCMNotificationRequestDto fcmNotification = broadcastDto.getFcmNotification();
+    if (fcmNotification != null) {
+      for (Long recipientId : recipientIds) {
+        if (fcmDispatchService.enqueue(recipientId, fcmNotification, fcmEnqueueTimeoutMillis)) {
+          fcmQueuedCounts++;
+        } else {
+          fcmRejectedCounts++;
+        }
+      }
+    }
+    increaseCounts(jobId, recipientIds.size(), 0L, fcmQueuedCounts, fcmRejectedCounts);
+    return recipientIds.size();
+  }
+
+  // 진행 상황 반영에 실패해도 전송은 계속
+  private void increaseCounts(
+      String jobId,
+      long processedCounts,
+      long failedCounts,
+      long fcmQueuedCounts,
+      long fcmRejectedCounts) {
+
+    try {
+      broadcastJobRepository.increaseCounts(
+          jobId, processedCounts, failedCounts, fcmQueuedCounts, fcmRejectedCounts);
+    } catch (Exception e) {
+      log.error("[During broadcast]: Error while updating job counts={}", e.getMessage());
+    }
+  }
+}
@@ -0,0 +1,126 @@
+package com.jeontongju.notification.service;
+
+import com.jeontongju.notification.dto.temp.AggregatedNotificationDto;
+import com.jeontongju.notification.repository.CoalesceWindowRepository;
+import io.github.bitbox.bitbox.dto.MemberInfoForNotificationDto;
+import io.github.bitbox.bitbox.enums.NotificationTypeEnum;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 같은 회원에게 짧은 시간 안에 몰리는 알림 유형 묶기
+ *
+ * <p>(회원, 알림 유형)별 첫 알림은 바로 보내고, 묶음 시간 동안 들어온 나머지는 개수만 세었다가 시간이 지나면 묶음 알림 한 건으로 저장한다. 묶는 동안의
+ * 개수는 Redis 에 두므로 노드가 종료되거나 저장에 실패해도 다음 주기에 어느 노드든 다시 저장한다(저장 후 완료 표시 전에 종료되면 한 번 더 저장될 수
+ * 있음).
+ */
+@Slf4j
+@Service
+public class NotificationCoalescer {
+
+  private final NotificationService notificationService;
+  private final CoalesceWindowRepository coalesceWindowRepository;
+  private final Set<NotificationTypeEnum> coalescingTypes;
+  private final long windowMillis;
+  private final long flushLeaseMillis;
+  private final int flushBatchSize;
+  private final Counter absorbedCounter;
+
+  public NotificationCoalescer(
+      NotificationService notificationService,
+      CoalesceWindowRepository coalesceWindowRepository,
+      MeterRegistry meterRegistry,
+      @Value("${notification.coalesce.types:OUT_OF_STOCK,BALANCE_ACCOUNTS}")
+          List<NotificationTypeEnum> coalescingTypes,
+      @Value("${notification.coalesce.window-millis:5000}") long windowMillis,
+      @Value("${notification.coalesce.flush-lease-millis:30000}") long flushLeaseMillis,
+      @Value("${notification.coalesce.flush-batch-size:500}") int flushBatchSize) {
+
+    this.notificationService = notificationService;
+    this.coalesceWindowRepository = coalesceWindowRepository;
+    this.coalescingTypes =
+        coalescingTypes.isEmpty()
+            ? EnumSet.noneOf(NotificationTypeEnum.class)
+            : EnumSet.copyOf(coalescingTypes);
+    this.windowMillis = windowMillis;
+    this.flushLeaseMillis = flushLeaseMillis;
+    this.flushBatchSize = flushBatchSize;
+    this.absorbedCounter =
+        Counter.builder("notification.coalesce.absorbed").register(meterRegistry);
+  }
+
+  /**
+   * 묶을 유형이면 묶음 시간에 누적 (구간의 첫 알림은 바로 보냄)
+   *
+   * @param notificationDto 수신 회원 정보 + 알림 유형
+   * @return {boolean} 바로 보내야 하는지 여부
+   */
+  public boolean offer(MemberInfoForNotificationDto notificationDto) {
+
+    if (!coalescingTypes.contains(notificationDto.getNotificationType())) {
+      return true;
+    }
+
+    boolean opened =
+        coalesceWindowRepository.saveOrIncrease(toAggregatedDto(notificationDto, 0), closesAt());
+    if (!opened) {
+      absorbedCounter.increment();
+    }
+    return opened;
+  }
+
+  /**
+   * 전송 한도를 넘은 알림을 묶음 알림으로 미룸 (알림 유형과 상관없이 현재 구간에 누적)
+   *
+   * @param notificationDto 수신 회원 정보 + 알림 유형
+   */
+  public void defer(MemberInfoForNotificationDto notificationDto) {
+
+    coalesceWindowRepository.saveOrIncrease(toAggregatedDto(notificationDto, 1), closesAt());
+    absorbedCounter.increment();
+  }
+
+  /** 묶음 시간이 지난 구간을 선점해서 묶음 알림으로 저장, 실패하면 선점을 풀어 다음 주기에 다시 저장 */
+  @Scheduled(fixedDelayString = "${notification.coalesce.flush-interval-millis:1000}")
+  public void flushExpiredWindows() {
+
+    long now = System.currentTimeMillis();
+    List<AggregatedNotificationDto> aggregatedDtos =
+        coalesceWindowRepository.claimAllDue(now, now + flushLeaseMillis, flushBatchSize);
+    if (aggregatedDtos.isEmpty()) {
+      return;
+    }
+
+    try {
+      notificationService.sendAllAggregated(aggregatedDtos);
+    } catch (Exception e) {
+      log.error(
+          "During Send Event: Error while flushing aggregated notification={}", e.getMessage());
+      coalesceWindowRepository.releaseAll(aggregatedDtos);
+      return;
+    }
+    coalesceWindowRepository.deleteAll(aggregatedDtos);
+  }
+
+  private long closesAt() {
+    return System.currentTimeMillis() + windowMillis;
+  }
+
+  private AggregatedNotificationDto toAggregatedDto(
+      MemberInfoForNotificationDto notificationDto, int aggregatedCount) {
+
+    return AggregatedNotificationDto.builder()
+        .recipientId(notificationDto.getRecipientId())
+        .recipientType(notificationDto.getRecipientType())
+        .notificationType(notificationDto.getNotificationType())
+        .aggregatedCount(aggregatedCount)
+        .build();
+  }
+}
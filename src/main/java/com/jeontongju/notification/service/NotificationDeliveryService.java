@@ -0,0 +1,411 @@
+package com.jeontongju.notification.service;
+
+import com.jeontongju.notification.dto.response.NotificationInfoResponseDto;
+import com.jeontongju.notification.dto.temp.CachedEventDto;
+import com.jeontongju.notification.dto.temp.NotificationEnvelopeDto;
+import com.jeontongju.notification.enums.NotificationPriorityEnum;
+import com.jeontongju.notification.redis.NotificationRedisPublisher;
+import com.jeontongju.notification.repository.EmitterPresenceRepository;
+import com.jeontongju.notification.repository.EmitterRepository;
+import com.jeontongju.notification.repository.EventStreamRepository;
+import com.jeontongju.notification.utils.NodeIdManager;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.util.concurrent.Queues;
+
+/**
+ * SSE 이벤트 전달 담당
+ *
+ * <p>local 모드는 현재 노드의 SseEmitter로만 전송하고, redis 모드는 해당 회원이 연결된 노드들에만 Redis 채널로 발행한다.
+ * reactive 연결(Flux)은 연결별 Sink 로 같은 이벤트를 전달받는다.
+ *
+ * <p>Redis 연결 정보는 현재 노드의 연결 목록과 같은 잠금 안에서 저장, 제거하므로, 마지막 연결 종료와 재연결이 겹쳐도 살아있는 연결의
+ * 정보가 지워지지 않는다.
+ */
+@Slf4j
+@Service
+public class NotificationDeliveryService {
+
+  private final EmitterRepository emitterRepository;
+  private final EmitterPresenceRepository emitterPresenceRepository;
+  private final NotificationRedisPublisher notificationRedisPublisher;
+  private final NodeIdManager nodeIdManager;
+  private final SseDispatchService sseDispatchService;
+  private final EventStreamRepository eventStreamRepository;
+  private final boolean redisMode;
+  private final int streamBufferSize;
+  private final Duration streamTimeout;
+  // 회원 식별자 -> 현재 노드의 연결 (emitterId 또는 Sink)
+  private final Map<Long, Set<Object>> connections = new ConcurrentHashMap<>();
+  // 모든 reactive 연결이 공유하는 하트비트 (타이머 하나)
+  private final Flux<ServerSentEvent<NotificationInfoResponseDto>> heartbeats;
+
+  public NotificationDeliveryService(
+      EmitterRepository emitterRepository,
+      EmitterPresenceRepository emitterPresenceRepository,
+      NotificationRedisPublisher notificationRedisPublisher,
+      NodeIdManager nodeIdManager,
+      SseDispatchService sseDispatchService,
+      EventStreamRepository eventStreamRepository,
+      @Value("${notification.sse.delivery-mode:local}") String deliveryMode,
+      @Value("${notification.sse.stream.buffer-size:64}") int streamBufferSize,
+      @Value("${notification.sse.stream.timeout-millis:1800000}") long streamTimeoutMillis,
+      @Value("${notification.sse.heartbeat-millis:25000}") long heartbeatMillis) {
+
+    this.emitterRepository = emitterRepository;
+    this.emitterPresenceRepository = emitterPresenceRepository;
+    this.notificationRedisPublisher = notificationRedisPublisher;
+    this.nodeIdManager = nodeIdManager;
+    this.sseDispatchService = sseDispatchService;
+    this.eventStreamRepository = eventStreamRepository;
+    this.redisMode = "redis".equalsIgnoreCase(deliveryMode);
+    this.streamBufferSize = streamBufferSize;
+    this.streamTimeout = Duration.ofMillis(streamTimeoutMillis);
+    this.heartbeats =
+        Flux.interval(Duration.ofMillis(heartbeatMillis))
+            .map(
+                tick ->
+                    ServerSentEvent.<NotificationInfoResponseDto>builder()
+                        .comment("heartbeat")
+                        .build())
+            .share();
+  }
+
+  /**
+   * SseEmitter 등록 (완료, 오류, 타임 아웃 시 자동 제거)
+   *
+   * @param memberId 로그인 한 회원의 식별자
+   * @param emitterId SseEmitter 객체 식별자 (이메일_식별자_시각)
+   * @param emitter 등록할 SseEmitter 객체
+   * @return {SseEmitter} 등록된 SseEmitter 객체
+   */
+  public SseEmitter register(Long memberId, String emitterId, SseEmitter emitter) {
+
+    Runnable cleanup =
+        () -> {
+          sseDispatchService.unregister(emitter);
+          unregister(memberId, emitterId);
+        };
+    emitterRepository.save(memberId, emitterId, emitter);
+    sseDispatchService.register(emitter, cleanup);
+    emitter.onCompletion(cleanup); // SseEmitter 완료
+    emitter.onError((e) -> cleanup.run());
+    emitter.onTimeout(cleanup); // SseEmitter 타임 아웃
+
+    acquireConnection(memberId, emitterId);
+    return emitter;
+  }
+
+  /**
+   * SseEmitter 제거 (현재 노드에 남은 연결이 없으면 Redis 연결 정보도 제거)
+   *
+   * @param memberId 회원 식별자
+   * @param emitterId SseEmitter 객체 식별자
+   */
+  public void unregister(Long memberId, String emitterId) {
+
+    emitterRepository.deletedById(memberId, emitterId);
+    releaseConnection(memberId, emitterId);
+  }
+
+  /**
+   * reactive 연결용 Sink 등록 (구독 전까지 도착한 이벤트는 버퍼에 보관)
+   *
+   * @param memberId 로그인 한 회원의 식별자
+   * @return {Sinks.Many<ServerSentEvent<NotificationInfoResponseDto>>} 등록된 Sink
+   */
+  public Sinks.Many<ServerSentEvent<NotificationInfoResponseDto>> registerStream(Long memberId) {
+
+    Sinks.Many<ServerSentEvent<NotificationInfoResponseDto>> sink =
+        Sinks.many()
+            .unicast()
+            .onBackpressureBuffer(
+                Queues.<ServerSentEvent<NotificationInfoResponseDto>>get(streamBufferSize).get());
+    eventStreamRepository.save(memberId, sink);
+
+    acquireConnection(memberId, sink);
+    return sink;
+  }
+
+  /**
+   * reactive 연결용 Sink 제거
+   *
+   * @param memberId 회원 식별자
+   * @param sink 제거할 Sink
+   */
+  public void unregisterStream(
+      Long memberId, Sinks.Many<ServerSentEvent<NotificationInfoResponseDto>> sink) {
+
+    eventStreamRepository.delete(memberId, sink);
+    releaseConnection(memberId, sink);
+  }
+
+  /**
+   * 초기 이벤트 뒤에 실시간 이벤트와 하트비트를 이어 붙인 스트림 생성 (연결 종료 시 Sink 자동 제거)
+   *
+   * <p>stream.timeout-millis 가 지나면 스트림을 끝내고, 클라이언트는 Last-Event-ID 로 다시 연결해 이어받는다.
+   *
+   * @param memberId 회원 식별자
+   * @param sink registerStream 으로 등록한 Sink
+   * @param initialEvents 연결 직후 보낼 이벤트
+   * @return {Flux<ServerSentEvent<NotificationInfoResponseDto>>} 클라이언트로 보낼 스트림
+   */
+  public Flux<ServerSentEvent<NotificationInfoResponseDto>> openStream(
+      Long memberId,
+      Sinks.Many<ServerSentEvent<NotificationInfoResponseDto>> sink,
+      Flux<ServerSentEvent<NotificationInfoResponseDto>> initialEvents) {
+
+    return initialEvents
+        .concatWith(Flux.merge(sink.asFlux(), heartbeats))
+        .take(streamTimeout)
+        .doFinally(signal -> unregisterStream(memberId, sink));
+  }
+
+  /**
+   * reactive 연결로 보낼 이벤트 생성
+   *
+   * @param memberId 수신 회원 식별자
+   * @param sequence 이벤트 캐시 시퀀스
+   * @param eventName 이벤트 이름
+   * @param data 전송 내용
+   * @return {ServerSentEvent<NotificationInfoResponseDto>} 생성된 이벤트
+   */
+  public ServerSentEvent<NotificationInfoResponseDto> toServerSentEvent(
+      Long memberId, long sequence, String eventName, NotificationInfoResponseDto data) {
+
+    return ServerSentEvent.<NotificationInfoResponseDto>builder()
+        .id(makeEventId(memberId, sequence))
+        .event(eventName)
+        .data(data)
+        .build();
+  }
+
+  // 연결을 추가하고 Redis 연결 정보 갱신 (연결마다 만료 시간도 갱신)
+  private void acquireConnection(Long memberId, Object connection) {
+
+    connections.compute(
+        memberId,
+        (key, memberConnections) -> {
+          Set<Object> target = memberConnections != null ? memberConnections : new HashSet<>();
+          target.add(connection);
+          if (redisMode) {
+            emitterPresenceRepository.save(memberId, nodeIdManager.getNodeId());
+          }
+          return target;
+        });
+  }
+
+  // 현재 노드에 남은 연결이 없으면 Redis 연결 정보 제거 (같은 연결을 여러 번 제거해도 한 번만 반영)
+  private void releaseConnection(Long memberId, Object connection) {
+
+    connections.computeIfPresent(
+        memberId,
+        (key, memberConnections) -> {
+          if (!memberConnections.remove(connection) || !memberConnections.isEmpty()) {
+            return memberConnections;
+          }
+          if (redisMode) {
+            emitterPresenceRepository.delete(memberId, nodeIdManager.getNodeId());
+          }
+          return null;
+        });
+  }
+
+  /**
+   * 해당 회원의 현재 노드 SseEmitter 전체 제거
+   *
+   * @param email 회원 이메일
+   * @param memberId 회원 식별자
+   */
+  public void unregisterAll(String email, Long memberId) {
+
+    Set<String> emitterIds = emitterRepository.findAllEmitterByMemberId(memberId).keySet();
+    emitterRepository.delete(email, memberId);
+    for (String emitterId : emitterIds) {
+      releaseConnection(memberId, emitterId);
+    }
+  }
+
+  /**
+   * 회원에게 이벤트 전달 (모드에 따라 현재 노드 또는 연결된 노드들로 전달)
+   *
+   * @param memberId 수신 회원 식별자
+   * @param eventName 이벤트 이름
+   * @param data 전송 내용
+   */
+  public void deliver(Long memberId, String eventName, NotificationInfoResponseDto data) {
+    deliverAll(memberId, eventName, List.of(data));
+  }
+
+  /**
+   * 한 회원에게 여러 이벤트를 묶어서 전달 (연결 노드 조회와 발행을 회원당 한 번만 수행)
+   *
+   * @param memberId 수신 회원 식별자
+   * @param eventName 이벤트 이름
+   * @param events 전송 내용 목록
+   */
+  public void deliverAll(
+      Long memberId, String eventName, List<NotificationInfoResponseDto> events) {
+    deliverAll(memberId, eventName, events, NotificationPriorityEnum.NORMAL);
+  }
+
+  /**
+   * 한 회원에게 여러 이벤트를 우선순위와 함께 묶어서 전달
+   *
+   * @param memberId 수신 회원 식별자
+   * @param eventName 이벤트 이름
+   * @param events 전송 내용 목록
+   * @param priority 전송 우선순위
+   */
+  public void deliverAll(
+      Long memberId,
+      String eventName,
+      List<NotificationInfoResponseDto> events,
+      NotificationPriorityEnum priority) {
+
+    if (!redisMode) {
+      deliverLocally(memberId, eventName, events, priority);
+      return;
+    }
+
+    Set<String> nodeIds = emitterPresenceRepository.findAllNodeByMemberId(memberId);
+    NotificationEnvelopeDto envelope =
+        NotificationEnvelopeDto.builder()
+            .memberId(memberId)
+            .eventName(eventName)
+            .events(events)
+            .priority(priority)
+            .build();
+    for (String nodeId : nodeIds) {
+      if (nodeId.equals(nodeIdManager.getNodeId())) {
+        deliverLocally(memberId, eventName, events, priority);
+      } else {
+        notificationRedisPublisher.publish(nodeId, envelope);
+      }
+    }
+  }
+
+  /**
+   * 이벤트 캐시에 저장 후, 현재 노드에 연결된 해당 회원의 모든 SseEmitter로 전송
+   *
+   * @param memberId 수신 회원 식별자
+   * @param eventName 이벤트 이름
+   * @param events 전송 내용 목록
+   * @param priority 전송 우선순위
+   */
+  public void deliverLocally(
+      Long memberId,
+      String eventName,
+      List<NotificationInfoResponseDto> events,
+      NotificationPriorityEnum priority) {
+
+    // 연결된 SseEmitter, reactive 연결 가져오기
+    Map<String, SseEmitter> emitters = emitterRepository.findAllEmitterByMemberId(memberId);
+    Set<Sinks.Many<ServerSentEvent<NotificationInfoResponseDto>>> sinks =
+        eventStreamRepository.findAllByMemberId(memberId);
+    for (NotificationInfoResponseDto data : events) {
+      CachedEventDto cachedEvent = emitterRepository.saveEventCache(memberId, eventName, data);
+      String eventId = makeEventId(memberId, cachedEvent.getSequence());
+      emitters.forEach(
+          (key, emitter) -> sendNotification(emitter, eventId, eventName, data, priority));
+      for (Sinks.Many<ServerSentEvent<NotificationInfoResponseDto>> sink : sinks) {
+        emitToStream(
+            sink, toServerSentEvent(memberId, cachedEvent.getSequence(), eventName, data));
+      }
+    }
+  }
+
+  // 여러 스레드에서 같은 Sink 로 동시에 보내지 않도록 직렬화, 버퍼가 가득 차면 연결을 끊어 재연결 시 이어받도록 함
+  private void emitToStream(
+      Sinks.Many<ServerSentEvent<NotificationInfoResponseDto>> sink,
+      ServerSentEvent<NotificationInfoResponseDto> event) {
+
+    Sinks.EmitResult result;
+    synchronized (sink) {
+      result = sink.tryEmitNext(event);
+      if (result == Sinks.EmitResult.FAIL_OVERFLOW) {
+        sink.tryEmitComplete();
+      }
+    }
+    if (result.isFailure()) {
+      log.info("[NotificationDeliveryService's emitToStream executes]: 전송 실패: " + result);
+    }
+  }
+
+  /**
+   * 이벤트 캐시 시퀀스가 포함된 이벤트 식별자 생성 (이벤트 캐시는 노드마다 따로 있으므로 노드 식별자 포함)
+   *
+   * @param memberId 수신 회원 식별자
+   * @param sequence 이벤트 캐시 시퀀스
+   * @return {String} 생성된 식별자(식별자_노드 식별자_시퀀스)
+   */
+  public String makeEventId(Long memberId, long sequence) {
+    return memberId + "_" + nodeIdManager.getNodeId() + "_" + sequence;
+  }
+
+  /**
+   * 이벤트 식별자에서 현재 노드의 이벤트 캐시 시퀀스 추출
+   *
+   * <p>이전 형식(이메일_식별자_시각, 식별자_시퀀스), 다른 회원이나 다른 노드에서 발급한 식별자는 시퀀스로 보지 않는다.
+   *
+   * @param memberId 로그인 한 회원의 식별자
+   * @param eventId 이벤트 식별자 (식별자_노드 식별자_시퀀스)
+   * @return {Long} 시퀀스, 현재 노드에서 발급한 식별자가 아니면 null
+   */
+  public Long parseEventSequence(Long memberId, String eventId) {
+
+    String prefix = memberId + "_" + nodeIdManager.getNodeId() + "_";
+    if (!eventId.startsWith(prefix)) {
+      return null;
+    }
+    try {
+      return Long.parseLong(eventId.substring(prefix.length()));
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+
+  /**
+   * 실제 알림 전송 (SseEmitter 별 전송 큐에 추가, 전송 실패 시 연결 정보도 함께 정리됨)
+   *
+   * @param emitter 연결된 SseEmitter 객체
+   * @param eventId 이벤트 식별자 (식별자_노드 식별자_시퀀스)
+   * @param eventName 이벤트 이름
+   * @param data 전송 내용
+   */
+  public void sendNotification(
+      SseEmitter emitter, String eventId, String eventName, NotificationInfoResponseDto data) {
+    sendNotification(emitter, eventId, eventName, data, NotificationPriorityEnum.NORMAL);
+  }
+
+  /**
+   * 실제 알림 전송 (우선순위에 따라 전송 작업 순서가 정해짐)
+   *
+   * @param emitter 연결된 SseEmitter 객체
+   * @param eventId 이벤트 식별자 (식별자_노드 식별자_시퀀스)
+   * @param eventName 이벤트 이름
+   * @param data 전송 내용
+   * @param priority 전송 우선순위
+   */
+  public void sendNotification(
+      SseEmitter emitter,
+      String eventId,
+      String eventName,
+      NotificationInfoResponseDto data,
+      NotificationPriorityEnum priority) {
+    sseDispatchService.enqueue(
+        emitter, SseEmitter.event().id(eventId).name(eventName).data(data), priority);
+    log.info("[NotificationDeliveryService's sendNotification executes]: 알림 전송 요청: " + eventName);
+  }
+}
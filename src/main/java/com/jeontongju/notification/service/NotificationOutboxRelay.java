@@ -0,0 +1,120 @@
+package com.jeontongju.notification.service;
+
+import com.jeontongju.notification.domain.NotificationOutbox;
+import com.jeontongju.notification.dto.temp.NotificationOutboxAppendedEvent;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 아웃박스 릴레이
+ *
+ * <p>알림 저장 트랜잭션이 커밋되면 바로 깨어나 전송하고, 놓친 이벤트는 주기적인 폴링으로 다시 전송한다. 전송은 스레드 하나에서만 수행해 한 노드 안에서
+ * 회원별 전송 순서를 지킨다.
+ */
+@Slf4j
+@Component
+public class NotificationOutboxRelay {
+
+  private final NotificationOutboxService notificationOutboxService;
+  private final int batchSize;
+  private final long pollIntervalMillis;
+  private final long retentionMillis;
+  private final AtomicBoolean wakeUpQueued = new AtomicBoolean();
+  private ScheduledExecutorService relayExecutor;
+
+  public NotificationOutboxRelay(
+      NotificationOutboxService notificationOutboxService,
+      @Value("${notification.outbox.batch-size:500}") int batchSize,
+      @Value("${notification.outbox.poll-interval-millis:1000}") long pollIntervalMillis,
+      @Value("${notification.outbox.retention-millis:86400000}") long retentionMillis) {
+
+    this.notificationOutboxService = notificationOutboxService;
+    this.batchSize = batchSize;
+    this.pollIntervalMillis = pollIntervalMillis;
+    this.retentionMillis = retentionMillis;
+  }
+
+  @PostConstruct
+  public void start() {
+
+    relayExecutor = Executors.newSingleThreadScheduledExecutor();
+    relayExecutor.scheduleWithFixedDelay(
+        this::relayPending, pollIntervalMillis, pollIntervalMillis, TimeUnit.MILLISECONDS);
+  }
+
+  @PreDestroy
+  public void stop() {
+    relayExecutor.shutdown();
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  public void onAppended(NotificationOutboxAppendedEvent event) {
+
+    // 이미 깨우기 요청이 올라가 있으면 한 번만 실행
+    if (wakeUpQueued.compareAndSet(false, true)) {
+      relayExecutor.execute(
+          () -> {
+            wakeUpQueued.set(false);
+            relayPending();
+          });
+    }
+  }
+
+  /** 전송 대기 이벤트가 남지 않을 때까지 한 묶음씩 전송 */
+  public void relayPending() {
+
+    try {
+      while (relayBatch(batchSize) > 0) {
+        // 우선순위별 몫만큼만 가져오므로 묶음이 덜 차도 남은 이벤트가 있을 수 있음
+      }
+    } catch (Exception e) {
+      log.error("[During outbox relay]: Error while relaying={}", e.getMessage());
+    }
+  }
+
+  /**
+   * 한 묶음 선점 후 커밋, 전송, 전송 완료 표시 (행 잠금을 잡은 채로 전송하지 않음)
+   *
+   * @param batchSize 한 번에 처리할 최대 개수
+   * @return {int} 처리한 이벤트 개수
+   */
+  public int relayBatch(int batchSize) {
+
+    List<NotificationOutbox> claimedOutboxes = notificationOutboxService.claimBatch(batchSize);
+    if (claimedOutboxes.isEmpty()) {
+      return 0;
+    }
+
+    notificationOutboxService.deliver(claimedOutboxes);
+    List<Long> outboxIds = new ArrayList<>(claimedOutboxes.size());
+    for (NotificationOutbox outbox : claimedOutboxes) {
+      outboxIds.add(outbox.getOutboxId());
+    }
+    notificationOutboxService.markDelivered(outboxIds);
+    log.info("[NotificationOutboxRelay's relayBatch executes]: " + outboxIds.size() + "건 전송");
+    return outboxIds.size();
+  }
+
+  @Scheduled(fixedDelayString = "${notification.outbox.purge-interval-millis:3600000}")
+  public void purgeDelivered() {
+
+    int deletedCounts =
+        notificationOutboxService.deleteDeliveredBefore(
+            LocalDateTime.now().minus(Duration.ofMillis(retentionMillis)));
+    log.info("[NotificationOutboxRelay's purgeDelivered executes]: " + deletedCounts + "건 삭제");
+  }
+}
@@ -0,0 +1,256 @@
+package com.jeontongju.notification.service;
+
+import com.jeontongju.notification.domain.NotificationOutbox;
+import com.jeontongju.notification.dto.response.NotificationInfoResponseDto;
+import com.jeontongju.notification.dto.temp.NotificationOutboxAppendedEvent;
+import com.jeontongju.notification.enums.NotificationPriorityEnum;
+import com.jeontongju.notification.repository.NotificationOutboxRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 알림 아웃박스 기록 및 전송
+ *
+ * <p>알림 저장 트랜잭션에는 아웃박스 INSERT 만 추가되고, SSE 전송과 안 읽은 알림 카운터 증가는 커밋 후 릴레이가 수행한다. 릴레이는 짧은
+ * 트랜잭션으로 행을 선점(claim-lease-millis 동안)하고, 커밋 후 전송한 다음 다른 트랜잭션에서 전송 완료를 표시한다. 표시 전에 실패하면 선점
+ * 기간이 지난 뒤 다시 전송하므로 최소 한 번 전달을 보장하고, 안 읽은 알림 카운터는 아웃박스 식별자별로 한 번만 증가한다.
+ */
+@Service
+public class NotificationOutboxService {
+
+  private final NotificationOutboxRepository notificationOutboxRepository;
+  private final NotificationDeliveryService notificationDeliveryService;
+  private final UnreadCountService unreadCountService;
+  private final ApplicationEventPublisher applicationEventPublisher;
+  private final Duration claimLease;
+
+  public NotificationOutboxService(
+      NotificationOutboxRepository notificationOutboxRepository,
+      NotificationDeliveryService notificationDeliveryService,
+      UnreadCountService unreadCountService,
+      ApplicationEventPublisher applicationEventPublisher,
+      @Value("${notification.outbox.claim-lease-millis:30000}") long claimLeaseMillis) {
+
+    this.notificationOutboxRepository = notificationOutboxRepository;
+    this.notificationDeliveryService = notificationDeliveryService;
+    this.unreadCountService = unreadCountService;
+    this.applicationEventPublisher = applicationEventPublisher;
+    this.claimLease = Duration.ofMillis(claimLeaseMillis);
+  }
+
+  /**
+   * 전송할 이벤트를 아웃박스에 기록 (호출한 쪽 트랜잭션에 참여)
+   *
+   * @param recipientId 수신 회원 식별자
+   * @param eventName 이벤트 이름
+   * @param data 전송 내용
+   * @param priority 전송 우선순위
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void append(
+      Long recipientId,
+      String eventName,
+      NotificationInfoResponseDto data,
+      NotificationPriorityEnum priority) {
+
+    notificationOutboxRepository.save(toEntity(recipientId, eventName, data, priority));
+    applicationEventPublisher.publishEvent(new NotificationOutboxAppendedEvent(1));
+  }
+
+  /**
+   * 여러 회원에게 보낼 이벤트를 아웃박스에 일괄 기록 (호출한 쪽 트랜잭션에 참여)
+   *
+   * @param eventName 이벤트 이름
+   * @param eventsByRecipient 수신 회원 식별자 -> 전송 내용 목록
+   * @param priority 전송 우선순위
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void appendAll(
+      String eventName,
+      Map<Long, List<NotificationInfoResponseDto>> eventsByRecipient,
+      NotificationPriorityEnum priority) {
+
+    List<NotificationOutbox> outboxes = new ArrayList<>();
+    eventsByRecipient.forEach(
+        (recipientId, events) -> {
+          for (NotificationInfoResponseDto data : events) {
+            outboxes.add(toEntity(recipientId, eventName, data, priority));
+          }
+        });
+    notificationOutboxRepository.saveAll(outboxes);
+    applicationEventPublisher.publishEvent(new NotificationOutboxAppendedEvent(outboxes.size()));
+  }
+
+  /**
+   * 전송 대기 이벤트를 한 묶음 선점 (다른 노드가 잡고 있거나 선점 기간이 남은 행은 건너뜀)
+   *
+   * <p>우선순위가 높은 이벤트부터 가중치 비율만큼 가져오고, 남은 자리는 다음 우선순위에 넘긴다.
+   *
+   * @param batchSize 한 번에 처리할 최대 개수
+   * @return {List<NotificationOutbox>} 선점한 이벤트 (우선순위 순)
+   */
+  @Transactional
+  public List<NotificationOutbox> claimBatch(int batchSize) {
+
+    int totalWeight = 0;
+    for (NotificationPriorityEnum priority : NotificationPriorityEnum.values()) {
+      totalWeight += priority.getWeight();
+    }
+
+    LocalDateTime now = LocalDateTime.now();
+    List<NotificationOutbox> claimedOutboxes = new ArrayList<>(batchSize);
+    int remaining = batchSize;
+    int remainingWeight = totalWeight;
+    for (NotificationPriorityEnum priority : NotificationPriorityEnum.values()) {
+      if (remaining <= 0) {
+        break;
+      }
+      int quota = Math.max(1, (int) ((long) remaining * priority.getWeight() / remainingWeight));
+      remainingWeight -= priority.getWeight();
+
+      List<NotificationOutbox> pendingOutboxes =
+          notificationOutboxRepository.findPendingForUpdate(
+              priority, now, PageRequest.of(0, quota));
+      claimedOutboxes.addAll(pendingOutboxes);
+      remaining -= pendingOutboxes.size();
+    }
+    if (claimedOutboxes.isEmpty()) {
+      return claimedOutboxes;
+    }
+
+    notificationOutboxRepository.updateAllClaimed(
+        toOutboxIds(claimedOutboxes), now.plus(claimLease));
+    return claimedOutboxes;
+  }
+
+  /**
+   * 선점한 이벤트 전송 (선점 트랜잭션 커밋 후, 트랜잭션 밖에서 호출)
+   *
+   * @param claimedOutboxes claimBatch 로 선점한 이벤트
+   */
+  public void deliver(List<NotificationOutbox> claimedOutboxes) {
+
+    // 우선순위별, 회원별로 묶어서 연결 조회와 전송을 회원당 한 번만 수행
+    Map<NotificationPriorityEnum, Map<Long, List<NotificationOutbox>>> outboxesByPriority =
+        new EnumMap<>(NotificationPriorityEnum.class);
+    for (NotificationOutbox outbox : claimedOutboxes) {
+      outboxesByPriority
+          .computeIfAbsent(outbox.getPriority(), key -> new LinkedHashMap<>())
+          .computeIfAbsent(outbox.getRecipientId(), key -> new ArrayList<>())
+          .add(outbox);
+    }
+    // 전송 전에 읽은 알림은 안 읽은 개수에 넣지 않도록 묶음 전체를 한 번에 확인
+    List<Long> notificationIds = new ArrayList<>();
+    for (NotificationOutbox outbox : claimedOutboxes) {
+      if (outbox.getNotificationId() != null) {
+        notificationIds.add(outbox.getNotificationId());
+      }
+    }
+    Set<Long> unreadIds = unreadCountService.findAllUnreadIds(notificationIds);
+
+    outboxesByPriority.forEach(
+        (priority, outboxesByRecipient) ->
+            outboxesByRecipient.forEach(
+                (recipientId, outboxes) -> deliver(recipientId, outboxes, priority, unreadIds)));
+  }
+
+  /**
+   * 전송 완료 표시
+   *
+   * @param outboxIds 전송한 이벤트 식별자 목록
+   */
+  @Transactional
+  public void markDelivered(List<Long> outboxIds) {
+    notificationOutboxRepository.updateAllDelivered(outboxIds, LocalDateTime.now());
+  }
+
+  /**
+   * 보관 기간이 지난 전송 완료 이벤트 삭제
+   *
+   * @param deliveredBefore 이 시각 이전에 전송 완료된 이벤트 삭제
+   * @return {int} 삭제된 개수
+   */
+  @Transactional
+  public int deleteDeliveredBefore(LocalDateTime deliveredBefore) {
+    return notificationOutboxRepository.deleteAllDeliveredBefore(deliveredBefore);
+  }
+
+  // 같은 이벤트 이름이 이어지는 구간끼리 묶어서 순서대로 전송, 읽지 않은 알림마다 안 읽은 개수 증가 (아웃박스별 한 번)
+  private void deliver(
+      Long recipientId,
+      List<NotificationOutbox> outboxes,
+      NotificationPriorityEnum priority,
+      Set<Long> unreadIds) {
+
+    List<Long> unreadOutboxIds = new ArrayList<>();
+    int start = 0;
+    for (int i = 1; i <= outboxes.size(); i++) {
+      if (i < outboxes.size()
+          && outboxes.get(i).getEventName().equals(outboxes.get(start).getEventName())) {
+        continue;
+      }
+      List<NotificationInfoResponseDto> events = new ArrayList<>(i - start);
+      for (NotificationOutbox outbox : outboxes.subList(start, i)) {
+        events.add(toNotificationDto(outbox));
+        if (unreadIds.contains(outbox.getNotificationId())) {
+          unreadOutboxIds.add(outbox.getOutboxId());
+        }
+      }
+      notificationDeliveryService.deliverAll(
+          recipientId, outboxes.get(start).getEventName(), events, priority);
+      start = i;
+    }
+
+    if (!unreadOutboxIds.isEmpty()) {
+      unreadCountService.increaseOnce(recipientId, unreadOutboxIds);
+    }
+  }
+
+  private List<Long> toOutboxIds(List<NotificationOutbox> outboxes) {
+
+    List<Long> outboxIds = new ArrayList<>(outboxes.size());
+    for (NotificationOutbox outbox : outboxes) {
+      outboxIds.add(outbox.getOutboxId());
+    }
+    return outboxIds;
+  }
+
+  private NotificationOutbox toEntity(
+      Long recipientId,
+      String eventName,
+      NotificationInfoResponseDto data,
+      NotificationPriorityEnum priority) {
+
+    return NotificationOutbox.builder()
+        .recipientId(recipientId)
+        .priority(priority)
+        .eventName(eventName)
+        .notificationId(data.getNotificationId())
+        .redirectUrl(data.getRedirectUrl())
+        .data(data.getData() == null ? null : String.valueOf(data.getData()))
+        .aggregatedCount(data.getAggregatedCount())
+        .build();
+  }
+
+  private NotificationInfoResponseDto toNotificationDto(NotificationOutbox outbox) {
+
+    return NotificationInfoResponseDto.builder()
+        .notificationId(outbox.getNotificationId())
+        .redirectUrl(outbox.getRedirectUrl())
+        .data(outbox.getData())
+        .aggregatedCount(outbox.getAggregatedCount())
+        .build();
+  }
+}
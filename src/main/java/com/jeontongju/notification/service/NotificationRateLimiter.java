@@ -0,0 +1,188 @@
+package com.jeontongju.notification.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jeontongju.notification.config.RateLimitProperties;
+import com.jeontongju.notification.config.RateLimitProperties.Policy;
+import com.jeontongju.notification.repository.RateLimitRepository;
+import com.jeontongju.notification.utils.LocalTokenBucket;
+import io.github.bitbox.bitbox.enums.NotificationTypeEnum;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * 채널별 알림 전송 한도 (채널 전체 한도 + 회원별 한도 + (회원, 알림 유형)별 한도, 토큰 버킷)
+ *
+ * <p>한도를 넘은 알림은 버리지 않고 호출한 쪽에서 묶음 알림으로 미룬다. redis 모드에서 Redis 호출이 실패하면 전송을 막지 않는다.
+ */
+@Slf4j
+@Service
+public class NotificationRateLimiter {
+
+  public static final String SSE_CHANNEL = "sse";
+  public static final String FCM_CHANNEL = "fcm";
+
+  private final RateLimitProperties rateLimitProperties;
+  private final RateLimitRepository rateLimitRepository;
+  private final MeterRegistry meterRegistry;
+  private final boolean redisMode;
+  // 오래 쓰이지 않은 회원 버킷은 제거
+  private final Cache<String, LocalTokenBucket> localBuckets =
+      Caffeine.newBuilder().expireAfterAccess(10, TimeUnit.MINUTES).build();
+
+  public NotificationRateLimiter(
+      RateLimitProperties rateLimitProperties,
+      RateLimitRepository rateLimitRepository,
+      MeterRegistry meterRegistry) {
+
+    this.rateLimitProperties = rateLimitProperties;
+    this.rateLimitRepository = rateLimitRepository;
+    this.meterRegistry = meterRegistry;
+    this.redisMode = "redis".equalsIgnoreCase(rateLimitProperties.getMode());
+  }
+
+  /**
+   * 전송 가능 여부 확인 (가능하면 토큰 사용)
+   *
+   * @param channel 전송 채널 (sse, fcm)
+   * @param memberId 수신 회원 식별자
+   * @param notificationType 알림 유형 (없으면 회원 기본 한도 적용)
+   * @return {boolean} 지금 전송해도 되는지 여부 (false 면 묶음 알림으로 미룸)
+   */
+  public boolean tryAcquire(String channel, Long memberId, NotificationTypeEnum notificationType) {
+    List<NotificationTypeEnum> notificationTypes = Collections.singletonList(notificationType);
+    return tryAcquireAll(channel, List.of(memberId), notificationTypes).get(0);
+  }
+
+  /**
+   * 여러 건의 전송 가능 여부를 한 번에 확인 (redis 모드는 Redis 호출 한 번)
+   *
+   * <p>회원 한도, 알림 유형 한도(있으면), 채널 전체 한도에 모두 여유가 있을 때만 모두 토큰을 사용하므로, 한 버킷에 걸린 알림이 다른 버킷을 깎지
+   * 않는다. 알림 유형 한도는 회원 한도와 함께 적용되므로 유형을 바꿔가며 회원 한도를 넘길 수 없다.
+   *
+   * @param channel 전송 채널 (sse, fcm)
+   * @param memberIds 요청별 수신 회원 식별자
+   * @param notificationTypes 요청별 알림 유형 (없으면 회원 기본 한도 적용)
+   * @return {List<Boolean>} 요청별 지금 전송해도 되는지 여부 (false 면 묶음 알림으로 미룸)
+   */
+  public List<Boolean> tryAcquireAll(
+      String channel, List<Long> memberIds, List<NotificationTypeEnum> notificationTypes) {
+
+    if (memberIds.isEmpty()) {
+      return Collections.emptyList();
+    }
+    if (!rateLimitProperties.isEnabled()) {
+      return Collections.nCopies(memberIds.size(), true);
+    }
+
+    List<String> memberBucketKeys = new ArrayList<>(memberIds.size());
+    List<String> typeBucketKeys = new ArrayList<>(memberIds.size());
+    List<Policy> typePolicies = new ArrayList<>(memberIds.size());
+    for (int i = 0; i < memberIds.size(); i++) {
+      memberBucketKeys.add(channel + "_" + memberIds.get(i));
+      Policy typePolicy = rateLimitProperties.getTypePolicy(notificationTypes.get(i));
+      typeBucketKeys.add(
+          typePolicy == null
+              ? null
+              : channel + "_" + memberIds.get(i) + "_" + typeName(notificationTypes.get(i)));
+      typePolicies.add(typePolicy);
+    }
+
+    List<Boolean> allowed =
+        redisMode
+            ? tryAcquireAllRedis(
+                channel + "_GLOBAL", memberBucketKeys, typeBucketKeys, typePolicies)
+            : tryAcquireAllLocal(
+                channel + "_GLOBAL", memberBucketKeys, typeBucketKeys, typePolicies);
+
+    for (int i = 0; i < allowed.size(); i++) {
+      meterRegistry
+          .counter(
+              "notification.rate-limit.decision",
+              "channel",
+              channel,
+              "type",
+              typeName(notificationTypes.get(i)),
+              "result",
+              allowed.get(i) ? "allowed" : "deferred")
+          .increment();
+    }
+    return allowed;
+  }
+
+  private List<Boolean> tryAcquireAllRedis(
+      String globalBucketKey,
+      List<String> memberBucketKeys,
+      List<String> typeBucketKeys,
+      List<Policy> typePolicies) {
+
+    try {
+      return rateLimitRepository.tryAcquireAll(
+          globalBucketKey,
+          rateLimitProperties.getGlobal(),
+          memberBucketKeys,
+          rateLimitProperties.getMember(),
+          typeBucketKeys,
+          typePolicies);
+    } catch (Exception e) {
+      log.error("During rate limit: Error while using redis bucket={}", e.getMessage());
+      return Collections.nCopies(memberBucketKeys.size(), true);
+    }
+  }
+
+  // 회원 버킷, 알림 유형 버킷 순서로 사용하고, 뒤의 버킷에 걸리면 앞에서 사용한 토큰을 돌려줌
+  private List<Boolean> tryAcquireAllLocal(
+      String globalBucketKey,
+      List<String> memberBucketKeys,
+      List<String> typeBucketKeys,
+      List<Policy> typePolicies) {
+
+    long now = System.nanoTime();
+    LocalTokenBucket globalBucket = localBucket(globalBucketKey, rateLimitProperties.getGlobal());
+    List<Boolean> allowed = new ArrayList<>(memberBucketKeys.size());
+    for (int i = 0; i < memberBucketKeys.size(); i++) {
+      LocalTokenBucket memberBucket =
+          localBucket(memberBucketKeys.get(i), rateLimitProperties.getMember());
+      if (!memberBucket.tryAcquire(now)) {
+        allowed.add(false);
+        continue;
+      }
+      LocalTokenBucket typeBucket =
+          typeBucketKeys.get(i) == null
+              ? null
+              : localBucket(typeBucketKeys.get(i), typePolicies.get(i));
+      if (typeBucket != null && !typeBucket.tryAcquire(now)) {
+        memberBucket.refund();
+        allowed.add(false);
+        continue;
+      }
+      if (!globalBucket.tryAcquire(now)) {
+        memberBucket.refund();
+        if (typeBucket != null) {
+          typeBucket.refund();
+        }
+        allowed.add(false);
+        continue;
+      }
+      allowed.add(true);
+    }
+    return allowed;
+  }
+
+  private LocalTokenBucket localBucket(String bucketKey, Policy policy) {
+    return localBuckets.get(
+        bucketKey,
+        key ->
+            new LocalTokenBucket(
+                policy.getCapacity(), policy.getRefillPerSecond(), System.nanoTime()));
+  }
+
+  private String typeName(NotificationTypeEnum notificationType) {
+    return notificationType == null ? "NONE" : notificationType.name();
+  }
+}
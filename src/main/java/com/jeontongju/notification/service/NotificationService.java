@@ -1,21 +1,27 @@
 package com.jeontongju.notification.service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.jeontongju.notification.domain.Notification;
 import com.jeontongju.notification.dto.FCMTokenDto;
 import com.jeontongju.notification.dto.request.FCMNotificationRequestDto;
 import com.jeontongju.notification.dto.response.*;
+import com.jeontongju.notification.dto.temp.AggregatedNotificationDto;
+import com.jeontongju.notification.dto.temp.CachedEventDto;
 import com.jeontongju.notification.dto.temp.MemberEmailForKeyDto;
+import com.jeontongju.notification.enums.NotificationPriorityEnum;
+import com.jeontongju.notification.exception.MemberNotFoundException;
 import com.jeontongju.notification.exception.NotificationNotFoundException;
 import com.jeontongju.notification.feign.AuthenticationClientService;
 import com.jeontongju.notification.feign.ConsumerClientService;
 import com.jeontongju.notification.kafka.NotificationProducer;
 import com.jeontongju.notification.mapper.NotificationMapper;
 import com.jeontongju.notification.repository.EmitterRepository;
+import com.jeontongju.notification.repository.FailedOrderRepository;
 import com.jeontongju.notification.repository.NotificationRepository;
 import com.jeontongju.notification.utils.CustomErrMessage;
+import com.jeontongju.notification.utils.FailedOrderSerializer;
+import com.jeontongju.notification.utils.NotificationPriorityResolver;
+import com.jeontongju.notification.utils.RedirectLinkRegistry;
 import com.jeontongju.notification.utils.UrlEncoderManager;
 import io.github.bitbox.bitbox.dto.ConsumerOrderListResponseDto;
 import io.github.bitbox.bitbox.dto.MemberInfoForNotificationDto;
@@ -24,18 +30,21 @@ import io.github.bitbox.bitbox.enums.MemberRoleEnum;
 import io.github.bitbox.bitbox.enums.NotificationTypeEnum;
 import io.github.bitbox.bitbox.enums.RecipientTypeEnum;
 import io.github.bitbox.bitbox.util.KafkaTopicNameInfo;
-import java.io.IOException;
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
 
 @Slf4j
 @Service
@@ -47,13 +56,21 @@ public class NotificationService {
   private final NotificationMapper notificationMapper;
   private final AuthenticationClientService authenticationClientService;
   private final ConsumerClientService consumerClientService;
-  private final RedisTemplate<String, String> redisTemplate;
+  private final FailedOrderRepository failedOrderRepository;
+  private final FailedOrderSerializer failedOrderSerializer;
   private final NotificationProducer notificationProducer;
   private final UrlEncoderManager urlEncoderManager;
   private final FCMNotificationService fcmNotificationService;
+  private final NotificationDeliveryService notificationDeliveryService;
+  private final UnreadCountService unreadCountService;
+  private final NotificationOutboxService notificationOutboxService;
+  private final NotificationPriorityResolver notificationPriorityResolver;
+  private final RedirectLinkRegistry redirectLinkRegistry;
+  // SSE 연결 지속 시간 (하트비트로 연결을 유지하므로 길게 설정)
+  private final Long emitterTimeoutMillis;
 
-  // SSE 연결 지속 시간 설정
-  private static final Long DEFAULT_TIMEOUT = 60L * 1000;
+  // 알림 조회 최대 페이지 크기
+  private static final int MAX_INQUIRY_SIZE = 100;
 
   public NotificationService(
       EmitterRepository emitterRepository,
@@ -61,20 +78,34 @@ public class NotificationService {
       NotificationMapper notificationMapper,
       AuthenticationClientService authenticationClientService,
       ConsumerClientService consumerClientService,
-      RedisTemplate<String, String> redisTemplate,
+      FailedOrderRepository failedOrderRepository,
+      FailedOrderSerializer failedOrderSerializer,
       NotificationProducer notificationProducer,
       UrlEncoderManager urlEncoderManager,
-      FCMNotificationService fcmNotificationService) {
+      FCMNotificationService fcmNotificationService,
+      NotificationDeliveryService notificationDeliveryService,
+      UnreadCountService unreadCountService,
+      NotificationOutboxService notificationOutboxService,
+      NotificationPriorityResolver notificationPriorityResolver,
+      RedirectLinkRegistry redirectLinkRegistry,
+      @Value("${notification.sse.emitter-timeout-millis:3600000}") Long emitterTimeoutMillis) {
 
     this.emitterRepository = emitterRepository;
     this.notificationRepository = notificationRepository;
     this.notificationMapper = notificationMapper;
     this.authenticationClientService = authenticationClientService;
     this.consumerClientService = consumerClientService;
-    this.redisTemplate = redisTemplate;
+    this.failedOrderRepository = failedOrderRepository;
+    this.failedOrderSerializer = failedOrderSerializer;
     this.notificationProducer = notificationProducer;
     this.urlEncoderManager = urlEncoderManager;
     this.fcmNotificationService = fcmNotificationService;
+    this.notificationDeliveryService = notificationDeliveryService;
+    this.unreadCountService = unreadCountService;
+    this.notificationOutboxService = notificationOutboxService;
+    this.notificationPriorityResolver = notificationPriorityResolver;
+    this.redirectLinkRegistry = redirectLinkRegistry;
+    this.emitterTimeoutMillis = emitterTimeoutMillis;
   }
 
   /**
@@ -94,46 +125,108 @@ public class NotificationService {
     // SseEmitter 객체 생성 및 저장
     String emitterId = makeTimeIncludedId(username, memberId);
 
-    SseEmitter emitter = emitterRepository.save(emitterId, new SseEmitter(DEFAULT_TIMEOUT));
-    emitter.onCompletion(() -> emitterRepository.deletedById(emitterId)); // SseEmitter 완료
-    emitter.onError((e) -> emitterRepository.deletedById(emitterId));
-    emitter.onTimeout(() -> emitterRepository.deletedById(emitterId)); // SseEmitter 타임 아웃
+    SseEmitter emitter =
+        notificationDeliveryService.register(
+            memberId, emitterId, new SseEmitter(emitterTimeoutMillis));
 
-    String eventId = makeTimeIncludedId(username, memberId);
-    // 연결이 생성되었을 시, 확인용 더미 이벤트 전송
     log.info("[NotificationService's subscribe's executes]: 연결 생성");
-    sendNotification(
-        emitter,
-        eventId,
-        emitterId,
-        "connect",
-        NotificationInfoResponseDto.builder()
-            .data("EventStream Created. [email=" + username + "]")
-            .build());
+    for (CachedEventDto initialEvent : getInitialEvents(memberId, username, lastEventId)) {
+      notificationDeliveryService.sendNotification(
+          emitter,
+          notificationDeliveryService.makeEventId(memberId, initialEvent.getSequence()),
+          initialEvent.getEventName(),
+          initialEvent.getData());
+    }
+    return emitter;
+  }
 
-    // 미수신 이벤트 전송
-    //    if (hasLostData(lastEventId)) {
-    //      sendLostData(lastEventId, username, memberId, emitterId, emitter);
-    //    }
+  /**
+   * SSE 연결 생성 및 유지 (reactive 모드, 회원별 Sink 구독)
+   *
+   * @param memberId 로그인 한 회원의 식별자
+   * @param lastEventId 마지막으로 받은 이벤트 식별자
+   * @return {Flux<ServerSentEvent<NotificationInfoResponseDto>>} SSE 이벤트 스트림
+   */
+  public Flux<ServerSentEvent<NotificationInfoResponseDto>> subscribeStream(
+      Long memberId, String lastEventId) {
 
-    // 읽지 않은 이벤트 전송
-    List<Notification> unreadEvents = getUnreadEvents(memberId);
-    if (!unreadEvents.isEmpty()) {
-
-      for (Notification unreadEvent : unreadEvents) {
-        sendNotification(
-            emitter,
-            eventId,
-            emitterId,
-            "connect",
+    String username = authenticationClientService.getMemberEmailForKey(memberId).getEmail();
+
+    // 초기 이벤트를 만드는 동안 발생한 이벤트도 받도록 먼저 Sink 등록
+    Sinks.Many<ServerSentEvent<NotificationInfoResponseDto>> sink =
+        notificationDeliveryService.registerStream(memberId);
+
+    List<CachedEventDto> initialEvents;
+    try {
+      initialEvents = getInitialEvents(memberId, username, lastEventId);
+    } catch (RuntimeException e) {
+      notificationDeliveryService.unregisterStream(memberId, sink);
+      throw e;
+    }
+
+    log.info("[NotificationService's subscribeStream executes]: 연결 생성");
+    return notificationDeliveryService.openStream(
+        memberId,
+        sink,
+        Flux.fromIterable(initialEvents)
+            .map(
+                initialEvent ->
+                    notificationDeliveryService.toServerSentEvent(
+                        memberId,
+                        initialEvent.getSequence(),
+                        initialEvent.getEventName(),
+                        initialEvent.getData())));
+  }
+
+  /**
+   * 연결 직후 보낼 이벤트 (확인용 더미 이벤트 + 미수신 이벤트 또는 읽지 않은 알림)
+   *
+   * @param memberId 로그인 한 회원의 식별자
+   * @param username 로그인 한 회원의 아이디(이메일)
+   * @param lastEventId 마지막으로 받은 이벤트 식별자
+   * @return {List<CachedEventDto>} 보낼 이벤트 목록
+   */
+  private List<CachedEventDto> getInitialEvents(
+      Long memberId, String username, String lastEventId) {
+
+    long lastSequence = emitterRepository.findLastEventSequence(memberId);
+    List<CachedEventDto> initialEvents = new ArrayList<>();
+
+    // 연결이 생성되었을 시, 확인용 더미 이벤트 전송
+    initialEvents.add(
+        toConnectEvent(
+            lastSequence,
             NotificationInfoResponseDto.builder()
-                .notificationId(unreadEvent.getNotificationId())
-                .redirectUrl(unreadEvent.getRedirectLink())
-                .data(unreadEvent.getNotificationTypeEnum().name())
-                .build());
+                .data("EventStream Created. [email=" + username + "]")
+                .build()));
+
+    // 미수신 이벤트 전송 (이벤트 캐시로 이어받을 수 있으면 그 차이만 전송)
+    if (hasLostData(lastEventId)) {
+      Optional<List<CachedEventDto>> lostEvents = findLostData(lastEventId, memberId);
+      if (lostEvents.isPresent()) {
+        initialEvents.addAll(lostEvents.get());
+        return initialEvents;
       }
     }
-    return emitter;
+
+    // 읽지 않은 이벤트 전송
+    for (Notification unreadEvent : getUnreadEvents(memberId)) {
+      initialEvents.add(
+          toConnectEvent(
+              lastSequence,
+              NotificationInfoResponseDto.builder()
+                  .notificationId(unreadEvent.getNotificationId())
+                  .redirectUrl(notificationMapper.toRedirectUrl(unreadEvent))
+                  .data(unreadEvent.getNotificationTypeEnum().name())
+                  .aggregatedCount(unreadEvent.getAggregatedCount())
+                  .build()));
+    }
+    return initialEvents;
+  }
+
+  private CachedEventDto toConnectEvent(long sequence, NotificationInfoResponseDto data) {
+
+    return CachedEventDto.builder().sequence(sequence).eventName("connect").data(data).build();
   }
 
   /**
@@ -162,41 +255,26 @@ public class NotificationService {
   }
 
   /**
-   * 전송 못한 이벤트 재전송
+   * 전송 못한 이벤트 조회
    *
-   * @param lastEventId 마지막으로 받은 이벤트 식별자
-   * @param username 로그인 한 회원의 아이디(이메일)
-   * @param emitterId SseEmitter를 식별자(이메일_시각)
-   * @param emitter 연결된 SseEmitter 객체
+   * <p>이벤트 캐시는 노드마다 따로 있으므로, 다른 노드에서 받은 이벤트 식별자면 이어받지 않고 읽지 않은 알림을 다시 보낸다.
+   *
+   * @param lastEventId 마지막으로 받은 이벤트 식별자 (식별자_노드 식별자_시퀀스)
+   * @param memberId 로그인 한 회원의 식별자
+   * @return {Optional<List<CachedEventDto>>} 이어서 보낼 이벤트, 이벤트 캐시로 이어받을 수 없으면 empty
    */
-  private void sendLostData(
-      String lastEventId, String username, Long memberId, String emitterId, SseEmitter emitter) {
-
-    log.info(
-        "[NotificationService's sendLostData executes]: "
-            + username
-            + " "
-            + memberId
-            + " "
-            + lastEventId);
-    Map<String, Object> eventCaches =
-        emitterRepository.findAllEventCacheStartWithByEmail(username + "_" + memberId);
-    eventCaches.entrySet().stream()
-        .filter(entry -> lastEventId.compareTo(entry.getKey()) < 0)
-        .forEach(
-            entry -> {
-              sendNotification(
-                  emitter,
-                  entry.getKey(),
-                  emitterId,
-                  "connect",
-                  notificationMapper.toNotificationDto(-1L, null, entry.getValue()));
-              log.info("[In eventCaches]: " + emitterId + " " + "send");
-            });
+  private Optional<List<CachedEventDto>> findLostData(String lastEventId, Long memberId) {
+
+    log.info("[NotificationService's findLostData executes]: " + memberId + " " + lastEventId);
+    Long lastSequence = notificationDeliveryService.parseEventSequence(memberId, lastEventId);
+    if (lastSequence == null) {
+      return Optional.empty();
+    }
+    return emitterRepository.findAllEventCacheAfter(memberId, lastSequence);
   }
 
   /**
-   * 알림 저장 -> 이벤트 캐시에 저장 -> 알림 전송
+   * 알림 저장 + 아웃박스 기록 (전송은 커밋 후 NotificationOutboxRelay 에서 수행)
    *
    * @param recipientId 수신 회원 식별자
    * @param recipientTypeEnum 수신 회원 역할
@@ -213,64 +291,95 @@ public class NotificationService {
         notificationRepository.save(
             notificationMapper.toEntity(recipientId, recipientTypeEnum, notificationTypeEnum));
 
-    String recipientEmail =
-        authenticationClientService.getMemberEmailForKey(recipientId).getEmail();
-    // 이벤트 캐시를 위한 키 생성
-    String eventId = makeTimeIncludedId(recipientEmail, recipientId);
-
-    // 연결된 SseEmitter 가져오기
-    Map<String, SseEmitter> emitters =
-        emitterRepository.findAllEmitterStartWithByEmail(recipientEmail + "_" + recipientId);
-
-    emitters.forEach(
-        (key, emitter) -> {
-          // 이벤트 캐시에 저장
-          // emitterRepository.saveEventCache(key, savedNotification);
-          // 알림 전송
-          log.info("이벤트 알림 전송");
-          sendNotification(
-              emitter,
-              eventId,
-              key,
-              "happy",
-              notificationMapper.toNotificationDto(
-                  savedNotification.getNotificationId(),
-                  savedNotification.getRedirectLink(),
-                  savedNotification.getNotificationTypeEnum().name()));
-        });
+    log.info("이벤트 알림 전송");
+    notificationOutboxService.append(
+        recipientId,
+        "happy",
+        notificationMapper.toNotificationDto(
+            savedNotification.getNotificationId(),
+            notificationMapper.toRedirectUrl(savedNotification),
+            savedNotification.getNotificationTypeEnum().name()),
+        notificationPriorityResolver.resolve(
+            KafkaTopicNameInfo.SEND_NOTIFICATION, notificationTypeEnum));
   }
 
   /**
-   * 이메일과 시간 정보가 포함된 id 생성 (이벤트 및 SseEmitter 식별자)
+   * 한 번의 poll로 받은 알림들과 아웃박스를 일괄 저장 (전송은 커밋 후 회원별로 묶어서 수행)
    *
-   * @param email prefix로 사용될 이메일
-   * @param memberId prefix로 사용될 회원 식별자
-   * @return {String} 생성된 식별자(이메일_식별자_시각)
+   * @param notificationDtos 수신 회원 정보 + 알림 유형 목록
    */
-  public String makeTimeIncludedId(String email, Long memberId) {
-    return email + "_" + memberId + "_" + System.currentTimeMillis();
+  @Transactional
+  public void sendAll(List<MemberInfoForNotificationDto> notificationDtos) {
+
+    List<Notification> notifications = new ArrayList<>(notificationDtos.size());
+    for (MemberInfoForNotificationDto notificationDto : notificationDtos) {
+      notifications.add(
+          notificationMapper.toEntity(
+              notificationDto.getRecipientId(),
+              notificationDto.getRecipientType(),
+              notificationDto.getNotificationType()));
+    }
+    saveAllAndAppend(notifications);
   }
 
   /**
-   * 실제 알림 전송
+   * 묶음 알림 일괄 저장 (같은 회원, 같은 유형의 이벤트 여러 건을 알림 한 건으로 저장)
    *
-   * @param emitter 연결된 SseEmitter 객체
-   * @param eventId 이벤트 식별자 (이메일_식별자_시각)
-   * @param emitterId SseEmitter 객체 식별자 (이메일_식별자_시각)
-   * @param data 전송 내용
+   * @param aggregatedDtos 수신 회원 정보 + 알림 유형 + 묶인 이벤트 수 목록
    */
-  private void sendNotification(
-      SseEmitter emitter,
-      String eventId,
-      String emitterId,
-      String eventName,
-      NotificationInfoResponseDto data) {
-    try {
-      emitter.send(SseEmitter.event().id(eventId).name(eventName).data(data));
-      log.info("[NotificationService's sendNotification executes]: 알림 전송 완료: " + eventName);
-    } catch (IOException e) {
-      emitterRepository.deletedById(emitterId);
+  @Transactional
+  public void sendAllAggregated(List<AggregatedNotificationDto> aggregatedDtos) {
+
+    List<Notification> notifications = new ArrayList<>(aggregatedDtos.size());
+    for (AggregatedNotificationDto aggregatedDto : aggregatedDtos) {
+      notifications.add(
+          notificationMapper.toEntity(
+              aggregatedDto.getRecipientId(),
+              aggregatedDto.getRecipientType(),
+              aggregatedDto.getNotificationType(),
+              aggregatedDto.getAggregatedCount()));
     }
+    saveAllAndAppend(notifications);
+  }
+
+  private void saveAllAndAppend(List<Notification> notifications) {
+
+    List<Notification> savedNotifications = notificationRepository.saveAll(notifications);
+
+    // 우선순위별로 나눠서 회원별로 묶음
+    Map<NotificationPriorityEnum, Map<Long, List<NotificationInfoResponseDto>>> eventsByPriority =
+        new EnumMap<>(NotificationPriorityEnum.class);
+    for (Notification savedNotification : savedNotifications) {
+      NotificationPriorityEnum priority =
+          notificationPriorityResolver.resolve(
+              KafkaTopicNameInfo.SEND_NOTIFICATION, savedNotification.getNotificationTypeEnum());
+      eventsByPriority
+          .computeIfAbsent(priority, key -> new LinkedHashMap<>())
+          .computeIfAbsent(savedNotification.getRecipientId(), key -> new ArrayList<>())
+          .add(
+              NotificationInfoResponseDto.builder()
+                  .notificationId(savedNotification.getNotificationId())
+                  .redirectUrl(notificationMapper.toRedirectUrl(savedNotification))
+                  .data(savedNotification.getNotificationTypeEnum().name())
+                  .aggregatedCount(savedNotification.getAggregatedCount())
+                  .build());
+    }
+
+    log.info("[NotificationService's sendAll executes]: " + savedNotifications.size() + "건 전송");
+    eventsByPriority.forEach(
+        (priority, eventsByRecipient) ->
+            notificationOutboxService.appendAll("happy", eventsByRecipient, priority));
+  }
+
+  /**
+   * 이메일과 시간 정보가 포함된 id 생성 (SseEmitter 식별자)
+   *
+   * @param email prefix로 사용될 이메일
+   * @param memberId prefix로 사용될 회원 식별자
+   * @return {String} 생성된 식별자(이메일_식별자_시각)
+   */
+  public String makeTimeIncludedId(String email, Long memberId) {
+    return email + "_" + memberId + "_" + System.currentTimeMillis();
   }
 
   /**
@@ -283,58 +392,36 @@ public class NotificationService {
   public void sendError(ServerErrorForNotificationDto serverErrorDto)
       throws JsonProcessingException {
 
-    // 서버 오류로 인한 주문 과정에서의 에러 발생 시, 주문 내역 저장 로직 작성
-    ValueOperations<String, String> stringStringValueOperations = redisTemplate.opsForValue();
-    ObjectMapper objectMapper = new ObjectMapper();
-    objectMapper.registerModule(new JavaTimeModule());
-
-    // redis key 생성
     Long consumerId = serverErrorDto.getRecipientId();
-    String redisKey = "CONSUMER_" + consumerId;
 
     // 오류난 주문 내역 가져오기
     ConsumerOrderListResponseDto fakeOrder = serverErrorDto.getError().createFakeOrder();
-    String stringFakeOrder = objectMapper.writeValueAsString(fakeOrder);
+    String stringFakeOrder = failedOrderSerializer.writeValueAsString(fakeOrder);
 
-    // redis에 오류난 주문 내역 저장
-    stringStringValueOperations.set(redisKey, stringFakeOrder);
+    // redis에 오류난 주문 내역 저장 (링크 파라미터는 알림에 저장)
+    failedOrderRepository.save(consumerId, fakeOrder);
+    String orderParams = makeOrderParams(fakeOrder.getOrder().getOrdersId(), stringFakeOrder);
 
+    // 알림마다 해당 주문으로 이동하도록 링크 파라미터를 알림에 저장
     Notification savedNotification =
         notificationRepository.save(
             notificationMapper.toIncludedRedirectLinkEntity(
                 consumerId,
                 RecipientTypeEnum.ROLE_CONSUMER,
                 serverErrorDto.getNotificationType(),
-                "https://jeontongju.shop/orderdetail"));
-
-    MemberEmailForKeyDto memberEmailForKey =
-        authenticationClientService.getMemberEmailForKey(consumerId);
-    Map<String, SseEmitter> emitters =
-        emitterRepository.findAllEmitterStartWithByEmail(
-            memberEmailForKey.getEmail() + "_" + consumerId);
-
-    // event id 생성
-    String eventId = makeTimeIncludedId(memberEmailForKey.getEmail(), consumerId);
-    String redirectUrl =
-        savedNotification.getRedirectLink()
-            + "/"
-            + fakeOrder.getOrder().getOrdersId()
-            + "?order="
-            + URLEncoder.encode(stringFakeOrder, StandardCharsets.UTF_8);
-
-    emitters.forEach(
-        (key, emitter) -> {
-          sendNotification(
-              emitter,
-              eventId,
-              key,
-              "happy",
-              NotificationInfoResponseDto.builder()
-                  .notificationId(savedNotification.getNotificationId())
-                  .redirectUrl(stringFakeOrder)
-                  .data(serverErrorDto.getNotificationType().name())
-                  .build());
-        });
+                RedirectLinkRegistry.ORDER_DETAIL,
+                orderParams));
+
+    notificationOutboxService.append(
+        consumerId,
+        "happy",
+        NotificationInfoResponseDto.builder()
+            .notificationId(savedNotification.getNotificationId())
+            .redirectUrl(stringFakeOrder)
+            .data(serverErrorDto.getNotificationType().name())
+            .build(),
+        notificationPriorityResolver.resolve(
+            KafkaTopicNameInfo.SEND_ERROR_NOTIFICATION, serverErrorDto.getNotificationType()));
 
 //    log.info("[try getting fcm token]");
 //    FCMTokenDto fcmTokenDto = consumerClientService.getConsumerFCMToken(consumerId);
@@ -368,28 +455,18 @@ public class NotificationService {
                 recipientId,
                 memberInfoDto.getRecipientType(),
                 memberInfoDto.getNotificationType(),
-                ""));
-
-    MemberEmailForKeyDto memberEmailForKey =
-        authenticationClientService.getMemberEmailForKey(recipientId);
-    Map<String, SseEmitter> emitters =
-        emitterRepository.findAllEmitterStartWithByEmail(
-            memberEmailForKey.getEmail() + "_" + recipientId);
-
-    String eventId = makeTimeIncludedId(memberEmailForKey.getEmail(), recipientId);
-
-    emitters.forEach(
-        (key, emitter) -> {
-          sendNotification(
-              emitter,
-              eventId,
-              key,
-              "happy",
-              notificationMapper.toNotificationDto(
-                  savedNotification.getNotificationId(),
-                  null,
-                  memberInfoDto.getNotificationType().name()));
-        });
+                RedirectLinkRegistry.NONE));
+
+    notificationOutboxService.append(
+        recipientId,
+        "happy",
+        notificationMapper.toNotificationDto(
+            savedNotification.getNotificationId(),
+            null,
+            memberInfoDto.getNotificationType().name()),
+        notificationPriorityResolver.resolve(
+            KafkaTopicNameInfo.SEND_ERROR_CANCELING_ORDER_NOTIFICATION,
+            memberInfoDto.getNotificationType()));
   }
 
   /**
@@ -403,78 +480,82 @@ public class NotificationService {
   public UrlForRedirectResponseDto getRedirectLink(Long memberId, Long notificationId)
       throws JsonProcessingException {
 
-    ObjectMapper objectMapper = new ObjectMapper();
-    objectMapper.registerModule(new JavaTimeModule());
-
     readNotification(notificationId);
 
     Notification foundNotification = getNotification(notificationId);
 
-    if (foundNotification.getRedirectLink() == null) {
+    String redirectUrl = notificationMapper.toRedirectUrl(foundNotification);
+    if (redirectUrl == null) {
       throw new RuntimeException(CustomErrMessage.NOT_FOUND_REDIRECT_LINK);
     }
 
-    ValueOperations<String, String> stringStringValueOperations = redisTemplate.opsForValue();
-
-    String redisValue = stringStringValueOperations.get("CONSUMER_" + memberId);
-
-    NotificationTypeEnum notificationTypeEnum = foundNotification.getNotificationTypeEnum();
-    if (notificationTypeEnum == NotificationTypeEnum.OUT_OF_STOCK
-        || notificationTypeEnum == NotificationTypeEnum.BALANCE_ACCOUNTS
-        || notificationTypeEnum == NotificationTypeEnum.SUCCESS_SUBSCRIPTION_PAYMENTS) {
-
-      if (redisValue == null) {
-
-        return notificationMapper.toRedirectUrlDto(foundNotification.getRedirectLink());
-      }
+    // 주문 정보가 들어가지 않거나 알림에 파라미터가 저장된 링크는 그대로 반환
+    String redirectKey = foundNotification.getRedirectKey();
+    if (redirectKey != null
+        && (!redirectLinkRegistry.acceptsParams(redirectKey)
+            || foundNotification.getRedirectParams() != null)) {
+      return notificationMapper.toRedirectUrlDto(redirectUrl);
     }
 
-    ConsumerOrderListResponseDto consumerOrderListResponseDto =
-        objectMapper.readValue(redisValue, ConsumerOrderListResponseDto.class);
-
-    String ordersId = consumerOrderListResponseDto.getOrder().getOrdersId();
-
+    // 파라미터 없이 저장된 이전 알림만 회원의 마지막 실패 주문으로 링크 생성
+    ConsumerOrderListResponseDto failedOrder = failedOrderRepository.findByConsumerId(memberId);
+    if (failedOrder == null) {
+      return notificationMapper.toRedirectUrlDto(redirectUrl);
+    }
+    String orderParams =
+        makeOrderParams(
+            failedOrder.getOrder().getOrdersId(),
+            failedOrderSerializer.writeValueAsString(failedOrder));
+    if (redirectKey == null) {
+      return notificationMapper.toRedirectUrlDto(redirectUrl + orderParams);
+    }
     return notificationMapper.toRedirectUrlDto(
-        foundNotification.getRedirectLink()
-            + "/"
-            + ordersId
-            + "?order="
-            + urlEncoderManager.encodeURIComponent(redisValue));
+        redirectLinkRegistry.render(redirectKey, orderParams));
+  }
+
+  // 주문 상세 링크 파라미터 : /주문 식별자?order=인코딩한 주문 내역 JSON
+  private String makeOrderParams(String ordersId, String order) {
+    return "/" + ordersId + "?order=" + urlEncoderManager.encodeURIComponent(order);
   }
 
   /**
-   * 알림 조회 + 안읽은 알림 개수
+   * 알림 조회 (커서 기반 페이지) + 안읽은 알림 개수
    *
    * @param memberId 로그인 한 회원의 식별자
    * @param memberRole 로그인 한 회원의 역할
-   * @return {NotificationInfoForInquiryResponseDto} 조회할 알림 정보
+   * @param cursor 이전 페이지의 마지막 알림 식별자 (첫 페이지는 null)
+   * @param size 페이지 크기
+   * @return {NotificationInfoForInquiryResponseDto} 조회할 알림 정보 + 다음 커서
    */
   public NotificationInfoForInquiryResponseDto getNotificationInfosForInquiry(
-      Long memberId, MemberRoleEnum memberRole) {
+      Long memberId, MemberRoleEnum memberRole, Long cursor, int size) {
 
-    List<Notification> foundNotifications = notificationRepository.findByRecipientId(memberId);
-    int notReadCounts = getUnreadCounts(foundNotifications);
+    int pageSize = Math.min(Math.max(size, 1), MAX_INQUIRY_SIZE);
+    // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
     List<NotificationInfoForSingleInquiryDto> notificationDtos =
-        notificationMapper.toListLookupDto(foundNotifications);
-    return notificationMapper.toInquiryDto(notReadCounts, notificationDtos);
+        notificationRepository.findSliceByRecipientId(
+            memberId,
+            cursor == null ? Long.MAX_VALUE : cursor,
+            PageRequest.of(0, pageSize + 1));
+
+    Long nextCursor = null;
+    if (notificationDtos.size() > pageSize) {
+      notificationDtos = notificationDtos.subList(0, pageSize);
+      nextCursor = notificationDtos.get(pageSize - 1).getNotificationId();
+    }
+
+    int notReadCounts = (int) unreadCountService.getUnreadCount(memberId);
+    return notificationMapper.toInquiryDto(notReadCounts, notificationDtos, nextCursor);
   }
 
   /**
-   * 안 읽은 알림 개수 세기
+   * 안 읽은 알림 개수 조회 (헤더 뱃지용)
    *
-   * @param notifications 로그인 한 회원의 모든 알림
-   * @return {int} 안 읽은 알림 개수
+   * @param memberId 로그인 한 회원의 식별자
+   * @return {long} 안 읽은 알림 개수
    */
-  private int getUnreadCounts(List<Notification> notifications) {
-
-    int counts = 0;
-    for (Notification notification : notifications) {
-
-      if (!notification.getIsRead()) {
-        counts += 1;
-      }
-    }
-    return counts;
+  public long getUnreadCount(Long memberId) {
+    return unreadCountService.getUnreadCount(memberId);
   }
 
   /**
@@ -486,21 +567,35 @@ public class NotificationService {
   public void readNotification(Long notificationId) {
 
     Notification foundNotification = getNotification(notificationId);
-    foundNotification.assignIsRead(true);
+    if (!foundNotification.getIsRead()) {
+      foundNotification.assignIsRead(true);
+      unreadCountService.invalidate(foundNotification.getRecipientId());
+    }
   }
 
   /**
-   * 해당 회원 알림 전체 읽음 처리
+   * 해당 회원 알림 전체 읽음 처리 (안 읽은 알림만 한 번의 UPDATE로 처리)
+   *
+   * <p>다른 탭에 보내는 이벤트는 아웃박스에 기록하고 카운터는 커밋 후 삭제하므로, 롤백되면 둘 다 반영되지 않는다.
    *
    * @param memberId 로그인 한 회원의 식별자
+   * @return {int} 읽음 처리된 알림 개수
    */
   @Transactional
-  public void readAllNotification(Long memberId) {
-
-    List<Notification> foundNotifications = notificationRepository.findByRecipientId(memberId);
-    for (Notification notification : foundNotifications) {
-      notification.assignIsRead(true);
+  public int readAllNotification(Long memberId) {
+
+    int updatedCounts = notificationRepository.updateAllIsReadByRecipientId(memberId);
+    unreadCountService.invalidate(memberId);
+
+    // 다른 탭에서도 안 읽은 알림 개수를 초기화할 수 있도록 이벤트 전송 (커밋 후 릴레이가 전송)
+    if (updatedCounts > 0) {
+      notificationOutboxService.append(
+          memberId,
+          "read-all",
+          NotificationInfoResponseDto.builder().data(updatedCounts).build(),
+          NotificationPriorityEnum.NORMAL);
     }
+    return updatedCounts;
   }
 
   /**
@@ -536,26 +631,30 @@ public class NotificationService {
   public List<EmitterInfoForSingleInquiryDto> getEmitters(
       Long memberId, MemberRoleEnum memberRole) {
 
-    String email = authenticationClientService.getMemberEmailForKey(memberId).getEmail();
-    Map<String, SseEmitter> allEmitterStartWithByEmail =
-        emitterRepository.findAllEmitterStartWithByEmail(email + "_" + memberId);
+    Map<String, SseEmitter> memberEmitters = emitterRepository.findAllEmitterByMemberId(memberId);
 
     List<EmitterInfoForSingleInquiryDto> emitters = new ArrayList<>();
-    for (String key : allEmitterStartWithByEmail.keySet()) {
-      if (key.startsWith(email + "_" + memberId)) {
-        SseEmitter sseEmitter = allEmitterStartWithByEmail.get(key);
-        EmitterInfoForSingleInquiryDto build =
-            EmitterInfoForSingleInquiryDto.builder().emitterId(key).sseEmitter(sseEmitter).build();
-        emitters.add(build);
-      }
+    for (Map.Entry<String, SseEmitter> entry : memberEmitters.entrySet()) {
+      EmitterInfoForSingleInquiryDto build =
+          EmitterInfoForSingleInquiryDto.builder()
+              .emitterId(entry.getKey())
+              .sseEmitter(entry.getValue())
+              .build();
+      emitters.add(build);
     }
     return emitters;
   }
 
   public void resetEmitters(Long memberId) {
 
-    String memberEmail = authenticationClientService.getConsumerEmail(memberId);
+    // 탈퇴 등으로 회원 정보가 없어도 남은 연결은 정리
+    String memberEmail = null;
+    try {
+      memberEmail = authenticationClientService.getConsumerEmail(memberId);
+    } catch (MemberNotFoundException e) {
+      log.info("[Not found member email]: " + memberId);
+    }
     log.info("[memberEmail]: " + memberEmail);
-    emitterRepository.delete(memberEmail, memberId);
+    notificationDeliveryService.unregisterAll(memberEmail, memberId);
   }
 }
@@ -0,0 +1,566 @@
+package com.jeontongju.notification.service;
+
+import com.jeontongju.notification.dto.response.NotificationInfoResponseDto;
+import com.jeontongju.notification.enums.NotificationPriorityEnum;
+import com.jeontongju.notification.enums.SseOverflowPolicyEnum;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+/**
+ * SseEmitter 별 전송 큐 + 전용 스레드 풀
+ *
+ * <p>호출한 쪽은 큐에 넣기만 하므로, 응답이 느린 클라이언트가 Kafka 리스너 스레드나 DB 트랜잭션을 붙잡지 않는다. 큐가 가득 차면 설정한
+ * 정책(DROP_OLDEST, COALESCE, CLOSE)에 따라 처리한다.
+ *
+ * <p>전송 작업은 우선순위별 대기열에 올라가고, 워커는 가중치(HIGH 8 : NORMAL 3 : LOW 1) 순서로 대기열을 골라 처리한다. 셀러 대량 알림이
+ * 몰려도 주문 실패 알림이 뒤로 밀리지 않고, 낮은 우선순위도 굶지 않는다. 대기열이 가득 차면 작업을 보류 목록에 두고, 워커가 작업 하나를 끝낼
+ * 때마다와 타이머 틱마다 다시 올린다.
+ *
+ * <p>하트비트는 타이머 스레드 하나가 에미터를 슬롯(해시 휠)으로 나눠 매 틱마다 한 슬롯씩 보내므로, 한 바퀴에 연결 수만큼만 처리한다. 쓰기에
+ * 실패하거나 전송이 오래 멈춘 에미터는 제거한다.
+ *
+ * <p>쓰기 하나가 write-timeout-millis 를 넘기면 타이머가 틱마다 확인해 해당 에미터를 제거하고, 멈춘 워커를 인터럽트한 뒤 연결을 닫는다.
+ * 워커는 쓰기에서 풀려나면 다음 작업을 이어서 처리하므로 스레드 수는 dispatcher-threads 로 고정된다.
+ *
+ * <p>워커는 에미터 하나에서 한 번에 drain-batch-size 개까지만 보내고, 남은 이벤트는 대기열 뒤에 다시 올리므로 이벤트가 몰린 회원 한 명이
+ * 워커를 붙잡아 다른 회원의 전송이 밀리지 않는다. COALESCE 정책은 밀린 이벤트를 연결 직후와 같은 connect 이벤트 하나로 바꿔, 클라이언트가
+ * 알림 목록을 다시 조회하게 한다.
+ */
+@Slf4j
+@Service
+public class SseDispatchService {
+
+  private final Map<SseEmitter, EmitterQueue> queues = new ConcurrentHashMap<>();
+  private final ExecutorService dispatcherPool;
+  private final int dispatcherThreads;
+  // 우선순위별 전송 작업 대기열 + 전체 대기 작업 수
+  private final Map<NotificationPriorityEnum, BlockingQueue<EmitterQueue>> readyQueues =
+      new EnumMap<>(NotificationPriorityEnum.class);
+  private final Semaphore readyTasks = new Semaphore(0);
+  // 대기열이 가득 차서 올리지 못한 전송 작업 (전송 큐 -> 올릴 우선순위)
+  private final Map<EmitterQueue, NotificationPriorityEnum> rejectedQueues =
+      new ConcurrentHashMap<>();
+  // 가중치만큼 반복한 우선순위 순서 (워커가 돌아가며 사용)
+  private final NotificationPriorityEnum[] pickOrder;
+  private final AtomicInteger nextPick = new AtomicInteger();
+  // 연결 종료는 워커와 분리해서 처리
+  private final ExecutorService closeExecutor = Executors.newSingleThreadExecutor();
+  private final int queueCapacity;
+  private final SseOverflowPolicyEnum overflowPolicy;
+  private final Counter overflowCounter;
+  private final Counter slowConsumerCounter;
+  private final Counter rejectedCounter;
+  private final List<Set<EmitterQueue>> heartbeatWheel;
+  private final AtomicInteger nextSlot = new AtomicInteger();
+  private final long heartbeatMillis;
+  private final long staleMillis;
+  private final long writeTimeoutMillis;
+  private final int drainBatchSize;
+  // 쓰기 중인 전송 큐 (쓰기 시간 초과 확인용)
+  private final Set<EmitterQueue> writingQueues = ConcurrentHashMap.newKeySet();
+  // 하트비트 타이머 스레드에서만 접근
+  private int currentSlot;
+  private ScheduledExecutorService heartbeatTimer;
+
+  public SseDispatchService(
+      MeterRegistry meterRegistry,
+      @Value("${notification.sse.dispatcher-threads:8}") int dispatcherThreads,
+      @Value("${notification.sse.queue-capacity:64}") int queueCapacity,
+      @Value("${notification.sse.overflow-policy:DROP_OLDEST}")
+          SseOverflowPolicyEnum overflowPolicy,
+      @Value("${notification.sse.heartbeat-millis:25000}") long heartbeatMillis,
+      @Value("${notification.sse.heartbeat-slots:10}") int heartbeatSlots,
+      @Value("${notification.sse.stale-millis:60000}") long staleMillis,
+      @Value("${notification.sse.priority-queue-capacity:10000}") int priorityQueueCapacity,
+      @Value("${notification.sse.write-timeout-millis:5000}") long writeTimeoutMillis,
+      @Value("${notification.sse.drain-batch-size:16}") int drainBatchSize) {
+
+    this.dispatcherPool = Executors.newFixedThreadPool(dispatcherThreads);
+    this.dispatcherThreads = dispatcherThreads;
+    List<NotificationPriorityEnum> order = new ArrayList<>();
+    for (NotificationPriorityEnum priority : NotificationPriorityEnum.values()) {
+      readyQueues.put(priority, new ArrayBlockingQueue<>(priorityQueueCapacity));
+      for (int i = 0; i < priority.getWeight(); i++) {
+        order.add(priority);
+      }
+      Gauge.builder("notification.sse.dispatch.ready", readyQueues.get(priority), Collection::size)
+          .tag("priority", priority.name())
+          .register(meterRegistry);
+    }
+    this.pickOrder = order.toArray(new NotificationPriorityEnum[0]);
+    this.queueCapacity = queueCapacity;
+    this.overflowPolicy = overflowPolicy;
+    this.heartbeatWheel = new ArrayList<>(heartbeatSlots);
+    for (int i = 0; i < heartbeatSlots; i++) {
+      heartbeatWheel.add(ConcurrentHashMap.newKeySet());
+    }
+    this.heartbeatMillis = heartbeatMillis;
+    this.staleMillis = staleMillis;
+    this.writeTimeoutMillis = writeTimeoutMillis;
+    this.drainBatchSize = drainBatchSize;
+    this.overflowCounter =
+        Counter.builder("notification.sse.queue.overflow")
+            .tag("policy", overflowPolicy.name())
+            .register(meterRegistry);
+    this.slowConsumerCounter =
+        Counter.builder("notification.sse.slow.consumer").register(meterRegistry);
+    this.rejectedCounter =
+        Counter.builder("notification.sse.dispatch.rejected").register(meterRegistry);
+    Gauge.builder("notification.sse.queue.depth", queues, SseDispatchService::totalDepth)
+        .register(meterRegistry);
+    Gauge.builder("notification.sse.queue.emitters", queues, Map::size).register(meterRegistry);
+    Gauge.builder("notification.sse.dispatch.rejected.pending", rejectedQueues, Map::size)
+        .register(meterRegistry);
+  }
+
+  @PostConstruct
+  public void start() {
+
+    startWorkers();
+    long tickMillis = Math.max(1L, heartbeatMillis / heartbeatWheel.size());
+    heartbeatTimer = Executors.newSingleThreadScheduledExecutor();
+    heartbeatTimer.scheduleAtFixedRate(
+        this::sendHeartbeats, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    long watchdogMillis = Math.max(1L, Math.min(tickMillis, writeTimeoutMillis / 2));
+    heartbeatTimer.scheduleAtFixedRate(
+        this::evictStalledWriters, watchdogMillis, watchdogMillis, TimeUnit.MILLISECONDS);
+    heartbeatTimer.scheduleAtFixedRate(
+        this::resubmitRejected, watchdogMillis, watchdogMillis, TimeUnit.MILLISECONDS);
+  }
+
+  void startWorkers() {
+
+    for (int i = 0; i < dispatcherThreads; i++) {
+      dispatcherPool.execute(this::runWorker);
+    }
+  }
+
+  @PreDestroy
+  public void stop() {
+
+    if (heartbeatTimer != null) {
+      heartbeatTimer.shutdown();
+    }
+    dispatcherPool.shutdownNow();
+    closeExecutor.shutdown();
+  }
+
+  /**
+   * 전송 큐 생성
+   *
+   * @param emitter 등록할 SseEmitter 객체
+   * @param onEvict 전송 실패 또는 CLOSE 정책으로 제거될 때 실행할 작업
+   */
+  public void register(SseEmitter emitter, Runnable onEvict) {
+
+    int slot = Math.floorMod(nextSlot.getAndIncrement(), heartbeatWheel.size());
+    EmitterQueue queue = new EmitterQueue(emitter, onEvict, slot);
+    queues.put(emitter, queue);
+    heartbeatWheel.get(slot).add(queue);
+  }
+
+  public void unregister(SseEmitter emitter) {
+
+    EmitterQueue queue = queues.remove(emitter);
+    if (queue != null) {
+      heartbeatWheel.get(queue.slot).remove(queue);
+      rejectedQueues.remove(queue);
+    }
+  }
+
+  /**
+   * 전송 큐에 이벤트 추가 (블로킹 없음)
+   *
+   * @param emitter 대상 SseEmitter 객체
+   * @param event 전송할 이벤트
+   */
+  public void enqueue(SseEmitter emitter, SseEventBuilder event) {
+    enqueue(emitter, event, NotificationPriorityEnum.NORMAL);
+  }
+
+  /**
+   * 전송 큐에 이벤트 추가 후 우선순위 대기열에 전송 작업 등록 (블로킹 없음)
+   *
+   * @param emitter 대상 SseEmitter 객체
+   * @param event 전송할 이벤트
+   * @param priority 전송 우선순위
+   */
+  public void enqueue(
+      SseEmitter emitter, SseEventBuilder event, NotificationPriorityEnum priority) {
+
+    EmitterQueue queue = queues.get(emitter);
+    if (queue == null) {
+      return;
+    }
+    NotificationPriorityEnum schedulePriority = queue.offer(event, priority);
+    if (schedulePriority != null) {
+      submit(queue, schedulePriority);
+    }
+  }
+
+  /** 현재 슬롯의 에미터들에 하트비트 전송 (타이머 틱마다 한 슬롯) */
+  void sendHeartbeats() {
+
+    Set<EmitterQueue> slot = heartbeatWheel.get(currentSlot);
+    currentSlot = (currentSlot + 1) % heartbeatWheel.size();
+
+    long now = System.currentTimeMillis();
+    for (EmitterQueue queue : slot) {
+      try {
+        NotificationPriorityEnum schedulePriority = queue.offerHeartbeat(now);
+        if (schedulePriority != null) {
+          submit(queue, schedulePriority);
+        }
+      } catch (Exception e) {
+        log.error("[During sse heartbeat]: Error while sending heartbeat={}", e.getMessage());
+      }
+    }
+  }
+
+  /** 쓰기가 write-timeout-millis 를 넘긴 에미터를 제거하고, 붙잡힌 워커를 인터럽트한 뒤 연결 종료 */
+  void evictStalledWriters() {
+
+    long now = System.currentTimeMillis();
+    for (EmitterQueue queue : writingQueues) {
+      try {
+        if (queue.abandonIfStalled(now)) {
+          slowConsumerCounter.increment();
+          evict(queue);
+          closeExecutor.execute(queue::completeQuietly);
+        }
+      } catch (Exception e) {
+        log.error("[During sse dispatch]: Error while evicting stalled writer={}", e.getMessage());
+      }
+    }
+  }
+
+  /** 보류 중인 전송 작업을 대기열에 다시 올림 (대기열이 다시 가득 차면 중단) */
+  void resubmitRejected() {
+
+    for (EmitterQueue queue : rejectedQueues.keySet()) {
+      NotificationPriorityEnum priority = rejectedQueues.remove(queue);
+      if (priority == null) {
+        continue;
+      }
+      if (!readyQueues.get(priority).offer(queue)) {
+        reject(queue, priority);
+        return;
+      }
+      readyTasks.release();
+    }
+  }
+
+  private void submit(EmitterQueue queue, NotificationPriorityEnum priority) {
+
+    if (readyQueues.get(priority).offer(queue)) {
+      readyTasks.release();
+      return;
+    }
+    rejectedCounter.increment();
+    reject(queue, priority);
+  }
+
+  // 전송 작업은 올라간 것으로 두고 보류 목록에 남김 (이미 보류 중이면 더 높은 우선순위 유지)
+  private void reject(EmitterQueue queue, NotificationPriorityEnum priority) {
+    rejectedQueues.merge(
+        queue, priority, (current, added) -> current.compareTo(added) <= 0 ? current : added);
+  }
+
+  private void runWorker() {
+
+    while (!dispatcherPool.isShutdown()) {
+      try {
+        readyTasks.acquire();
+      } catch (InterruptedException e) {
+        // 종료할 때만 인터럽트됨 (멈춘 쓰기를 풀기 위한 인터럽트는 drain 에서 지움)
+        continue;
+      }
+      EmitterQueue queue = pollReady();
+      if (queue == null) {
+        continue;
+      }
+      try {
+        NotificationPriorityEnum remaining = queue.drain();
+        if (remaining != null) {
+          // 한 번에 보낼 개수를 넘겨 남은 이벤트는 대기열 뒤에서 다시 처리
+          submit(queue, remaining);
+        }
+      } catch (Exception e) {
+        log.error("[During sse dispatch]: Error while draining={}", e.getMessage());
+      }
+      // 대기열에 자리가 생겼으므로 보류 중인 작업을 다시 올림
+      if (!rejectedQueues.isEmpty()) {
+        resubmitRejected();
+      }
+    }
+  }
+
+  // 가중치 순서에 따라 대기열을 고르고, 비어있으면 높은 우선순위부터 확인
+  private EmitterQueue pollReady() {
+
+    NotificationPriorityEnum picked =
+        pickOrder[Math.floorMod(nextPick.getAndIncrement(), pickOrder.length)];
+    EmitterQueue queue = readyQueues.get(picked).poll();
+    if (queue != null) {
+      return queue;
+    }
+    for (NotificationPriorityEnum priority : NotificationPriorityEnum.values()) {
+      queue = readyQueues.get(priority).poll();
+      if (queue != null) {
+        return queue;
+      }
+    }
+    return null;
+  }
+
+  private static double totalDepth(Map<SseEmitter, EmitterQueue> queues) {
+
+    long depth = 0;
+    for (EmitterQueue queue : queues.values()) {
+      depth += queue.size();
+    }
+    return depth;
+  }
+
+  private void evict(EmitterQueue queue) {
+
+    queues.remove(queue.emitter);
+    heartbeatWheel.get(queue.slot).remove(queue);
+    rejectedQueues.remove(queue);
+    queue.onEvict.run();
+  }
+
+  private class EmitterQueue {
+
+    private final SseEmitter emitter;
+    private final Runnable onEvict;
+    private final int slot;
+    private final ArrayDeque<SseEventBuilder> events = new ArrayDeque<>();
+    // 전송 작업이 대기열에 올라가 있거나 실행 중인지 여부
+    private boolean scheduled;
+    // 전송 작업이 실행 중인지 여부 (에미터당 하나만 실행)
+    private boolean running;
+    // 전송 작업을 올린 대기열의 우선순위
+    private NotificationPriorityEnum scheduledPriority;
+    private boolean closed;
+    // 쓰기 중인지, 쓰기가 멈춰 감시 작업이 에미터를 제거했는지 여부
+    private boolean writing;
+    private boolean abandoned;
+    private long writeStartedAt;
+    // 쓰기 중인 워커 (쓰기가 멈추면 인터럽트)
+    private Thread writer;
+    // 마지막으로 전송에 성공했거나 큐가 비어있다가 이벤트가 들어온 시각
+    private volatile long lastProgressAt = System.currentTimeMillis();
+
+    private EmitterQueue(SseEmitter emitter, Runnable onEvict, int slot) {
+      this.emitter = emitter;
+      this.onEvict = onEvict;
+      this.slot = slot;
+    }
+
+    /**
+     * @return {NotificationPriorityEnum} 전송 작업을 올려야 할 대기열 (올릴 필요 없으면 null)
+     */
+    private synchronized NotificationPriorityEnum offer(
+        SseEventBuilder event, NotificationPriorityEnum priority) {
+
+      if (closed) {
+        return null;
+      }
+      if (events.size() >= queueCapacity && !handleOverflow()) {
+        return null;
+      }
+      return add(event, priority);
+    }
+
+    /**
+     * 보낼 이벤트가 없을 때만 하트비트 추가, 전송이 stale-millis 이상 멈춰 있으면 끊긴 연결로 보고 제거
+     *
+     * @return {NotificationPriorityEnum} 전송 작업을 올려야 할 대기열 (올릴 필요 없으면 null)
+     */
+    private synchronized NotificationPriorityEnum offerHeartbeat(long now) {
+
+      if (closed) {
+        return null;
+      }
+      if (events.isEmpty()) {
+        return add(SseEmitter.event().comment("heartbeat"), NotificationPriorityEnum.LOW);
+      }
+      if (now - lastProgressAt > staleMillis) {
+        closed = true;
+        events.clear();
+        slowConsumerCounter.increment();
+        closeExecutor.execute(this::close);
+      }
+      return null;
+    }
+
+    // 이미 낮은 우선순위로 대기 중이면 높은 우선순위 대기열에 한 번 더 올림 (먼저 실행된 쪽이 전부 전송)
+    private NotificationPriorityEnum add(SseEventBuilder event, NotificationPriorityEnum priority) {
+
+      if (events.isEmpty()) {
+        lastProgressAt = System.currentTimeMillis();
+      }
+      events.addLast(event);
+      if (!scheduled) {
+        scheduled = true;
+        scheduledPriority = priority;
+        return priority;
+      }
+      if (!running && priority.compareTo(scheduledPriority) < 0) {
+        scheduledPriority = priority;
+        return priority;
+      }
+      return null;
+    }
+
+    // 쓰기가 시간을 넘겼으면 더 이상 전송하지 않도록 표시하고 워커 인터럽트 (제거와 연결 종료는 호출한 쪽에서)
+    private synchronized boolean abandonIfStalled(long now) {
+
+      if (!writing || abandoned || now - writeStartedAt <= writeTimeoutMillis) {
+        return false;
+      }
+      abandoned = true;
+      closed = true;
+      events.clear();
+      writer.interrupt();
+      return true;
+    }
+
+    // 큐가 가득 찬 경우 정책 적용, 이벤트를 계속 넣을 수 있으면 true
+    private boolean handleOverflow() {
+
+      overflowCounter.increment();
+      switch (overflowPolicy) {
+        case DROP_OLDEST:
+          events.pollFirst();
+          return true;
+        case COALESCE:
+          // 밀린 이벤트를 버리고, 클라이언트가 목록을 다시 조회하도록 연결 직후와 같은 이벤트 하나로 대체
+          events.clear();
+          events.addLast(
+              SseEmitter.event()
+                  .name("connect")
+                  .data(
+                      NotificationInfoResponseDto.builder().data("EventStream Resynced.").build()));
+          return false;
+        default:
+          closed = true;
+          events.clear();
+          slowConsumerCounter.increment();
+          closeExecutor.execute(this::close);
+          return false;
+      }
+    }
+
+    /**
+     * 이벤트를 drain-batch-size 개까지 전송
+     *
+     * @return {NotificationPriorityEnum} 이벤트가 남아 전송 작업을 다시 올려야 할 대기열 (다 보냈으면 null)
+     */
+    private NotificationPriorityEnum drain() {
+
+      synchronized (this) {
+        if (running) {
+          return null;
+        }
+        running = true;
+      }
+      for (int sent = 0; ; sent++) {
+        SseEventBuilder event;
+        synchronized (this) {
+          if (sent >= drainBatchSize && !events.isEmpty() && !closed) {
+            // 전송 작업은 올라간 것으로 두고 대기열 뒤에 다시 올림
+            running = false;
+            return scheduledPriority;
+          }
+          event = events.pollFirst();
+          if (event == null || closed) {
+            scheduled = false;
+            running = false;
+            return null;
+          }
+          writing = true;
+          writeStartedAt = System.currentTimeMillis();
+          writer = Thread.currentThread();
+        }
+        writingQueues.add(this);
+        boolean failed = false;
+        try {
+          emitter.send(event);
+          lastProgressAt = System.currentTimeMillis();
+        } catch (IOException | IllegalStateException e) {
+          failed = true;
+        } finally {
+          writingQueues.remove(this);
+        }
+
+        boolean stalled;
+        synchronized (this) {
+          writing = false;
+          writer = null;
+          stalled = abandoned;
+          if (stalled || failed) {
+            closed = true;
+            events.clear();
+            scheduled = false;
+            running = false;
+          }
+        }
+        if (stalled) {
+          // 감시 작업이 에미터를 제거하고 연결을 닫았으므로, 인터럽트 표시만 지우고 다음 작업 처리
+          Thread.interrupted();
+          return null;
+        }
+        if (failed) {
+          evict(this);
+          return null;
+        }
+      }
+    }
+
+    private void completeQuietly() {
+
+      try {
+        emitter.complete();
+      } catch (Exception e) {
+        log.info("[SseDispatchService's drain executes]: 멈춘 연결 종료 실패: " + e.getMessage());
+      }
+    }
+
+    private void close() {
+
+      evict(this);
+      emitter.complete();
+    }
+
+    private synchronized int size() {
+      return events.size();
+    }
+  }
+}
@@ -0,0 +1,173 @@
+package com.jeontongju.notification.service;
+
+import com.jeontongju.notification.repository.EmitterRepository;
+import com.jeontongju.notification.repository.NotificationRepository;
+import com.jeontongju.notification.repository.UnreadCountRepository;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 안 읽은 알림 개수 카운터 관리 (Redis 카운터 + MySQL 기준 재계산)
+ *
+ * <p>재계산 결과는 계산을 시작할 때 읽은 카운터 값이 그대로일 때만 저장하므로, 계산 중에 들어온 증감을 덮어쓰지 않는다. 주기적인 보정은 연결된
+ * 회원을 식별자 순서로 돌아가며 reconcile-batch-size 명씩만 처리한다.
+ *
+ * <p>읽음 처리는 카운터를 줄이지 않고 커밋 후에 삭제해 다음 조회 때 MySQL 기준으로 다시 계산한다. 아직 전송되지 않은 알림을 먼저 읽으면 감소가
+ * 증가보다 먼저 반영되기 때문이다. 같은 이유로 아웃박스 전송 시점에 이미 읽은 알림은 카운터를 올리지 않는다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class UnreadCountService {
+
+  private final UnreadCountRepository unreadCountRepository;
+  private final NotificationRepository notificationRepository;
+  private final EmitterRepository emitterRepository;
+  private final int reconcileBatchSize;
+  // 마지막으로 보정한 회원 식별자 (다음 주기에는 그 다음 회원부터 보정)
+  private long reconcileCursor = Long.MIN_VALUE;
+
+  public UnreadCountService(
+      UnreadCountRepository unreadCountRepository,
+      NotificationRepository notificationRepository,
+      EmitterRepository emitterRepository,
+      @Value("${notification.unread-count.reconcile-batch-size:500}") int reconcileBatchSize) {
+
+    this.unreadCountRepository = unreadCountRepository;
+    this.notificationRepository = notificationRepository;
+    this.emitterRepository = emitterRepository;
+    this.reconcileBatchSize = reconcileBatchSize;
+  }
+
+  /**
+   * 안 읽은 알림 개수 조회 (카운터가 없거나 만료된 경우 MySQL 기준으로 다시 계산)
+   *
+   * @param memberId 로그인 한 회원의 식별자
+   * @return {long} 안 읽은 알림 개수
+   */
+  public long getUnreadCount(Long memberId) {
+
+    Long unreadCount = unreadCountRepository.findByMemberId(memberId);
+    if (unreadCount != null) {
+      return unreadCount;
+    }
+    return reconcile(memberId, null);
+  }
+
+  /**
+   * 전송한 아웃박스 이벤트 수만큼 증가 (다시 전송된 이벤트는 세지 않음)
+   *
+   * @param memberId 회원 식별자
+   * @param outboxIds 알림이 있는 아웃박스 이벤트 식별자 목록
+   */
+  public void increaseOnce(Long memberId, List<Long> outboxIds) {
+    unreadCountRepository.increaseOnce(memberId, outboxIds);
+  }
+
+  /**
+   * 아직 읽지 않은 알림만 골라냄 (전송 전에 읽은 알림은 카운터를 올리지 않도록)
+   *
+   * @param notificationIds 알림 식별자 목록
+   * @return {Set<Long>} 읽지 않은 알림 식별자
+   */
+  public Set<Long> findAllUnreadIds(Collection<Long> notificationIds) {
+
+    if (notificationIds.isEmpty()) {
+      return new HashSet<>();
+    }
+    return new HashSet<>(notificationRepository.findAllUnreadIdByNotificationIdIn(notificationIds));
+  }
+
+  /**
+   * 읽음 처리 후 카운터 삭제 (트랜잭션 안이면 커밋 후에 삭제, 다음 조회 때 다시 계산)
+   *
+   * @param memberId 회원 식별자
+   */
+  public void invalidate(Long memberId) {
+    afterCommit(() -> unreadCountRepository.delete(memberId));
+  }
+
+  /**
+   * MySQL 기준으로 카운터 재계산 (카운터가 expected 그대로일 때만 저장)
+   *
+   * @param memberId 회원 식별자
+   * @param expected 계산 전에 읽은 카운터 값 (없었으면 null)
+   * @return {long} 재계산된 안 읽은 알림 개수
+   */
+  public long reconcile(Long memberId, Long expected) {
+
+    long unreadCount = notificationRepository.countByRecipientIdAndIsRead(memberId, false);
+    unreadCountRepository.compareAndSave(memberId, expected, unreadCount);
+    return unreadCount;
+  }
+
+  /**
+   * 현재 노드에 연결된 회원들의 카운터를 돌아가며 재계산해 누적된 오차 보정
+   *
+   * <p>카운터가 없는 회원은 다음 조회 때 계산하므로 건너뛴다.
+   */
+  @Scheduled(fixedDelayString = "${notification.unread-count.reconcile-interval-millis:600000}")
+  public void reconcileConnectedMembers() {
+
+    for (Long memberId : nextReconcileMembers()) {
+      try {
+        Long unreadCount = unreadCountRepository.findByMemberId(memberId);
+        if (unreadCount != null) {
+          reconcile(memberId, unreadCount);
+        }
+      } catch (Exception e) {
+        log.error("During Reconcile: Error while recounting unread={}", e.getMessage());
+      }
+    }
+  }
+
+  private void afterCommit(Runnable action) {
+
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            action.run();
+          }
+        });
+  }
+
+  // 마지막으로 보정한 회원 다음부터 reconcile-batch-size 명 (끝에 닿으면 처음부터 이어서)
+  private List<Long> nextReconcileMembers() {
+
+    NavigableSet<Long> memberIds = new TreeSet<>(emitterRepository.findAllMemberId());
+    List<Long> members = new ArrayList<>(Math.min(reconcileBatchSize, memberIds.size()));
+    for (Long memberId : memberIds.tailSet(reconcileCursor, false)) {
+      if (members.size() >= reconcileBatchSize) {
+        break;
+      }
+      members.add(memberId);
+    }
+    for (Long memberId : memberIds.headSet(reconcileCursor, true)) {
+      if (members.size() >= reconcileBatchSize) {
+        break;
+      }
+      members.add(memberId);
+    }
+    if (!members.isEmpty()) {
+      reconcileCursor = members.get(members.size() - 1);
+    }
+    return members;
+  }
+}
@@ -3,6 +3,11 @@ package com.jeontongju.notification.utils;
 public interface CustomErrMessage {
 
   String NOT_FOUND_NOTIFICATION = "찾을 수 없는 알림";
+  String NOT_FOUND_MEMBER = "찾을 수 없는 회원";
   String NOT_FOUND_REDIRECT_LINK = "이동할 링크 없음";
   String NOT_FOUND_FCM_TOKEN = "존재하지 않는 FCM 토큰";
+  String NOT_FOUND_BROADCAST_JOB = "찾을 수 없는 전송 작업";
+  String FORBIDDEN_MEMBER_ROLE = "권한이 없는 회원";
+  String INVALID_DLT_TOPIC = "DLT 토픽이 아님";
+  String INVALID_BROADCAST_RECIPIENT = "수신자 목록과 수신자 유형이 모두 없음";
 }
@@ -0,0 +1,90 @@
+package com.jeontongju.notification.utils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.github.bitbox.bitbox.dto.ConsumerOrderListResponseDto;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주문 실패 내역(ConsumerOrderListResponseDto) JSON 변환 + Redis 직렬화
+ *
+ * <p>기존과 같은 JSON 형식(JavaTimeModule, 날짜는 배열)을 쓰도록 전용 ObjectMapper 로 만든 reader/writer 를 재사용한다.
+ * Redis 에는 compress-min-bytes 이상이면 gzip 으로 압축해 저장하고, 읽을 때는 gzip 헤더로 구분하므로 기존에 문자열로 저장된 값도 읽을
+ * 수 있다.
+ */
+@Component
+public class FailedOrderSerializer implements RedisSerializer<ConsumerOrderListResponseDto> {
+
+  private static final byte GZIP_MAGIC_FIRST = (byte) 0x1f;
+  private static final byte GZIP_MAGIC_SECOND = (byte) 0x8b;
+
+  private final ObjectReader reader;
+  private final ObjectWriter writer;
+  private final int compressMinBytes;
+
+  public FailedOrderSerializer(
+      @Value("${notification.failed-order.compress-min-bytes:512}") int compressMinBytes) {
+
+    ObjectMapper objectMapper = new ObjectMapper();
+    objectMapper.registerModule(new JavaTimeModule());
+    this.reader = objectMapper.readerFor(ConsumerOrderListResponseDto.class);
+    this.writer = objectMapper.writerFor(ConsumerOrderListResponseDto.class);
+    this.compressMinBytes = compressMinBytes;
+  }
+
+  public String writeValueAsString(ConsumerOrderListResponseDto order)
+      throws JsonProcessingException {
+    return writer.writeValueAsString(order);
+  }
+
+  @Override
+  public byte[] serialize(ConsumerOrderListResponseDto order) throws SerializationException {
+
+    if (order == null) {
+      return new byte[0];
+    }
+    try {
+      byte[] json = writer.writeValueAsBytes(order);
+      if (json.length < compressMinBytes) {
+        return json;
+      }
+      ByteArrayOutputStream compressed = new ByteArrayOutputStream(json.length / 4);
+      try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+        gzip.write(json);
+      }
+      return compressed.toByteArray();
+    } catch (IOException e) {
+      throw new SerializationException("Could not write failed order", e);
+    }
+  }
+
+  @Override
+  public ConsumerOrderListResponseDto deserialize(byte[] bytes) throws SerializationException {
+
+    if (bytes == null || bytes.length == 0) {
+      return null;
+    }
+    boolean compressed =
+        bytes.length > 1 && bytes[0] == GZIP_MAGIC_FIRST && bytes[1] == GZIP_MAGIC_SECOND;
+    try (InputStream json =
+        compressed
+            ? new GZIPInputStream(new ByteArrayInputStream(bytes))
+            : new ByteArrayInputStream(bytes)) {
+      return reader.readValue(json);
+    } catch (IOException e) {
+      throw new SerializationException("Could not read failed order", e);
+    }
+  }
+}
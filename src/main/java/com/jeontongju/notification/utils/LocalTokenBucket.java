@@ -0,0 +1,64 @@
+package com.jeontongju.notification.utils;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/** 락 없는 토큰 버킷 (상태를 불변 객체로 두고 CAS 로 교체) */
+public class LocalTokenBucket {
+
+  private final long capacity;
+  private final double refillPerNano;
+  private final AtomicReference<State> state;
+
+  public LocalTokenBucket(long capacity, double refillPerSecond, long nowNanos) {
+
+    this.capacity = capacity;
+    this.refillPerNano = refillPerSecond / 1_000_000_000d;
+    this.state = new AtomicReference<>(new State(capacity, nowNanos));
+  }
+
+  /**
+   * 토큰 하나 사용
+   *
+   * @param nowNanos 현재 시각 (System.nanoTime)
+   * @return {boolean} 사용 성공 여부 (토큰이 없으면 false)
+   */
+  public boolean tryAcquire(long nowNanos) {
+
+    while (true) {
+      State current = state.get();
+      // 다른 스레드가 더 늦은 시각으로 갱신한 경우 경과 시간은 0으로 봄
+      long refilledAt = Math.max(current.refilledAt, nowNanos);
+      double tokens =
+          Math.min(capacity, current.tokens + (refilledAt - current.refilledAt) * refillPerNano);
+      if (tokens < 1d) {
+        return false;
+      }
+      if (state.compareAndSet(current, new State(tokens - 1d, refilledAt))) {
+        return true;
+      }
+    }
+  }
+
+  /** 사용한 토큰 하나 돌려줌 (다른 한도에 걸려 전송하지 않은 경우, 최대 개수는 넘지 않음) */
+  public void refund() {
+
+    while (true) {
+      State current = state.get();
+      State refunded = new State(Math.min(capacity, current.tokens + 1d), current.refilledAt);
+      if (state.compareAndSet(current, refunded)) {
+        return;
+      }
+    }
+  }
+
+  private static final class State {
+
+    private final double tokens;
+    private final long refilledAt;
+
+    private State(double tokens, long refilledAt) {
+      this.tokens = tokens;
+      this.refilledAt = refilledAt;
+    }
+  }
+}
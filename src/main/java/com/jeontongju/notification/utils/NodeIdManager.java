@@ -0,0 +1,49 @@
+package com.jeontongju.notification.utils;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 현재 노드 식별자 (SSE 노드 채널과 TimeOrderedIdGenerator 가 함께 사용)
+ *
+ * <p>식별자가 겹치면 같은 ms 에 발급한 알림 식별자가 충돌하므로, 노드마다 다른 0 ~ 31 사이 숫자를 지정해야 하고 없으면 시작하지 않는다.
+ */
+@Component
+public class NodeIdManager {
+
+  public static final String NODE_ID_PROPERTY = "notification.node-id";
+
+  private final String nodeId;
+
+  public NodeIdManager(@Value("${notification.node-id:}") String nodeId) {
+    this.nodeId = String.valueOf(parseNodeId(nodeId));
+  }
+
+  public String getNodeId() {
+    return nodeId;
+  }
+
+  /**
+   * 노드 식별자 확인
+   *
+   * @param nodeId 설정한 노드 식별자
+   * @return {int} 0 ~ 31 사이 노드 식별자
+   */
+  public static int parseNodeId(String nodeId) {
+
+    if (nodeId == null || nodeId.isBlank()) {
+      throw new IllegalStateException(NODE_ID_PROPERTY + " 가 지정되지 않음");
+    }
+    int parsed;
+    try {
+      parsed = Integer.parseInt(nodeId.trim());
+    } catch (NumberFormatException e) {
+      throw new IllegalStateException(NODE_ID_PROPERTY + " 는 숫자여야 함: " + nodeId);
+    }
+    if (parsed < 0 || parsed > TimeOrderedIdGenerator.MAX_NODE_ID) {
+      throw new IllegalStateException(
+          NODE_ID_PROPERTY + " 는 0 ~ " + TimeOrderedIdGenerator.MAX_NODE_ID + " 사이여야 함: " + nodeId);
+    }
+    return parsed;
+  }
+}
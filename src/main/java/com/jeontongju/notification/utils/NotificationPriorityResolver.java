@@ -0,0 +1,35 @@
+package com.jeontongju.notification.utils;
+
+import com.jeontongju.notification.enums.NotificationPriorityEnum;
+import io.github.bitbox.bitbox.enums.NotificationTypeEnum;
+import io.github.bitbox.bitbox.util.KafkaTopicNameInfo;
+import java.util.EnumSet;
+import java.util.Set;
+import org.springframework.stereotype.Component;
+
+/** 알림 유형 + 수신 토픽으로 전송 우선순위 결정 */
+@Component
+public class NotificationPriorityResolver {
+
+  // 한 번에 많은 셀러에게 나가는 알림
+  private static final Set<NotificationTypeEnum> BULK_TYPES =
+      EnumSet.of(NotificationTypeEnum.OUT_OF_STOCK, NotificationTypeEnum.BALANCE_ACCOUNTS);
+
+  /**
+   * @param topic 알림이 들어온 토픽 (재시도 단계 토픽 포함)
+   * @param notificationType 알림 유형
+   * @return {NotificationPriorityEnum} 전송 우선순위
+   */
+  public NotificationPriorityEnum resolve(String topic, NotificationTypeEnum notificationType) {
+
+    if (topic != null
+        && (topic.startsWith(KafkaTopicNameInfo.SEND_ERROR_NOTIFICATION)
+            || topic.startsWith(KafkaTopicNameInfo.SEND_ERROR_CANCELING_ORDER_NOTIFICATION))) {
+      return NotificationPriorityEnum.HIGH;
+    }
+    if (BULK_TYPES.contains(notificationType)) {
+      return NotificationPriorityEnum.LOW;
+    }
+    return NotificationPriorityEnum.NORMAL;
+  }
+}
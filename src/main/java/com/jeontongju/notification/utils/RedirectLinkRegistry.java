@@ -0,0 +1,103 @@
+package com.jeontongju.notification.utils;
+
+import com.jeontongju.notification.config.RedirectLinkProperties;
+import io.github.bitbox.bitbox.enums.NotificationTypeEnum;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import org.springframework.stereotype.Component;
+
+/**
+ * 알림 유형 -> 이동 링크 템플릿 (시작 시 한 번만 구성)
+ *
+ * <p>알림에는 템플릿 키와 파라미터만 저장하고, 링크는 조회할 때 만든다. 파라미터가 없는 링크는 미리 만든 문자열을 그대로 반환한다.
+ */
+@Component
+public class RedirectLinkRegistry {
+
+  public static final String ORDER_DETAIL = "order-detail";
+  public static final String NONE = "none";
+
+  private static final String PARAMS_PLACEHOLDER = "{params}";
+
+  private final Map<NotificationTypeEnum, String> templateKeys =
+      new EnumMap<>(NotificationTypeEnum.class);
+  private final Map<String, LinkTemplate> templates = new HashMap<>();
+
+  public RedirectLinkRegistry(RedirectLinkProperties redirectLinkProperties) {
+
+    redirectLinkProperties
+        .getTemplates()
+        .forEach((templateKey, link) -> templates.put(templateKey, new LinkTemplate(link)));
+    for (NotificationTypeEnum notificationType : NotificationTypeEnum.values()) {
+      String templateKey =
+          redirectLinkProperties
+              .getTypes()
+              .getOrDefault(notificationType, redirectLinkProperties.getDefaultTemplate());
+      if (!templates.containsKey(templateKey)) {
+        throw new IllegalStateException("Unknown redirect link template: " + templateKey);
+      }
+      templateKeys.put(notificationType, templateKey);
+    }
+  }
+
+  /**
+   * @param notificationType 알림 유형
+   * @return {String} 저장할 템플릿 키
+   */
+  public String getTemplateKey(NotificationTypeEnum notificationType) {
+    return templateKeys.get(notificationType);
+  }
+
+  /**
+   * @param templateKey 템플릿 키
+   * @return {boolean} 링크에 파라미터가 들어가는지 여부
+   */
+  public boolean acceptsParams(String templateKey) {
+
+    LinkTemplate template = templates.get(templateKey);
+    return template != null && template.suffix != null;
+  }
+
+  /**
+   * 템플릿 키 + 파라미터로 링크 생성
+   *
+   * @param templateKey 템플릿 키
+   * @param params {params} 자리에 들어갈 값 (없으면 null)
+   * @return {String} 이동 링크 (등록되지 않은 키면 null)
+   */
+  public String render(String templateKey, String params) {
+
+    LinkTemplate template = templates.get(templateKey);
+    if (template == null) {
+      return null;
+    }
+    if (template.suffix == null || params == null || params.isEmpty()) {
+      return template.plain;
+    }
+    return template.prefix + params + template.suffix;
+  }
+
+  private static class LinkTemplate {
+
+    // 파라미터 없이 만든 링크
+    private final String plain;
+    private final String prefix;
+    // {params} 가 없는 템플릿이면 null
+    private final String suffix;
+
+    private LinkTemplate(String link) {
+
+      int index = link.indexOf(PARAMS_PLACEHOLDER);
+      if (index < 0) {
+        this.plain = link;
+        this.prefix = link;
+        this.suffix = null;
+        return;
+      }
+      this.prefix = link.substring(0, index);
+      this.suffix = link.substring(index + PARAMS_PLACEHOLDER.length());
+      this.plain = prefix + suffix;
+    }
+  }
+}
@@ -1,29 +1,95 @@
 package com.jeontongju.notification.utils;
 
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
-import java.io.UnsupportedEncodingException;
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
-
-@Slf4j
+/**
+ * JavaScript encodeURIComponent 와 같은 방식으로 인코딩
+ *
+ * <p>URLEncoder.encode 후 '+' -> %20, %21 %27 %28 %29 %7E 를 원래 문자로 되돌리던 결과와 같다. 표를 보고 한 번만 순회하며
+ * UTF-8 바이트를 바로 %XX 로 쓰고, 짝이 없는 서로게이트는 URLEncoder 와 같이 '?'(%3F)로 바꾼다.
+ */
 @Component
 public class UrlEncoderManager {
+
+  // 이보다 커진 버퍼는 스레드에 남겨두지 않음
+  private static final int MAX_RETAINED_CAPACITY = 64 * 1024;
+  private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+  // 인코딩하지 않는 ASCII 문자 (영문, 숫자, - _ . ! ~ * ' ( ))
+  private static final boolean[] UNRESERVED = new boolean[128];
+
+  static {
+    for (char c = 'a'; c <= 'z'; c++) {
+      UNRESERVED[c] = true;
+    }
+    for (char c = 'A'; c <= 'Z'; c++) {
+      UNRESERVED[c] = true;
+    }
+    for (char c = '0'; c <= '9'; c++) {
+      UNRESERVED[c] = true;
+    }
+    for (char c : "-_.!~*'()".toCharArray()) {
+      UNRESERVED[c] = true;
+    }
+  }
+
+  private final ThreadLocal<StringBuilder> buffers = ThreadLocal.withInitial(StringBuilder::new);
+
   public String encodeURIComponent(String value) {
-    try {
-      // URLEncoder.encode() 결과에서 '+'를 '%20'으로 변경
-      return URLEncoder.encode(value, "UTF-8")
-          .replaceAll("\\+", "%20")
-          .replaceAll("\\%21", "!")
-          .replaceAll("\\%27", "'")
-          .replaceAll("\\%28", "(")
-          .replaceAll("\\%29", ")")
-          .replaceAll("\\%7E", "~");
-    } catch (UnsupportedEncodingException e) {
-      // 예외 처리 필요
-      log.error("Error During encoding={}", e.getMessage());
-      throw new RuntimeException();
+
+    int length = value.length();
+    int start = 0;
+    while (start < length && isUnreserved(value.charAt(start))) {
+      start++;
+    }
+    if (start == length) {
+      return value;
+    }
+
+    StringBuilder buffer = buffers.get();
+    buffer.setLength(0);
+    buffer.append(value, 0, start);
+    for (int i = start; i < length; i++) {
+      char c = value.charAt(i);
+      if (c < 0x80) {
+        if (UNRESERVED[c]) {
+          buffer.append(c);
+        } else {
+          appendEscaped(buffer, c);
+        }
+      } else if (c < 0x800) {
+        appendEscaped(buffer, 0xC0 | (c >> 6));
+        appendEscaped(buffer, 0x80 | (c & 0x3F));
+      } else if (Character.isSurrogate(c)) {
+        if (Character.isHighSurrogate(c)
+            && i + 1 < length
+            && Character.isLowSurrogate(value.charAt(i + 1))) {
+          int codePoint = Character.toCodePoint(c, value.charAt(++i));
+          appendEscaped(buffer, 0xF0 | (codePoint >> 18));
+          appendEscaped(buffer, 0x80 | ((codePoint >> 12) & 0x3F));
+          appendEscaped(buffer, 0x80 | ((codePoint >> 6) & 0x3F));
+          appendEscaped(buffer, 0x80 | (codePoint & 0x3F));
+        } else {
+          appendEscaped(buffer, '?');
+        }
+      } else {
+        appendEscaped(buffer, 0xE0 | (c >> 12));
+        appendEscaped(buffer, 0x80 | ((c >> 6) & 0x3F));
+        appendEscaped(buffer, 0x80 | (c & 0x3F));
+      }
+    }
+
+    String encoded = buffer.toString();
+    if (buffer.capacity() > MAX_RETAINED_CAPACITY) {
+      buffers.remove();
     }
+    return encoded;
+  }
+
+  private static boolean isUnreserved(char c) {
+    return c < 0x80 && UNRESERVED[c];
+  }
+
+  private static void appendEscaped(StringBuilder buffer, int b) {
+    buffer.append('%').append(HEX_DIGITS[(b >> 4) & 0xF]).append(HEX_DIGITS[b & 0xF]);
   }
 }
@@ -0,0 +1,37 @@
+package com.jeontongju.notification.feign;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.jeontongju.notification.dto.temp.MemberEmailForKeyDto;
+import com.jeontongju.notification.exception.MemberNotFoundException;
+import io.github.bitbox.bitbox.dto.FeignFormat;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class AuthenticationClientServiceTests {
+
+  @Test
+  @DisplayName("존재하지 않는 회원은 짧게 캐싱되고, 캐시에서 가져와도 null 대신 예외가 발생한다")
+  @SuppressWarnings("unchecked")
+  void t1() {
+
+    AuthenticationServiceClient authenticationServiceClient =
+        mock(AuthenticationServiceClient.class);
+    FeignFormat<MemberEmailForKeyDto> emptyResponse = mock(FeignFormat.class);
+    when(authenticationServiceClient.getMemberEmailForKey(1L)).thenReturn(emptyResponse);
+    AuthenticationClientService authenticationClientService =
+        new AuthenticationClientService(
+            authenticationServiceClient, new SimpleMeterRegistry(), 100L, 60000L, 30000L, 60000L);
+
+    assertThatThrownBy(() -> authenticationClientService.getMemberEmailForKey(1L))
+        .isInstanceOf(MemberNotFoundException.class);
+    assertThatThrownBy(() -> authenticationClientService.getConsumerEmail(1L))
+        .isInstanceOf(MemberNotFoundException.class);
+    verify(authenticationServiceClient, times(1)).getMemberEmailForKey(1L);
+  }
+}
@@ -0,0 +1,105 @@
+package com.jeontongju.notification.feign;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.jeontongju.notification.dto.temp.ConsumerFCMTokenDto;
+import com.jeontongju.notification.repository.FCMTokenRepository;
+import feign.FeignException;
+import io.github.bitbox.bitbox.dto.FeignFormat;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class ConsumerClientServiceTests {
+
+  private ConsumerServiceClient consumerServiceClient;
+  private ConsumerClientService consumerClientService;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+
+    consumerServiceClient = mock(ConsumerServiceClient.class);
+    when(consumerServiceClient.getConsumerFCMTokens(anyList()))
+        .thenAnswer(
+            invocation -> {
+              List<Long> consumerIds = invocation.getArgument(0);
+              List<ConsumerFCMTokenDto> tokens = new ArrayList<>();
+              for (Long consumerId : consumerIds) {
+                tokens.add(new ConsumerFCMTokenDto(consumerId, "token-" + consumerId));
+              }
+              FeignFormat<List<ConsumerFCMTokenDto>> response = mock(FeignFormat.class);
+              when(response.getData()).thenReturn(tokens);
+              return response;
+            });
+    consumerClientService =
+        new ConsumerClientService(
+            consumerServiceClient,
+            mock(FCMTokenRepository.class),
+            new SimpleMeterRegistry(),
+            100000L,
+            60000L,
+            60000L,
+            500,
+            false,
+            1);
+  }
+
+  @Test
+  @DisplayName("여러 회원의 토큰은 bulk-size 단위로 묶어서 조회하고, 이후에는 캐시에서 가져온다")
+  void t1() {
+
+    List<Long> consumerIds = new ArrayList<>();
+    for (long consumerId = 0; consumerId < 1200; consumerId++) {
+      consumerIds.add(consumerId);
+    }
+
+    Map<Long, String> tokens =
+        consumerClientService.getConsumerFCMTokens(consumerIds, new ArrayList<>());
+    consumerClientService.getConsumerFCMTokens(consumerIds, new ArrayList<>());
+
+    assertThat(tokens).hasSize(1200).containsEntry(7L, "token-7");
+    verify(consumerServiceClient, times(3)).getConsumerFCMTokens(anyList());
+  }
+
+  @Test
+  @DisplayName("제거한 회원의 토큰만 다시 조회한다")
+  void t2() {
+
+    List<Long> consumerIds = List.of(1L, 2L, 3L);
+    consumerClientService.getConsumerFCMTokens(consumerIds, new ArrayList<>());
+
+    consumerClientService.evictConsumerFCMToken(1L);
+    consumerClientService.evictConsumerFCMToken(2L);
+    consumerClientService.getConsumerFCMTokens(consumerIds, new ArrayList<>());
+
+    verify(consumerServiceClient).getConsumerFCMTokens(List.of(1L, 2L, 3L));
+    verify(consumerServiceClient).getConsumerFCMTokens(List.of(1L, 2L));
+  }
+
+  @Test
+  @DisplayName("다시 요청해도 실패한 묶음의 회원은 조회 실패로 돌려주고 캐시하지 않는다")
+  void t3() {
+
+    FeignException unavailable = mock(FeignException.class);
+    when(consumerServiceClient.getConsumerFCMTokens(anyList())).thenThrow(unavailable);
+    List<Long> consumerIds = List.of(1L, 2L, 3L);
+
+    List<Long> unresolvedIds = new ArrayList<>();
+    Map<Long, String> tokens =
+        consumerClientService.getConsumerFCMTokens(consumerIds, unresolvedIds);
+
+    assertThat(tokens).isEmpty();
+    assertThat(unresolvedIds).containsExactlyInAnyOrderElementsOf(consumerIds);
+    verify(consumerServiceClient, times(2)).getConsumerFCMTokens(anyList());
+  }
+}
@@ -0,0 +1,74 @@
+package com.jeontongju.notification.kafka;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.jeontongju.notification.enums.ConsumedRecordStateEnum;
+import com.jeontongju.notification.repository.ConsumedRecordRepository;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class KafkaDeduplicatorTests {
+
+  private static final String TOPIC = "test-topic";
+
+  private ConsumedRecordRepository consumedRecordRepository;
+  private KafkaDeduplicator kafkaDeduplicator;
+
+  @BeforeEach
+  void setUp() {
+
+    consumedRecordRepository = mock(ConsumedRecordRepository.class);
+    when(consumedRecordRepository.getProcessingTtl()).thenReturn(Duration.ofMillis(1000));
+    kafkaDeduplicator = new KafkaDeduplicator(consumedRecordRepository, 10L);
+  }
+
+  @Test
+  @DisplayName("다른 소비자가 처리 중인 레코드는 선점이 풀릴 때까지 기다렸다가 처리한다")
+  void t1() {
+
+    String recordKey = kafkaDeduplicator.makeRecordKey(TOPIC, 0, 1L);
+    when(consumedRecordRepository.saveAllIfAbsent(List.of(recordKey)))
+        .thenReturn(List.of(ConsumedRecordStateEnum.IN_PROGRESS))
+        .thenReturn(List.of(ConsumedRecordStateEnum.IN_PROGRESS))
+        .thenReturn(List.of(ConsumedRecordStateEnum.CLAIMED));
+
+    assertThat(kafkaDeduplicator.claim(recordKey)).isTrue();
+  }
+
+  @Test
+  @DisplayName("완료 표시된 레코드만 중복으로 걸러내고, 처리 중이던 레코드가 완료되면 걸러낸다")
+  void t2() {
+
+    List<String> recordKeys =
+        List.of(
+            kafkaDeduplicator.makeRecordKey(TOPIC, 0, 1L),
+            kafkaDeduplicator.makeRecordKey(TOPIC, 0, 2L),
+            kafkaDeduplicator.makeRecordKey(TOPIC, 0, 3L));
+    when(consumedRecordRepository.saveAllIfAbsent(recordKeys))
+        .thenReturn(
+            List.of(
+                ConsumedRecordStateEnum.CLAIMED,
+                ConsumedRecordStateEnum.DONE,
+                ConsumedRecordStateEnum.IN_PROGRESS));
+    when(consumedRecordRepository.saveAllIfAbsent(List.of(recordKeys.get(2))))
+        .thenReturn(List.of(ConsumedRecordStateEnum.DONE));
+
+    List<String> claimedKeys = new ArrayList<>();
+    List<String> freshPayloads =
+        kafkaDeduplicator.claimAll(
+            List.of(TOPIC, TOPIC, TOPIC),
+            List.of(0, 0, 0),
+            List.of(1L, 2L, 3L),
+            List.of("a", "b", "c"),
+            claimedKeys);
+
+    assertThat(freshPayloads).containsExactly("a");
+    assertThat(claimedKeys).containsExactly(recordKeys.get(0));
+  }
+}
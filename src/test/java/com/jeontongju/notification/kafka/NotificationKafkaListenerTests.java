@@ -0,0 +1,88 @@
+package com.jeontongju.notification.kafka;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.jeontongju.notification.domain.NotificationOutbox;
+import com.jeontongju.notification.repository.NotificationOutboxRepository;
+import com.jeontongju.notification.repository.NotificationRepository;
+import io.github.bitbox.bitbox.dto.MemberInfoForNotificationDto;
+import io.github.bitbox.bitbox.enums.NotificationTypeEnum;
+import io.github.bitbox.bitbox.enums.RecipientTypeEnum;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+// 레인 스레드가 각자 트랜잭션을 커밋하므로 테스트 트랜잭션으로 되돌릴 수 없음, 실행마다 다른 회원 식별자를 쓰고 직접 정리
+@SpringBootTest
+public class NotificationKafkaListenerTests {
+
+  private static final int PARTITION = 0;
+  private static final int RECORD_COUNTS = 5;
+
+  @Autowired public NotificationKafkaListener notificationKafkaListener;
+  @Autowired public NotificationRepository notificationRepository;
+  @Autowired public NotificationOutboxRepository notificationOutboxRepository;
+  @Autowired public KafkaDeduplicator kafkaDeduplicator;
+
+  // 테스트마다 다른 토픽 이름을 사용해 Redis 에 남은 키와 겹치지 않도록 함
+  private final String topic = "test-send-notification-" + UUID.randomUUID();
+  private final List<Long> offsets = new ArrayList<>();
+  private final long recipientIdBase =
+      ThreadLocalRandom.current().nextLong(1_000_000_000L, 2_000_000_000L);
+
+  @AfterEach
+  void tearDown() {
+
+    List<String> recordKeys = new ArrayList<>();
+    for (Long offset : offsets) {
+      recordKeys.add(kafkaDeduplicator.makeRecordKey(topic, PARTITION, offset));
+    }
+    kafkaDeduplicator.release(recordKeys);
+
+    for (long i = 0; i < RECORD_COUNTS; i++) {
+      Long recipientId = recipientIdBase + i;
+      notificationRepository.deleteAll(notificationRepository.findByRecipientId(recipientId));
+    }
+    List<NotificationOutbox> outboxes = new ArrayList<>();
+    for (NotificationOutbox outbox : notificationOutboxRepository.findAll()) {
+      long recipientOffset = outbox.getRecipientId() - recipientIdBase;
+      if (recipientOffset >= 0 && recipientOffset < RECORD_COUNTS) {
+        outboxes.add(outbox);
+      }
+    }
+    notificationOutboxRepository.deleteAll(outboxes);
+  }
+
+  @Test
+  @DisplayName("같은 파티션을 다시 소비해도 레코드 하나당 알림은 한 건만 저장된다")
+  void t1() throws Exception {
+
+    List<MemberInfoForNotificationDto> notificationDtos = new ArrayList<>();
+    for (long i = 0; i < RECORD_COUNTS; i++) {
+      notificationDtos.add(
+          MemberInfoForNotificationDto.builder()
+              .recipientId(recipientIdBase + i)
+              .recipientType(RecipientTypeEnum.ROLE_SELLER)
+              .notificationType(NotificationTypeEnum.OUT_OF_STOCK)
+              .build());
+      offsets.add(i);
+    }
+    List<String> topics = Collections.nCopies(RECORD_COUNTS, topic);
+    List<Integer> partitions = Collections.nCopies(RECORD_COUNTS, PARTITION);
+
+    // 리밸런스 후 같은 오프셋부터 다시 전달된 상황
+    notificationKafkaListener.sendNotification(notificationDtos, topics, partitions, offsets);
+    notificationKafkaListener.sendNotification(notificationDtos, topics, partitions, offsets);
+
+    for (long i = 0; i < RECORD_COUNTS; i++) {
+      assertThat(notificationRepository.findByRecipientId(recipientIdBase + i)).hasSize(1);
+    }
+  }
+}
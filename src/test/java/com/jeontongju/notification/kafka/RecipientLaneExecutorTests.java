@@ -0,0 +1,66 @@
+package com.jeontongju.notification.kafka;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class RecipientLaneExecutorTests {
+
+  private final RecipientLaneExecutor recipientLaneExecutor = new RecipientLaneExecutor(4);
+
+  @AfterEach
+  void tearDown() {
+    recipientLaneExecutor.stop();
+  }
+
+  @Test
+  @DisplayName("같은 회원의 레코드는 poll 순서대로 처리된다")
+  void t1() throws InterruptedException {
+
+    // {회원 식별자, 순번}
+    List<long[]> records = new ArrayList<>();
+    for (long sequence = 0; sequence < 100; sequence++) {
+      records.add(new long[] {sequence % 7, sequence});
+    }
+    Map<Long, List<Long>> processed = new ConcurrentHashMap<>();
+
+    List<Integer> failedIndexes =
+        recipientLaneExecutor.executeAll(
+            records,
+            record -> record[0],
+            laneRecords -> {
+              for (long[] record : laneRecords) {
+                processed.computeIfAbsent(record[0], key -> new ArrayList<>()).add(record[1]);
+              }
+            });
+
+    assertThat(failedIndexes).isEmpty();
+    assertThat(processed).hasSize(7);
+    processed.values().forEach(sequences -> assertThat(sequences).isSorted());
+  }
+
+  @Test
+  @DisplayName("실패한 레인에 속한 레코드의 인덱스만 반환된다")
+  void t2() throws InterruptedException {
+
+    List<Long> recipientIds = List.of(1L, 2L, 1L, 3L, 1L);
+
+    List<Integer> failedIndexes =
+        recipientLaneExecutor.executeAll(
+            recipientIds,
+            recipientId -> recipientId,
+            laneRecords -> {
+              if (laneRecords.contains(1L)) {
+                throw new IllegalStateException("lane failure");
+              }
+            });
+
+    assertThat(failedIndexes).contains(0, 2, 4).doesNotContain(1, 3).isSorted();
+  }
+}
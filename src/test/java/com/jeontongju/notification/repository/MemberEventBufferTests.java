@@ -0,0 +1,73 @@
+package com.jeontongju.notification.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.jeontongju.notification.dto.response.NotificationInfoResponseDto;
+import com.jeontongju.notification.dto.temp.CachedEventDto;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class MemberEventBufferTests {
+
+  private static final long TTL = 1000L;
+
+  @Test
+  @DisplayName("마지막으로 받은 시퀀스 이후의 이벤트만 순서대로 이어받을 수 있다")
+  void t1() {
+
+    MemberEventBuffer buffer = new MemberEventBuffer(5, TTL, 100L);
+    for (int i = 0; i < 4; i++) {
+      buffer.append("happy", event(i), 0L);
+    }
+
+    List<CachedEventDto> lostEvents = buffer.findAllAfter(102L, 0L).orElseThrow();
+
+    assertThat(lostEvents).extracting(CachedEventDto::getSequence).containsExactly(103L, 104L);
+  }
+
+  @Test
+  @DisplayName("버퍼 크기를 넘어 밀려난 이벤트가 있으면 이어받을 수 없다")
+  void t2() {
+
+    MemberEventBuffer buffer = new MemberEventBuffer(3, TTL, 0L);
+    for (int i = 0; i < 5; i++) {
+      buffer.append("happy", event(i), 0L);
+    }
+
+    assertThat(buffer.findAllAfter(1L, 0L)).isEmpty();
+    assertThat(buffer.findAllAfter(2L, 0L).orElseThrow())
+        .extracting(CachedEventDto::getSequence)
+        .containsExactly(3L, 4L, 5L);
+  }
+
+  @Test
+  @DisplayName("보관 시간이 지난 이벤트는 제거되고, 최신 시퀀스를 받은 경우 보낼 이벤트가 없다")
+  void t3() {
+
+    MemberEventBuffer buffer = new MemberEventBuffer(3, TTL, 0L);
+    buffer.append("happy", event(1), 0L);
+    buffer.append("happy", event(2), 500L);
+
+    Optional<List<CachedEventDto>> afterExpired = buffer.findAllAfter(0L, 1200L);
+    assertThat(afterExpired).isEmpty();
+    assertThat(buffer.findAllAfter(2L, 1200L).orElseThrow()).isEmpty();
+    assertThat(buffer.evictExpiredAndCheckEmpty(2000L)).isTrue();
+  }
+
+  @Test
+  @DisplayName("발급한 적 없는 시퀀스(이전 형식의 시각 등)는 이어받을 수 없는 것으로 본다")
+  void t4() {
+
+    MemberEventBuffer buffer = new MemberEventBuffer(3, TTL, 100L);
+    buffer.append("happy", event(1), 0L);
+
+    assertThat(buffer.findAllAfter(1_700_000_000_000L, 0L)).isEmpty();
+    assertThat(buffer.findAllAfter(101L, 0L).orElseThrow()).isEmpty();
+  }
+
+  private NotificationInfoResponseDto event(long notificationId) {
+    return NotificationInfoResponseDto.builder().notificationId(notificationId).build();
+  }
+}
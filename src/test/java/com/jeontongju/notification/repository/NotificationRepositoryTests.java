@@ -0,0 +1,53 @@
+package com.jeontongju.notification.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.jeontongju.notification.domain.Notification;
+import io.github.bitbox.bitbox.enums.NotificationTypeEnum;
+import io.github.bitbox.bitbox.enums.RecipientTypeEnum;
+import java.util.ArrayList;
+import java.util.List;
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+public class NotificationRepositoryTests {
+
+  private static final int ROWS = 1000;
+
+  @Autowired public NotificationRepository notificationRepository;
+  @Autowired public EntityManager entityManager;
+  @Autowired public EntityManagerFactory entityManagerFactory;
+
+  @Test
+  @DisplayName("시간 순 식별자로 저장하면 saveAll 이 batch_size 단위로 묶여서 insert 된다")
+  void t1() {
+
+    List<Notification> notifications = new ArrayList<>(ROWS);
+    for (int i = 0; i < ROWS; i++) {
+      notifications.add(
+          Notification.builder()
+              .recipientId((long) i)
+              .recipientTypeEnum(RecipientTypeEnum.ROLE_SELLER)
+              .notificationTypeEnum(NotificationTypeEnum.OUT_OF_STOCK)
+              .build());
+    }
+    Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+
+    notificationRepository.saveAll(notifications);
+    entityManager.flush();
+
+    assertThat(statistics.getEntityInsertCount()).isEqualTo(ROWS);
+    // 행마다 insert 하면 ROWS 번 준비하지만, 배치면 묶음(500건)마다 한 번만 준비 (릴레이 폴링 등 다른 쿼리 여유 포함)
+    assertThat(statistics.getPrepareStatementCount()).isLessThan(ROWS / 10);
+  }
+}
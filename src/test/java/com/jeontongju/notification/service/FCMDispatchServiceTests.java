@@ -0,0 +1,154 @@
+package com.jeontongju.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.api.core.ApiFutures;
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.SendResponse;
+import com.jeontongju.notification.dto.request.FCMNotificationRequestDto;
+import com.jeontongju.notification.feign.ConsumerClientService;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+public class FCMDispatchServiceTests {
+
+  private FirebaseMessaging firebaseMessaging;
+  private ConsumerClientService consumerClientService;
+  private FCMDispatchService fcmDispatchService;
+
+  @BeforeEach
+  void setUp() {
+
+    firebaseMessaging = mock(FirebaseMessaging.class);
+    consumerClientService = mock(ConsumerClientService.class);
+    when(consumerClientService.getConsumerFCMTokens(anyCollection(), anyCollection()))
+        .thenAnswer(
+            invocation -> {
+              Collection<Long> memberIds = invocation.getArgument(0);
+              Map<Long, String> tokens = new HashMap<>();
+              for (Long memberId : memberIds) {
+                tokens.put(memberId, "token-" + memberId);
+              }
+              return tokens;
+            });
+    fcmDispatchService =
+        new FCMDispatchService(firebaseMessaging, consumerClientService, 2000, 100L, 60000L, 3);
+  }
+
+  @Test
+  @DisplayName("큐에 쌓인 메시지는 최대 500건씩 묶어서 sendAllAsync 로 전송된다")
+  void t1() {
+
+    BatchResponse batchResponse = mock(BatchResponse.class);
+    when(batchResponse.getResponses()).thenReturn(List.of());
+    when(firebaseMessaging.sendAllAsync(anyList()))
+        .thenReturn(ApiFutures.immediateFuture(batchResponse));
+
+    for (long memberId = 0; memberId < 1200; memberId++) {
+      assertThat(fcmDispatchService.enqueue(memberId, request())).isTrue();
+    }
+    fcmDispatchService.flush();
+
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<Message>> captor = ArgumentCaptor.forClass(List.class);
+    verify(firebaseMessaging, times(3)).sendAllAsync(captor.capture());
+    assertThat(captor.getAllValues())
+        .extracting(List::size)
+        .containsExactly(FCMDispatchService.MAX_BATCH_SIZE, FCMDispatchService.MAX_BATCH_SIZE, 200);
+  }
+
+  @Test
+  @DisplayName("UNREGISTERED 로 실패한 토큰에는 다시 전송하지 않는다")
+  void t2() {
+
+    FirebaseMessagingException exception = mock(FirebaseMessagingException.class);
+    when(exception.getMessagingErrorCode()).thenReturn(MessagingErrorCode.UNREGISTERED);
+    SendResponse failed = mock(SendResponse.class);
+    when(failed.isSuccessful()).thenReturn(false);
+    when(failed.getException()).thenReturn(exception);
+    BatchResponse batchResponse = mock(BatchResponse.class);
+    when(batchResponse.getResponses()).thenReturn(List.of(failed));
+    when(firebaseMessaging.sendAllAsync(anyList()))
+        .thenReturn(ApiFutures.immediateFuture(batchResponse));
+
+    fcmDispatchService.enqueue(1L, request());
+    fcmDispatchService.flush();
+    fcmDispatchService.enqueue(1L, request());
+    fcmDispatchService.flush();
+
+    verify(firebaseMessaging, times(1)).sendAllAsync(anyList());
+    verify(consumerClientService).evictConsumerFCMToken(1L);
+  }
+
+  @Test
+  @DisplayName("FCM 토큰이 없는 회원의 메시지는 전송하지 않는다")
+  void t3() {
+
+    when(consumerClientService.getConsumerFCMTokens(anyCollection(), anyCollection()))
+        .thenReturn(Map.of());
+
+    fcmDispatchService.enqueue(1L, request());
+    fcmDispatchService.flush();
+
+    verify(firebaseMessaging, never()).sendAllAsync(anyList());
+  }
+
+  @Test
+  @DisplayName("토큰 조회에 실패한 메시지는 버리지 않고 다음 주기에 다시 전송한다")
+  void t4() {
+
+    BatchResponse batchResponse = mock(BatchResponse.class);
+    when(batchResponse.getResponses()).thenReturn(List.of());
+    when(firebaseMessaging.sendAllAsync(anyList()))
+        .thenReturn(ApiFutures.immediateFuture(batchResponse));
+    when(consumerClientService.getConsumerFCMTokens(anyCollection(), anyCollection()))
+        .thenAnswer(
+            invocation -> {
+              Collection<Long> unresolvedIds = invocation.getArgument(1);
+              unresolvedIds.addAll(invocation.<Collection<Long>>getArgument(0));
+              return Map.of();
+            })
+        .thenReturn(Map.of(1L, "token-1"));
+
+    fcmDispatchService.enqueue(1L, request());
+    fcmDispatchService.flush();
+    verify(firebaseMessaging, never()).sendAllAsync(anyList());
+
+    fcmDispatchService.flush();
+    verify(firebaseMessaging).sendAllAsync(anyList());
+  }
+
+  @Test
+  @DisplayName("큐가 가득 차면 대기 시간 동안 자리가 나기를 기다린 뒤 거부한다")
+  void t5() throws InterruptedException {
+
+    FCMDispatchService fullService =
+        new FCMDispatchService(firebaseMessaging, consumerClientService, 1, 100L, 60000L, 3);
+    assertThat(fullService.enqueue(1L, request(), 50L)).isTrue();
+
+    long startedAt = System.currentTimeMillis();
+    assertThat(fullService.enqueue(2L, request(), 50L)).isFalse();
+    assertThat(System.currentTimeMillis() - startedAt).isGreaterThanOrEqualTo(50L);
+  }
+
+  private FCMNotificationRequestDto request() {
+    return FCMNotificationRequestDto.builder().title("[전통주점.]").body("테스트").build();
+  }
+}
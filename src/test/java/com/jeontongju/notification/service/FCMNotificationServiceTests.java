@@ -0,0 +1,82 @@
+package com.jeontongju.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.jeontongju.notification.dto.request.FCMNotificationRequestDto;
+import com.jeontongju.notification.dto.temp.DeferredFCMMessageDto;
+import com.jeontongju.notification.repository.FCMDeferredMessageRepository;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+public class FCMNotificationServiceTests {
+
+  private FCMDispatchService fcmDispatchService;
+  private NotificationRateLimiter notificationRateLimiter;
+  private FCMDeferredMessageRepository fcmDeferredMessageRepository;
+  private FCMNotificationService fcmNotificationService;
+
+  @BeforeEach
+  void setUp() {
+
+    fcmDispatchService = mock(FCMDispatchService.class);
+    notificationRateLimiter = mock(NotificationRateLimiter.class);
+    fcmDeferredMessageRepository = mock(FCMDeferredMessageRepository.class);
+    fcmNotificationService =
+        new FCMNotificationService(
+            fcmDispatchService, notificationRateLimiter, fcmDeferredMessageRepository, 500);
+  }
+
+  @Test
+  @DisplayName("한도를 넘은 메시지는 Redis 에 미루고, 저장에 실패하면 바로 전송한다")
+  void t1() {
+
+    FCMNotificationRequestDto message =
+        FCMNotificationRequestDto.builder().title("title").body("body").build();
+    when(notificationRateLimiter.tryAcquire(NotificationRateLimiter.FCM_CHANNEL, 1L, null))
+        .thenReturn(false);
+
+    fcmNotificationService.sendNotificationByToken(1L, message);
+    verify(fcmDeferredMessageRepository).save(any(DeferredFCMMessageDto.class), eq(true));
+    verify(fcmDispatchService, never()).enqueue(1L, message);
+
+    when(fcmDeferredMessageRepository.save(any(DeferredFCMMessageDto.class), eq(true)))
+        .thenThrow(new IllegalStateException("redis down"));
+    when(fcmDispatchService.enqueue(1L, message)).thenReturn(true);
+    fcmNotificationService.sendNotificationByToken(1L, message);
+    verify(fcmDispatchService).enqueue(1L, message);
+  }
+
+  @Test
+  @DisplayName("전송 큐가 가득 차 묶음 메시지를 넣지 못하면 최근 메시지를 덮어쓰지 않고 다시 미룬다")
+  void t2() {
+
+    DeferredFCMMessageDto deferredDto =
+        DeferredFCMMessageDto.builder()
+            .memberId(1L)
+            .title("title")
+            .body("body")
+            .deferredCount(3)
+            .build();
+    when(fcmDeferredMessageRepository.claimAllDue(anyInt())).thenReturn(List.of(deferredDto));
+    when(fcmDispatchService.enqueue(eq(1L), any(FCMNotificationRequestDto.class)))
+        .thenReturn(false);
+
+    fcmNotificationService.flushDeferredMessages();
+
+    ArgumentCaptor<FCMNotificationRequestDto> digestCaptor =
+        ArgumentCaptor.forClass(FCMNotificationRequestDto.class);
+    verify(fcmDispatchService).enqueue(eq(1L), digestCaptor.capture());
+    assertThat(digestCaptor.getValue().getBody()).isEqualTo("body 외 2건의 알림이 있습니다.");
+    verify(fcmDeferredMessageRepository).save(deferredDto, false);
+  }
+}
@@ -0,0 +1,100 @@
+package com.jeontongju.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import com.jeontongju.notification.exception.ForbiddenMemberRoleException;
+import com.jeontongju.notification.exception.InvalidDltTopicException;
+import io.github.bitbox.bitbox.enums.MemberRoleEnum;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+
+@EmbeddedKafka(
+    partitions = 1,
+    topics = {"send-error-notification", "send-error-notification-dlt"})
+public class KafkaDltReplayServiceTests {
+
+  private static final String TOPIC = "send-error-notification";
+  private static final String DLT_TOPIC = "send-error-notification-dlt";
+
+  @Test
+  @DisplayName("DLT 레코드는 메인 토픽으로 한 번만 다시 발행된다")
+  void t1(EmbeddedKafkaBroker broker) throws Exception {
+
+    KafkaTemplate<Object, Object> kafkaTemplate =
+        new KafkaTemplate<>(
+            new DefaultKafkaProducerFactory<>(
+                Map.<String, Object>of(
+                    "bootstrap.servers", broker.getBrokersAsString(),
+                    "key.serializer", StringSerializer.class,
+                    "value.serializer", StringSerializer.class)));
+    Map<String, Object> consumerProps =
+        KafkaTestUtils.consumerProps("notification-dlt-replay-test", "false", broker);
+    consumerProps.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+    consumerProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+    KafkaDltReplayService kafkaDltReplayService =
+        new KafkaDltReplayService(
+            new DefaultKafkaConsumerFactory<>(consumerProps), kafkaTemplate, "replay-group");
+
+    // 마지막 재시도 단계에서 실패해 DLT 로 옮겨진 레코드
+    for (int i = 0; i < 3; i++) {
+      ProducerRecord<Object, Object> record =
+          new ProducerRecord<>(DLT_TOPIC, "key-" + i, "payload-" + i);
+      record
+          .headers()
+          .add(
+              KafkaHeaders.DLT_ORIGINAL_TOPIC,
+              (TOPIC + "-retry-2").getBytes(StandardCharsets.UTF_8));
+      kafkaTemplate.send(record).get();
+    }
+
+    MemberRoleEnum admin = MemberRoleEnum.ROLE_ADMIN;
+    assertThat(kafkaDltReplayService.replay(admin, DLT_TOPIC, 100)).isEqualTo(3);
+    assertThat(kafkaDltReplayService.replay(admin, DLT_TOPIC, 100)).isZero();
+
+    try (Consumer<Object, Object> consumer =
+        new DefaultKafkaConsumerFactory<>(consumerProps).createConsumer()) {
+      broker.consumeFromAnEmbeddedTopic(consumer, TOPIC);
+      List<Object> payloads = new ArrayList<>();
+      for (ConsumerRecord<Object, Object> record : KafkaTestUtils.getRecords(consumer)) {
+        payloads.add(record.value());
+      }
+      assertThat(payloads).containsExactly("payload-0", "payload-1", "payload-2");
+    }
+  }
+
+  @Test
+  @DisplayName("관리자가 아니거나 DLT 토픽이 아니면 다시 발행하지 않는다")
+  @SuppressWarnings("unchecked")
+  void t2() {
+
+    KafkaDltReplayService kafkaDltReplayService =
+        new KafkaDltReplayService(
+            mock(ConsumerFactory.class), mock(KafkaTemplate.class), "replay-group");
+
+    assertThatThrownBy(
+            () -> kafkaDltReplayService.replay(MemberRoleEnum.ROLE_SELLER, DLT_TOPIC, 100))
+        .isInstanceOf(ForbiddenMemberRoleException.class);
+    assertThatThrownBy(() -> kafkaDltReplayService.replay(MemberRoleEnum.ROLE_ADMIN, TOPIC, 100))
+        .isInstanceOf(InvalidDltTopicException.class);
+  }
+}
@@ -0,0 +1,155 @@
+package com.jeontongju.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.jeontongju.notification.dto.request.BroadcastNotificationRequestDto;
+import com.jeontongju.notification.dto.request.FCMNotificationRequestDto;
+import com.jeontongju.notification.dto.response.BroadcastJobInfoResponseDto;
+import com.jeontongju.notification.enums.BroadcastStatusEnum;
+import com.jeontongju.notification.exception.BroadcastJobNotFoundException;
+import com.jeontongju.notification.exception.ForbiddenMemberRoleException;
+import com.jeontongju.notification.exception.InvalidBroadcastRecipientException;
+import com.jeontongju.notification.feign.AuthenticationClientService;
+import com.jeontongju.notification.repository.BroadcastJobRepository;
+import io.github.bitbox.bitbox.enums.MemberRoleEnum;
+import io.github.bitbox.bitbox.enums.NotificationTypeEnum;
+import io.github.bitbox.bitbox.enums.RecipientTypeEnum;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class NotificationBroadcastServiceTests {
+
+  private NotificationService notificationService;
+  private FCMDispatchService fcmDispatchService;
+  private BroadcastJobRepository broadcastJobRepository;
+  private NotificationBroadcastService notificationBroadcastService;
+
+  @BeforeEach
+  void setUp() throws InterruptedException {
+
+    notificationService = mock(NotificationService.class);
+    fcmDispatchService = mock(FCMDispatchService.class);
+    when(fcmDispatchService.enqueue(any(), any(), anyLong())).thenReturn(true);
+    broadcastJobRepository = mock(BroadcastJobRepository.class);
+    notificationBroadcastService =
+        new NotificationBroadcastService(
+            notificationService,
+            fcmDispatchService,
+            mock(AuthenticationClientService.class),
+            broadcastJobRepository,
+            new SimpleMeterRegistry(),
+            1,
+            1000,
+            100L);
+  }
+
+  @AfterEach
+  void tearDown() {
+    notificationBroadcastService.stop();
+  }
+
+  @Test
+  @DisplayName("수신자 목록은 chunk-size 단위로 저장되고, 묶음마다 진행 상황을 Redis 에 반영한다")
+  void t1() throws InterruptedException {
+
+    List<Long> recipientIds = new ArrayList<>();
+    for (long recipientId = 1; recipientId <= 2500; recipientId++) {
+      recipientIds.add(recipientId);
+    }
+    FCMNotificationRequestDto fcmNotification =
+        FCMNotificationRequestDto.builder().title("[전통주점.]").body("정산일 안내").build();
+
+    String jobId =
+        notificationBroadcastService.broadcast(
+            MemberRoleEnum.ROLE_ADMIN,
+            BroadcastNotificationRequestDto.builder()
+                .notificationType(NotificationTypeEnum.BALANCE_ACCOUNTS)
+                .recipientType(RecipientTypeEnum.ROLE_SELLER)
+                .recipientIds(recipientIds)
+                .fcmNotification(fcmNotification)
+                .build());
+
+    verify(notificationService, timeout(1000).times(3)).sendAll(anyList());
+    verify(fcmDispatchService, timeout(1000)).enqueue(eq(2500L), any(), eq(100L));
+    verify(broadcastJobRepository, timeout(1000)).finish(jobId, BroadcastStatusEnum.COMPLETED);
+    verify(broadcastJobRepository)
+        .save(jobId, NotificationTypeEnum.BALANCE_ACCOUNTS, RecipientTypeEnum.ROLE_SELLER);
+    verify(broadcastJobRepository, times(2)).increaseCounts(jobId, 1000L, 0L, 1000L, 0L);
+    verify(broadcastJobRepository).increaseCounts(jobId, 500L, 0L, 500L, 0L);
+  }
+
+  @Test
+  @DisplayName("관리자가 아니면 전송을 시작하거나 진행 상황을 조회할 수 없다")
+  void t2() {
+
+    BroadcastNotificationRequestDto broadcastDto =
+        BroadcastNotificationRequestDto.builder()
+            .notificationType(NotificationTypeEnum.BALANCE_ACCOUNTS)
+            .recipientType(RecipientTypeEnum.ROLE_SELLER)
+            .recipientIds(List.of(1L))
+            .build();
+
+    assertThatThrownBy(
+            () -> notificationBroadcastService.broadcast(MemberRoleEnum.ROLE_SELLER, broadcastDto))
+        .isInstanceOf(ForbiddenMemberRoleException.class);
+    assertThatThrownBy(
+            () -> notificationBroadcastService.getJobInfo(MemberRoleEnum.ROLE_CONSUMER, "job"))
+        .isInstanceOf(ForbiddenMemberRoleException.class);
+    verify(notificationService, never()).sendAll(anyList());
+  }
+
+  @Test
+  @DisplayName("수신자 목록과 수신자 유형이 모두 없으면 작업을 만들지 않고 거부한다")
+  void t3() {
+
+    BroadcastNotificationRequestDto broadcastDto =
+        BroadcastNotificationRequestDto.builder()
+            .notificationType(NotificationTypeEnum.BALANCE_ACCOUNTS)
+            .recipientIds(List.of())
+            .build();
+
+    assertThatThrownBy(
+            () -> notificationBroadcastService.broadcast(MemberRoleEnum.ROLE_ADMIN, broadcastDto))
+        .isInstanceOf(InvalidBroadcastRecipientException.class);
+    verify(broadcastJobRepository, never()).save(anyString(), any(), any());
+  }
+
+  @Test
+  @DisplayName("진행 상황은 작업을 시작한 노드가 아니어도 Redis 에서 조회한다")
+  void t4() {
+
+    BroadcastJobInfoResponseDto savedJobInfo =
+        BroadcastJobInfoResponseDto.builder()
+            .jobId("job")
+            .status(BroadcastStatusEnum.RUNNING)
+            .processedCounts(1000L)
+            .build();
+    when(broadcastJobRepository.findByJobId("job")).thenReturn(Optional.of(savedJobInfo));
+    when(broadcastJobRepository.findByJobId("unknown")).thenReturn(Optional.empty());
+
+    BroadcastJobInfoResponseDto jobInfo =
+        notificationBroadcastService.getJobInfo(MemberRoleEnum.ROLE_ADMIN, "job");
+    assertThat(jobInfo.getProcessedCounts()).isEqualTo(1000L);
+    assertThatThrownBy(
+            () -> notificationBroadcastService.getJobInfo(MemberRoleEnum.ROLE_ADMIN, "unknown"))
+        .isInstanceOf(BroadcastJobNotFoundException.class);
+  }
+}
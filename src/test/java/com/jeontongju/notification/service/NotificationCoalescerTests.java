@@ -0,0 +1,113 @@
+package com.jeontongju.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.jeontongju.notification.dto.temp.AggregatedNotificationDto;
+import com.jeontongju.notification.repository.CoalesceWindowRepository;
+import io.github.bitbox.bitbox.dto.MemberInfoForNotificationDto;
+import io.github.bitbox.bitbox.enums.NotificationTypeEnum;
+import io.github.bitbox.bitbox.enums.RecipientTypeEnum;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class NotificationCoalescerTests {
+
+  private final NotificationService notificationService = mock(NotificationService.class);
+  private final CoalesceWindowRepository coalesceWindowRepository =
+      mock(CoalesceWindowRepository.class);
+  private final NotificationCoalescer notificationCoalescer =
+      new NotificationCoalescer(
+          notificationService,
+          coalesceWindowRepository,
+          new SimpleMeterRegistry(),
+          List.of(NotificationTypeEnum.OUT_OF_STOCK, NotificationTypeEnum.BALANCE_ACCOUNTS),
+          5000L,
+          30000L,
+          500);
+
+  @Test
+  @DisplayName("구간의 첫 알림만 바로 보내고, 묶지 않는 유형은 구간을 거치지 않는다")
+  void t1() {
+
+    when(coalesceWindowRepository.saveOrIncrease(any(), anyLong())).thenReturn(true, false);
+
+    assertThat(notificationCoalescer.offer(request(NotificationTypeEnum.OUT_OF_STOCK))).isTrue();
+    assertThat(notificationCoalescer.offer(request(NotificationTypeEnum.OUT_OF_STOCK))).isFalse();
+    NotificationTypeEnum notCoalescingType = NotificationTypeEnum.SUCCESS_SUBSCRIPTION_PAYMENTS;
+    assertThat(notificationCoalescer.offer(request(notCoalescingType))).isTrue();
+  }
+
+  @Test
+  @DisplayName("묶음 알림 저장이 끝난 구간만 삭제한다")
+  void t2() {
+
+    List<AggregatedNotificationDto> aggregatedDtos = List.of(aggregated(49));
+    when(coalesceWindowRepository.claimAllDue(anyLong(), anyLong(), anyInt()))
+        .thenReturn(aggregatedDtos);
+
+    notificationCoalescer.flushExpiredWindows();
+
+    verify(notificationService).sendAllAggregated(aggregatedDtos);
+    verify(coalesceWindowRepository).deleteAll(aggregatedDtos);
+    verify(coalesceWindowRepository, never()).releaseAll(any());
+  }
+
+  @Test
+  @DisplayName("묶음 알림 저장에 실패하면 구간을 지우지 않고 다음 주기에 다시 저장한다")
+  void t3() {
+
+    List<AggregatedNotificationDto> aggregatedDtos = List.of(aggregated(49));
+    when(coalesceWindowRepository.claimAllDue(anyLong(), anyLong(), anyInt()))
+        .thenReturn(aggregatedDtos);
+    doThrow(new IllegalStateException("DB 오류"))
+        .when(notificationService)
+        .sendAllAggregated(aggregatedDtos);
+
+    notificationCoalescer.flushExpiredWindows();
+
+    verify(coalesceWindowRepository).releaseAll(aggregatedDtos);
+    verify(coalesceWindowRepository, never()).deleteAll(any());
+  }
+
+  @Test
+  @DisplayName("묶음 시간이 끝난 구간이 없으면 저장하지 않는다")
+  void t4() {
+
+    when(coalesceWindowRepository.claimAllDue(anyLong(), anyLong(), anyInt()))
+        .thenReturn(List.of());
+
+    notificationCoalescer.flushExpiredWindows();
+
+    verifyNoInteractions(notificationService);
+  }
+
+  private MemberInfoForNotificationDto request(NotificationTypeEnum notificationType) {
+
+    return MemberInfoForNotificationDto.builder()
+        .recipientId(1L)
+        .recipientType(RecipientTypeEnum.ROLE_SELLER)
+        .notificationType(notificationType)
+        .build();
+  }
+
+  private AggregatedNotificationDto aggregated(int aggregatedCount) {
+
+    return AggregatedNotificationDto.builder()
+        .recipientId(1L)
+        .recipientType(RecipientTypeEnum.ROLE_SELLER)
+        .notificationType(NotificationTypeEnum.OUT_OF_STOCK)
+        .aggregatedCount(aggregatedCount)
+        .build();
+  }
+}
@@ -0,0 +1,171 @@
+package com.jeontongju.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.jeontongju.notification.dto.response.NotificationInfoResponseDto;
+import com.jeontongju.notification.enums.NotificationPriorityEnum;
+import com.jeontongju.notification.redis.NotificationRedisPublisher;
+import com.jeontongju.notification.repository.EmitterPresenceRepository;
+import com.jeontongju.notification.repository.EmitterRepositoryImpl;
+import com.jeontongju.notification.repository.EventStreamRepository;
+import com.jeontongju.notification.utils.NodeIdManager;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+public class NotificationDeliveryServiceTests {
+
+  private static final Long MEMBER_ID = 1L;
+
+  private EmitterPresenceRepository emitterPresenceRepository;
+  private NotificationRedisPublisher notificationRedisPublisher;
+  private SseDispatchService sseDispatchService;
+  private NotificationDeliveryService notificationDeliveryService;
+  // Redis 에 저장된 MEMBER_ID 의 연결 노드 목록 대신 사용
+  private Set<String> presence;
+
+  @BeforeEach
+  void setUp() {
+
+    emitterPresenceRepository = mock(EmitterPresenceRepository.class);
+    notificationRedisPublisher = mock(NotificationRedisPublisher.class);
+    sseDispatchService = mock(SseDispatchService.class);
+    presence = ConcurrentHashMap.newKeySet();
+    doAnswer(invocation -> presence.add(invocation.getArgument(1)))
+        .when(emitterPresenceRepository)
+        .save(anyLong(), anyString());
+    doAnswer(invocation -> presence.remove(invocation.getArgument(1)))
+        .when(emitterPresenceRepository)
+        .delete(anyLong(), anyString());
+
+    notificationDeliveryService = newService("1");
+  }
+
+  private NotificationDeliveryService newService(String nodeId) {
+
+    return new NotificationDeliveryService(
+        new EmitterRepositoryImpl(100, 600000L),
+        emitterPresenceRepository,
+        notificationRedisPublisher,
+        new NodeIdManager(nodeId),
+        sseDispatchService,
+        new EventStreamRepository(),
+        "redis",
+        64,
+        1800000L,
+        25000L);
+  }
+
+  @Test
+  @DisplayName("redis 모드에서는 현재 노드 연결로 직접 보내고, 다른 노드에는 Redis 채널로 발행한다")
+  void t1() {
+
+    SseEmitter emitter = new SseEmitter();
+    notificationDeliveryService.register(MEMBER_ID, "emitter-1", emitter);
+    when(emitterPresenceRepository.findAllNodeByMemberId(MEMBER_ID))
+        .thenReturn(Set.of("1", "2"));
+
+    notificationDeliveryService.deliverAll(
+        MEMBER_ID,
+        "happy",
+        List.of(NotificationInfoResponseDto.builder().notificationId(10L).build()),
+        NotificationPriorityEnum.HIGH);
+
+    verify(sseDispatchService)
+        .enqueue(eq(emitter), any(SseEventBuilder.class), eq(NotificationPriorityEnum.HIGH));
+    verify(notificationRedisPublisher).publish(eq("2"), any());
+    verify(notificationRedisPublisher, never()).publish(eq("1"), any());
+  }
+
+  @Test
+  @DisplayName("같은 연결이 여러 번 정리되어도 다른 연결이 남아있으면 연결 정보는 유지된다")
+  void t2() {
+
+    notificationDeliveryService.register(MEMBER_ID, "emitter-1", new SseEmitter());
+    notificationDeliveryService.register(MEMBER_ID, "emitter-2", new SseEmitter());
+
+    // 완료, 오류, 전송 실패 콜백이 모두 실행된 경우
+    notificationDeliveryService.unregister(MEMBER_ID, "emitter-1");
+    notificationDeliveryService.unregister(MEMBER_ID, "emitter-1");
+    assertThat(presence).containsExactly("1");
+
+    notificationDeliveryService.unregister(MEMBER_ID, "emitter-2");
+    assertThat(presence).isEmpty();
+    verify(emitterPresenceRepository, times(1)).delete(MEMBER_ID, "1");
+  }
+
+  @Test
+  @DisplayName("마지막 연결 종료와 재연결이 겹쳐도 연결이 남아있으면 연결 정보가 지워지지 않는다")
+  void t3() throws InterruptedException {
+
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    for (int thread = 0; thread < 8; thread++) {
+      int threadId = thread;
+      executor.execute(
+          () -> {
+            for (int i = 0; i < 500; i++) {
+              String emitterId = threadId + "_" + i;
+              notificationDeliveryService.register(MEMBER_ID, emitterId, new SseEmitter());
+              notificationDeliveryService.unregister(MEMBER_ID, emitterId);
+            }
+            notificationDeliveryService.register(MEMBER_ID, threadId + "_last", new SseEmitter());
+          });
+    }
+    executor.shutdown();
+    assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+    assertThat(presence).containsExactly("1");
+  }
+
+  @Test
+  @DisplayName("다른 노드에 다시 연결하면 이전 노드의 시퀀스로 이어받지 않는다")
+  void t4() {
+
+    ArgumentCaptor<SseEventBuilder> captor = ArgumentCaptor.forClass(SseEventBuilder.class);
+    notificationDeliveryService.register(MEMBER_ID, "emitter-1", new SseEmitter());
+    when(emitterPresenceRepository.findAllNodeByMemberId(MEMBER_ID)).thenReturn(Set.of("1"));
+    notificationDeliveryService.deliver(
+        MEMBER_ID, "happy", NotificationInfoResponseDto.builder().notificationId(10L).build());
+    verify(sseDispatchService).enqueue(any(), captor.capture(), any());
+    String lastEventId = findEventId(captor.getValue());
+
+    NotificationDeliveryService otherNode = newService("2");
+
+    assertThat(notificationDeliveryService.parseEventSequence(MEMBER_ID, lastEventId))
+        .isNotNull();
+    assertThat(otherNode.parseEventSequence(MEMBER_ID, lastEventId)).isNull();
+    assertThat(otherNode.parseEventSequence(MEMBER_ID, MEMBER_ID + "_12345")).isNull();
+  }
+
+  // SSE 전송 형식(id:...)에서 이벤트 식별자 추출
+  private String findEventId(SseEventBuilder eventBuilder) {
+
+    for (ResponseBodyEmitter.DataWithMediaType data : eventBuilder.build()) {
+      String line = String.valueOf(data.getData());
+      if (line.startsWith("id:")) {
+        return line.substring("id:".length(), line.indexOf('\n'));
+      }
+    }
+    throw new IllegalStateException("이벤트 식별자가 없음");
+  }
+}
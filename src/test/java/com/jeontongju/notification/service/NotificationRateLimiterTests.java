@@ -0,0 +1,62 @@
+package com.jeontongju.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.jeontongju.notification.config.RateLimitProperties;
+import com.jeontongju.notification.config.RateLimitProperties.Policy;
+import com.jeontongju.notification.repository.RateLimitRepository;
+import io.github.bitbox.bitbox.enums.NotificationTypeEnum;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class NotificationRateLimiterTests {
+
+  @Test
+  @DisplayName("회원 한도에 걸린 알림은 채널 전체 한도를 사용하지 않는다")
+  void t1() {
+
+    RateLimitProperties rateLimitProperties = new RateLimitProperties();
+    rateLimitProperties.setGlobal(new Policy(2L, 0.0));
+    rateLimitProperties.setMember(new Policy(1L, 0.0));
+    NotificationRateLimiter notificationRateLimiter =
+        new NotificationRateLimiter(
+            rateLimitProperties, mock(RateLimitRepository.class), new SimpleMeterRegistry());
+
+    List<Boolean> allowed =
+        notificationRateLimiter.tryAcquireAll(
+            NotificationRateLimiter.SSE_CHANNEL,
+            List.of(1L, 1L, 1L, 2L),
+            Collections.nCopies(4, NotificationTypeEnum.OUT_OF_STOCK));
+
+    assertThat(allowed).containsExactly(true, false, false, true);
+  }
+
+  @Test
+  @DisplayName("알림 유형별 한도가 있어도 회원 한도는 유형과 상관없이 함께 적용된다")
+  void t2() {
+
+    RateLimitProperties rateLimitProperties = new RateLimitProperties();
+    rateLimitProperties.setMember(new Policy(2L, 0.0));
+    rateLimitProperties.getTypes().put(NotificationTypeEnum.OUT_OF_STOCK, new Policy(1L, 0.0));
+    NotificationRateLimiter notificationRateLimiter =
+        new NotificationRateLimiter(
+            rateLimitProperties, mock(RateLimitRepository.class), new SimpleMeterRegistry());
+
+    List<Boolean> allowed =
+        notificationRateLimiter.tryAcquireAll(
+            NotificationRateLimiter.SSE_CHANNEL,
+            List.of(1L, 1L, 1L, 1L),
+            Arrays.asList(
+                NotificationTypeEnum.OUT_OF_STOCK,
+                NotificationTypeEnum.OUT_OF_STOCK,
+                NotificationTypeEnum.BALANCE_ACCOUNTS,
+                null));
+
+    assertThat(allowed).containsExactly(true, false, true, false);
+  }
+}
@@ -3,12 +3,14 @@ package com.jeontongju.notification.service;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.jeontongju.notification.domain.Notification;
-import com.jeontongju.notification.dto.temp.MemberEmailForKeyDto;
+import com.jeontongju.notification.dto.temp.CachedEventDto;
 import com.jeontongju.notification.feign.AuthenticationClientService;
 import com.jeontongju.notification.repository.EmitterRepository;
+import com.jeontongju.notification.repository.FailedOrderRepository;
+import com.jeontongju.notification.repository.NotificationRepository;
+import com.jeontongju.notification.utils.FailedOrderSerializer;
+import com.jeontongju.notification.utils.UrlEncoderManager;
 import io.github.bitbox.bitbox.dto.*;
 import io.github.bitbox.bitbox.enums.NotificationTypeEnum;
 import io.github.bitbox.bitbox.enums.PaymentMethodEnum;
@@ -23,8 +25,6 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
@@ -34,36 +34,79 @@ import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 public class NotificationServiceTests {
 
   @Autowired public NotificationService notificationService;
+  @Autowired public NotificationOutboxRelay notificationOutboxRelay;
   @Autowired public EmitterRepository emitterRepository;
   @Autowired public AuthenticationClientService authenticationClientService;
-  @Autowired public RedisTemplate<String, String> redisTemplate;
+  @Autowired public FailedOrderRepository failedOrderRepository;
+  @Autowired public FailedOrderSerializer failedOrderSerializer;
+  @Autowired public NotificationRepository notificationRepository;
 
   @Test
   @DisplayName("SSE 연결 후, 셀러에게 재고 소진 알림을 전송할 수 있다")
   void t1() {
 
     notificationService.subscribe(1L, "");
+    long lastSequence = emitterRepository.findLastEventSequence(1L);
     notificationService.send(1L, RecipientTypeEnum.ROLE_SELLER, NotificationTypeEnum.OUT_OF_STOCK);
+    // 테스트 트랜잭션은 커밋되지 않으므로 릴레이를 직접 실행
+    assertThat(notificationOutboxRelay.relayBatch(10)).isEqualTo(1);
 
-    Map<String, Object> emitters =
-        emitterRepository.findAllEventCacheStartWithByEmail("zjadlspun1114@naver.com");
+    List<CachedEventDto> cachedEvents =
+        emitterRepository.findAllEventCacheAfter(1L, lastSequence).orElseThrow();
 
     // 이벤트 캐시에 저장된 정보 확인
-    emitters.forEach(
-        (key, event) -> {
-          Notification notification = (Notification) event;
-          assertThat(notification.getRecipientId()).isEqualTo(1L);
-          assertThat(notification.getNotificationTypeEnum())
-              .isEqualTo(NotificationTypeEnum.OUT_OF_STOCK);
-        });
-
-    Notification foundNotification = notificationService.getNotification(1L);
+    assertThat(cachedEvents).hasSize(1);
+    assertThat(cachedEvents.get(0).getData().getData())
+        .isEqualTo(NotificationTypeEnum.OUT_OF_STOCK.name());
+
+    Notification foundNotification =
+        notificationService.getNotification(cachedEvents.get(0).getData().getNotificationId());
     // DB에 저장된 정보 확인
     assertThat(foundNotification.getRecipientId()).isEqualTo(1L);
     assertThat(foundNotification.getNotificationTypeEnum())
         .isEqualTo(NotificationTypeEnum.OUT_OF_STOCK);
   }
 
+  @Test
+  @DisplayName("전체 읽음 이벤트는 아웃박스를 거쳐 커밋 후에 전송된다")
+  void t2() {
+
+    Long memberId = 2L;
+    notificationService.subscribe(memberId, "");
+    notificationService.send(
+        memberId, RecipientTypeEnum.ROLE_SELLER, NotificationTypeEnum.OUT_OF_STOCK);
+    notificationOutboxRelay.relayBatch(10);
+    long lastSequence = emitterRepository.findLastEventSequence(memberId);
+
+    assertThat(notificationService.readAllNotification(memberId)).isEqualTo(1);
+    // 릴레이가 실행되기 전에는 전송되지 않음
+    assertThat(emitterRepository.findAllEventCacheAfter(memberId, lastSequence).orElseThrow())
+        .isEmpty();
+
+    assertThat(notificationOutboxRelay.relayBatch(10)).isEqualTo(1);
+    List<CachedEventDto> cachedEvents =
+        emitterRepository.findAllEventCacheAfter(memberId, lastSequence).orElseThrow();
+    assertThat(cachedEvents).hasSize(1);
+    assertThat(cachedEvents.get(0).getEventName()).isEqualTo("read-all");
+  }
+
+  @Test
+  @DisplayName("전송 전에 읽은 알림은 안 읽은 개수를 올리지 않는다")
+  void t3() {
+
+    Long memberId = 3L;
+    long unreadCount = notificationService.getUnreadCount(memberId);
+    notificationService.send(
+        memberId, RecipientTypeEnum.ROLE_SELLER, NotificationTypeEnum.OUT_OF_STOCK);
+
+    // 릴레이가 실행되기 전에 읽음 처리
+    Notification savedNotification = notificationRepository.findByRecipientId(memberId).get(0);
+    notificationService.readNotification(savedNotification.getNotificationId());
+
+    assertThat(notificationOutboxRelay.relayBatch(10)).isEqualTo(1);
+    assertThat(notificationService.getUnreadCount(memberId)).isEqualTo(unreadCount);
+  }
+
   @Test
   @DisplayName("로그인 시 SSE 연결 후, 로그인 한 회원 식별자로 SSE 연결 객체를 조회할 수 있다")
   public void 연결객체_조회하기() {
@@ -71,10 +114,7 @@ public class NotificationServiceTests {
     Long loginedId = 1L;
     SseEmitter sseEmitter = notificationService.subscribe(loginedId, "");
 
-    MemberEmailForKeyDto emailDto = authenticationClientService.getMemberEmailForKey(loginedId);
-
-    Map<String, SseEmitter> emitters =
-        emitterRepository.findAllEmitterStartWithByEmail(emailDto.getEmail() + "_" + loginedId);
+    Map<String, SseEmitter> emitters = emitterRepository.findAllEmitterByMemberId(loginedId);
     boolean isContained = emitters.containsValue(sseEmitter);
     assertThat(isContained).isEqualTo(true);
   }
@@ -159,13 +199,35 @@ public class NotificationServiceTests {
             .build();
 
     notificationService.sendError(serverErrorDto);
-    ValueOperations<String, String> stringStringValueOperations = redisTemplate.opsForValue();
-
-    ObjectMapper objectMapper = new ObjectMapper();
-    objectMapper.registerModule(new JavaTimeModule());
 
-    String redisKey = "CONSUMER_" + recipientId;
-    String redisValue = stringStringValueOperations.get(redisKey);
-    assertThat(redisValue).isNotEqualTo(null);
+    ConsumerOrderListResponseDto failedOrder = failedOrderRepository.findByConsumerId(recipientId);
+    assertThat(failedOrder).isNotEqualTo(null);
+
+    // 압축 저장 후 읽어도 기존과 같은 JSON 으로 변환됨
+    ConsumerOrderListResponseDto fakeOrder = orderInfoDto.createFakeOrder();
+    assertThat(failedOrderSerializer.writeValueAsString(failedOrder))
+        .isEqualTo(failedOrderSerializer.writeValueAsString(fakeOrder));
+    assertThat(failedOrderSerializer.deserialize(failedOrderSerializer.serialize(fakeOrder)))
+        .usingRecursiveComparison()
+        .isEqualTo(fakeOrder);
+
+    // 링크 파라미터는 저장할 때 인코딩해 알림에 저장하고, 링크는 알림에 저장된 주문으로 만듦
+    String orderParams =
+        "/"
+            + fakeOrder.getOrder().getOrdersId()
+            + "?order="
+            + new UrlEncoderManager()
+                .encodeURIComponent(failedOrderSerializer.writeValueAsString(fakeOrder));
+    Notification savedNotification =
+        notificationRepository.findByRecipientIdAndIsRead(recipientId, false).stream()
+            .filter(notification -> notification.getNotificationTypeEnum() == notificationType)
+            .findFirst()
+            .orElseThrow();
+    assertThat(savedNotification.getRedirectParams()).isEqualTo(orderParams);
+    assertThat(
+            notificationService
+                .getRedirectLink(recipientId, savedNotification.getNotificationId())
+                .getRedirectUrl())
+        .contains(orderParams);
   }
 }
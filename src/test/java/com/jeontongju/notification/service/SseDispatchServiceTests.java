@@ -0,0 +1,252 @@
+package com.jeontongju.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.jeontongju.notification.enums.NotificationPriorityEnum;
+import com.jeontongju.notification.enums.SseOverflowPolicyEnum;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+public class SseDispatchServiceTests {
+
+  private SseDispatchService sseDispatchService;
+
+  @BeforeEach
+  void setUp() {
+    sseDispatchService = newService(2);
+  }
+
+  @AfterEach
+  void tearDown() {
+    sseDispatchService.stop();
+  }
+
+  @Test
+  @DisplayName("하트비트는 틱마다 한 슬롯의 에미터에만 전송된다")
+  void t1() throws IOException {
+
+    SseEmitter first = mock(SseEmitter.class);
+    SseEmitter second = mock(SseEmitter.class);
+    sseDispatchService.register(first, () -> {});
+    sseDispatchService.register(second, () -> {});
+
+    sseDispatchService.sendHeartbeats();
+    verify(first, timeout(1000)).send(any(SseEventBuilder.class));
+    verify(second, never()).send(any(SseEventBuilder.class));
+
+    sseDispatchService.sendHeartbeats();
+    verify(second, timeout(1000)).send(any(SseEventBuilder.class));
+  }
+
+  @Test
+  @DisplayName("하트비트 쓰기에 실패한 에미터는 제거된다")
+  void t2() throws IOException {
+
+    SseEmitter emitter = mock(SseEmitter.class);
+    doThrow(new IOException("broken pipe")).when(emitter).send(any(SseEventBuilder.class));
+    Runnable onEvict = mock(Runnable.class);
+    sseDispatchService.register(emitter, onEvict);
+
+    sseDispatchService.sendHeartbeats();
+
+    verify(onEvict, timeout(1000)).run();
+  }
+
+  @Test
+  @DisplayName("대기 중인 전송 작업 중 우선순위가 높은 작업이 먼저 처리된다")
+  void t3() throws Exception {
+
+    sseDispatchService.stop();
+    sseDispatchService = newService(1);
+
+    // 워커 하나를 붙잡아 두고 LOW, HIGH 작업을 쌓음
+    CountDownLatch blocked = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    SseEmitter blocker = mock(SseEmitter.class);
+    doAnswer(
+            invocation -> {
+              blocked.countDown();
+              release.await(1, TimeUnit.SECONDS);
+              return null;
+            })
+        .when(blocker)
+        .send(any(SseEventBuilder.class));
+    SseEmitter low = mock(SseEmitter.class);
+    SseEmitter high = mock(SseEmitter.class);
+    sseDispatchService.register(blocker, () -> {});
+    sseDispatchService.register(low, () -> {});
+    sseDispatchService.register(high, () -> {});
+
+    sseDispatchService.enqueue(blocker, SseEmitter.event().data("blocker"));
+    assertThat(blocked.await(1, TimeUnit.SECONDS)).isTrue();
+    sseDispatchService.enqueue(low, SseEmitter.event().data("low"), NotificationPriorityEnum.LOW);
+    sseDispatchService.enqueue(
+        high, SseEmitter.event().data("high"), NotificationPriorityEnum.HIGH);
+    release.countDown();
+
+    verify(low, timeout(1000)).send(any(SseEventBuilder.class));
+    InOrder inOrder = inOrder(high, low);
+    inOrder.verify(high).send(any(SseEventBuilder.class));
+    inOrder.verify(low).send(any(SseEventBuilder.class));
+  }
+
+  @Test
+  @DisplayName("쓰기가 멈춘 에미터는 제거되고, 인터럽트로 풀려난 워커가 다른 에미터로 이어서 전송한다")
+  void t4() throws Exception {
+
+    sseDispatchService.stop();
+    sseDispatchService = newService(1);
+
+    CountDownLatch blocked = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    SseEmitter stalled = mock(SseEmitter.class);
+    doAnswer(
+            invocation -> {
+              blocked.countDown();
+              try {
+                release.await(5, TimeUnit.SECONDS);
+              } catch (InterruptedException e) {
+                throw new IOException("interrupted");
+              }
+              return null;
+            })
+        .when(stalled)
+        .send(any(SseEventBuilder.class));
+    Runnable onEvict = mock(Runnable.class);
+    SseEmitter other = mock(SseEmitter.class);
+    sseDispatchService.register(stalled, onEvict);
+    sseDispatchService.register(other, () -> {});
+
+    sseDispatchService.enqueue(stalled, SseEmitter.event().data("stalled"));
+    assertThat(blocked.await(1, TimeUnit.SECONDS)).isTrue();
+    Thread.sleep(300L);
+    sseDispatchService.evictStalledWriters();
+
+    verify(onEvict).run();
+    verify(stalled, timeout(1000)).complete();
+    // 워커가 하나뿐이므로 멈췄던 워커가 풀려나야 전송됨
+    sseDispatchService.enqueue(other, SseEmitter.event().data("other"));
+    verify(other, timeout(1000)).send(any(SseEventBuilder.class));
+    release.countDown();
+  }
+
+  @Test
+  @DisplayName("우선순위 대기열이 가득 차서 보류된 전송 작업은 자리가 나면 하트비트를 기다리지 않고 처리된다")
+  void t5() throws Exception {
+
+    sseDispatchService.stop();
+    sseDispatchService = newService(1, 1);
+
+    CountDownLatch blocked = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    SseEmitter blocker = mock(SseEmitter.class);
+    doAnswer(
+            invocation -> {
+              blocked.countDown();
+              release.await(1, TimeUnit.SECONDS);
+              return null;
+            })
+        .when(blocker)
+        .send(any(SseEventBuilder.class));
+    SseEmitter queued = mock(SseEmitter.class);
+    SseEmitter rejected = mock(SseEmitter.class);
+    sseDispatchService.register(blocker, () -> {});
+    sseDispatchService.register(queued, () -> {});
+    sseDispatchService.register(rejected, () -> {});
+
+    sseDispatchService.enqueue(blocker, SseEmitter.event().data("blocker"));
+    assertThat(blocked.await(1, TimeUnit.SECONDS)).isTrue();
+    // 대기열 크기가 1이므로 두 번째 작업은 보류됨
+    sseDispatchService.enqueue(queued, SseEmitter.event().data("queued"));
+    sseDispatchService.enqueue(rejected, SseEmitter.event().data("rejected"));
+    release.countDown();
+
+    verify(queued, timeout(1000)).send(any(SseEventBuilder.class));
+    verify(rejected, timeout(1000)).send(any(SseEventBuilder.class));
+  }
+
+  @Test
+  @DisplayName("이벤트가 몰린 에미터는 한 번에 drain-batch-size 개만 보내고 다른 에미터에 차례를 넘긴다")
+  void t6() throws Exception {
+
+    sseDispatchService.stop();
+    sseDispatchService = newService(1, 100, 2);
+
+    CountDownLatch blocked = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    SseEmitter blocker = mock(SseEmitter.class);
+    doAnswer(
+            invocation -> {
+              blocked.countDown();
+              release.await(1, TimeUnit.SECONDS);
+              return null;
+            })
+        .when(blocker)
+        .send(any(SseEventBuilder.class));
+    SseEmitter busy = mock(SseEmitter.class);
+    SseEmitter other = mock(SseEmitter.class);
+    sseDispatchService.register(blocker, () -> {});
+    sseDispatchService.register(busy, () -> {});
+    sseDispatchService.register(other, () -> {});
+
+    sseDispatchService.enqueue(blocker, SseEmitter.event().data("blocker"));
+    assertThat(blocked.await(1, TimeUnit.SECONDS)).isTrue();
+    for (int i = 0; i < 5; i++) {
+      sseDispatchService.enqueue(busy, SseEmitter.event().data("busy-" + i));
+    }
+    sseDispatchService.enqueue(other, SseEmitter.event().data("other"));
+    release.countDown();
+
+    verify(busy, timeout(1000).times(5)).send(any(SseEventBuilder.class));
+    InOrder inOrder = inOrder(busy, other);
+    inOrder.verify(busy, times(2)).send(any(SseEventBuilder.class));
+    inOrder.verify(other).send(any(SseEventBuilder.class));
+    inOrder.verify(busy, times(3)).send(any(SseEventBuilder.class));
+  }
+
+  private SseDispatchService newService(int dispatcherThreads) {
+    return newService(dispatcherThreads, 100);
+  }
+
+  // 타이머는 시작하지 않고 sendHeartbeats, evictStalledWriters 를 직접 호출
+  private SseDispatchService newService(int dispatcherThreads, int priorityQueueCapacity) {
+    return newService(dispatcherThreads, priorityQueueCapacity, 16);
+  }
+
+  private SseDispatchService newService(
+      int dispatcherThreads, int priorityQueueCapacity, int drainBatchSize) {
+
+    SseDispatchService service =
+        new SseDispatchService(
+            new SimpleMeterRegistry(),
+            dispatcherThreads,
+            8,
+            SseOverflowPolicyEnum.DROP_OLDEST,
+            1000L,
+            2,
+            60000L,
+            priorityQueueCapacity,
+            200L,
+            drainBatchSize);
+    service.startWorkers();
+    return service;
+  }
+}
@@ -0,0 +1,81 @@
+package com.jeontongju.notification.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class LocalTokenBucketTests {
+
+  private static final long SECOND = 1_000_000_000L;
+
+  @Test
+  @DisplayName("최대 개수만큼 사용한 뒤에는 보충된 만큼만 사용할 수 있다")
+  void t1() {
+
+    LocalTokenBucket bucket = new LocalTokenBucket(3, 1.0, 0L);
+
+    assertThat(bucket.tryAcquire(0L)).isTrue();
+    assertThat(bucket.tryAcquire(0L)).isTrue();
+    assertThat(bucket.tryAcquire(0L)).isTrue();
+    assertThat(bucket.tryAcquire(0L)).isFalse();
+    assertThat(bucket.tryAcquire(SECOND)).isTrue();
+    assertThat(bucket.tryAcquire(SECOND)).isFalse();
+    // 오래 쉬어도 최대 개수 이상은 쌓이지 않음
+    for (int i = 0; i < 3; i++) {
+      assertThat(bucket.tryAcquire(100 * SECOND)).isTrue();
+    }
+    assertThat(bucket.tryAcquire(100 * SECOND)).isFalse();
+  }
+
+  @Test
+  @DisplayName("여러 스레드가 동시에 사용해도 최대 개수를 넘지 않는다")
+  void t2() throws InterruptedException {
+
+    LocalTokenBucket bucket = new LocalTokenBucket(1000, 0.0, 0L);
+    AtomicInteger acquired = new AtomicInteger();
+    CountDownLatch start = new CountDownLatch(1);
+    List<Thread> threads = new ArrayList<>();
+    for (int i = 0; i < 8; i++) {
+      Thread thread =
+          new Thread(
+              () -> {
+                try {
+                  start.await();
+                } catch (InterruptedException e) {
+                  return;
+                }
+                for (int j = 0; j < 500; j++) {
+                  if (bucket.tryAcquire(0L)) {
+                    acquired.incrementAndGet();
+                  }
+                }
+              });
+      thread.start();
+      threads.add(thread);
+    }
+    start.countDown();
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    assertThat(acquired.get()).isEqualTo(1000);
+  }
+
+  @Test
+  @DisplayName("돌려받은 토큰은 다시 사용할 수 있지만 최대 개수를 넘지 않는다")
+  void t3() {
+
+    LocalTokenBucket bucket = new LocalTokenBucket(1, 0.0, 0L);
+
+    assertThat(bucket.tryAcquire(0L)).isTrue();
+    bucket.refund();
+    bucket.refund();
+    assertThat(bucket.tryAcquire(0L)).isTrue();
+    assertThat(bucket.tryAcquire(0L)).isFalse();
+  }
+}
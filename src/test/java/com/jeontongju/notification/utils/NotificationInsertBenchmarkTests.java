@@ -0,0 +1,130 @@
+package com.jeontongju.notification.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * IDENTITY 단건 insert 와 시간 순 식별자 + JDBC 배치 insert 처리량 비교 (./gradlew benchmark)
+ *
+ * <p>Hibernate 를 거친 saveAll 이 실제로 배치로 나가는지는 NotificationRepositoryTests 에서 확인한다.
+ */
+@Slf4j
+@Tag("benchmark")
+public class NotificationInsertBenchmarkTests {
+
+  private static final int ROWS = 20_000;
+  private static final int BATCH_SIZE = 500;
+
+  private static final String CREATE_TABLE =
+      "create table notification ("
+          + "notification_id bigint auto_increment primary key, "
+          + "recipient_id bigint not null, "
+          + "recipient_type varchar(255) not null, "
+          + "notification_type varchar(255) not null, "
+          + "is_read boolean not null, "
+          + "redirect_link varchar(255) not null, "
+          + "created_at timestamp not null)";
+
+  @Test
+  @DisplayName("시간 순 식별자로 배치 insert 하면 IDENTITY 단건 insert 보다 처리량이 높다")
+  void insertThroughput() throws SQLException {
+
+    long identityNanos = measure("identity", this::insertWithIdentity);
+    long batchNanos = measure("batch", this::insertWithTimeOrderedIdBatch);
+
+    log.info(
+        "[insert benchmark] rows={}, identity={} rows/s, time-ordered batch={} rows/s",
+        ROWS,
+        ROWS * 1_000_000_000L / identityNanos,
+        ROWS * 1_000_000_000L / batchNanos);
+    assertThat(batchNanos).isLessThan(identityNanos);
+  }
+
+  private long measure(String name, InsertStrategy strategy) throws SQLException {
+
+    try (Connection connection =
+        DriverManager.getConnection("jdbc:h2:mem:" + name + ";MODE=MySQL", "sa", "")) {
+      try (Statement statement = connection.createStatement()) {
+        statement.execute(CREATE_TABLE);
+      }
+      connection.setAutoCommit(false);
+
+      long startedAt = System.nanoTime();
+      strategy.insert(connection);
+      connection.commit();
+      long elapsed = System.nanoTime() - startedAt;
+
+      try (Statement statement = connection.createStatement();
+          ResultSet resultSet = statement.executeQuery("select count(*) from notification")) {
+        resultSet.next();
+        assertThat(resultSet.getInt(1)).isEqualTo(ROWS);
+      }
+      return elapsed;
+    }
+  }
+
+  // IDENTITY: 행마다 insert 후 생성된 키를 돌려받아야 해서 배치 불가
+  private void insertWithIdentity(Connection connection) throws SQLException {
+
+    String sql =
+        "insert into notification (recipient_id, recipient_type, notification_type, is_read, "
+            + "redirect_link, created_at) values (?, ?, ?, ?, ?, ?)";
+    try (PreparedStatement statement =
+        connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+      for (int i = 0; i < ROWS; i++) {
+        bind(statement, 1, i);
+        statement.executeUpdate();
+        try (ResultSet keys = statement.getGeneratedKeys()) {
+          keys.next();
+        }
+      }
+    }
+  }
+
+  // 시간 순 식별자: 식별자를 미리 발급하므로 batch_size 만큼 묶어서 전송
+  private void insertWithTimeOrderedIdBatch(Connection connection) throws SQLException {
+
+    TimeOrderedIdGenerator idGenerator = new TimeOrderedIdGenerator(1L);
+    String sql =
+        "insert into notification (notification_id, recipient_id, recipient_type, "
+            + "notification_type, is_read, redirect_link, created_at) "
+            + "values (?, ?, ?, ?, ?, ?, ?)";
+    try (PreparedStatement statement = connection.prepareStatement(sql)) {
+      for (int i = 0; i < ROWS; i++) {
+        statement.setLong(1, idGenerator.nextId());
+        bind(statement, 2, i);
+        statement.addBatch();
+        if ((i + 1) % BATCH_SIZE == 0) {
+          statement.executeBatch();
+        }
+      }
+      statement.executeBatch();
+    }
+  }
+
+  private void bind(PreparedStatement statement, int from, int i) throws SQLException {
+
+    statement.setLong(from, i % 1000);
+    statement.setString(from + 1, "ROLE_SELLER");
+    statement.setString(from + 2, "OUT_OF_STOCK");
+    statement.setBoolean(from + 3, false);
+    statement.setString(from + 4, "https://seller.jeontongju.shop/product/list");
+    statement.setTimestamp(from + 5, new Timestamp(System.currentTimeMillis()));
+  }
+
+  @FunctionalInterface
+  private interface InsertStrategy {
+    void insert(Connection connection) throws SQLException;
+  }
+}
@@ -0,0 +1,40 @@
+package com.jeontongju.notification.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.jeontongju.notification.config.RedirectLinkProperties;
+import io.github.bitbox.bitbox.enums.NotificationTypeEnum;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class RedirectLinkRegistryTests {
+
+  @Test
+  @DisplayName("알림 유형별 템플릿 키로 기존과 같은 링크를 만든다")
+  void t1() {
+
+    RedirectLinkRegistry registry = new RedirectLinkRegistry(new RedirectLinkProperties());
+
+    String outOfStockKey = registry.getTemplateKey(NotificationTypeEnum.OUT_OF_STOCK);
+    assertThat(registry.render(outOfStockKey, null))
+        .isEqualTo("https://seller.jeontongju.shop/product/list");
+    assertThat(registry.acceptsParams(outOfStockKey)).isFalse();
+    assertThat(registry.render(RedirectLinkRegistry.ORDER_DETAIL, "/1?order=%7B%7D"))
+        .isEqualTo("https://jeontongju.shop/orderdetail/1?order=%7B%7D");
+    assertThat(registry.render(RedirectLinkRegistry.ORDER_DETAIL, null))
+        .isEqualTo("https://jeontongju.shop/orderdetail");
+    assertThat(registry.render(RedirectLinkRegistry.NONE, null)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("등록되지 않은 템플릿을 가리키는 설정이면 시작할 때 실패한다")
+  void t2() {
+
+    RedirectLinkProperties redirectLinkProperties = new RedirectLinkProperties();
+    redirectLinkProperties.getTypes().put(NotificationTypeEnum.OUT_OF_STOCK, "unknown");
+
+    assertThatThrownBy(() -> new RedirectLinkRegistry(redirectLinkProperties))
+        .isInstanceOf(IllegalStateException.class);
+  }
+}
@@ -0,0 +1,70 @@
+package com.jeontongju.notification.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.UnsupportedEncodingException;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/** URLEncoder + replaceAll 과 표 기반 한 번 순회 인코딩 처리량 비교 (./gradlew benchmark) */
+@Slf4j
+@Tag("benchmark")
+public class UrlEncoderBenchmarkTests {
+
+  private static final int WARMUP_ITERATIONS = 20_000;
+  private static final int ITERATIONS = 50_000;
+
+  private final UrlEncoderManager urlEncoderManager = new UrlEncoderManager();
+
+  @Test
+  @DisplayName("수 KB 주문 내역 JSON 인코딩은 표 기반 인코딩이 더 빠르다")
+  void encodeThroughput() throws UnsupportedEncodingException {
+
+    String fakeOrder = fakeOrderJson();
+    long sink = 0;
+    for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+      sink += UrlEncoderManagerTests.encodeWithReplaceAll(fakeOrder).length();
+      sink += urlEncoderManager.encodeURIComponent(fakeOrder).length();
+    }
+
+    long startedAt = System.nanoTime();
+    for (int i = 0; i < ITERATIONS; i++) {
+      sink += UrlEncoderManagerTests.encodeWithReplaceAll(fakeOrder).length();
+    }
+    long replaceAllNanos = System.nanoTime() - startedAt;
+
+    startedAt = System.nanoTime();
+    for (int i = 0; i < ITERATIONS; i++) {
+      sink += urlEncoderManager.encodeURIComponent(fakeOrder).length();
+    }
+    long tableNanos = System.nanoTime() - startedAt;
+
+    log.info(
+        "[url encode benchmark] bytes={}, replaceAll={} ops/s, table={} ops/s, sink={}",
+        fakeOrder.length(),
+        ITERATIONS * 1_000_000_000L / replaceAllNanos,
+        ITERATIONS * 1_000_000_000L / tableNanos,
+        sink);
+    assertThat(tableNanos).isLessThan(replaceAllNanos);
+  }
+
+  private String fakeOrderJson() {
+
+    StringBuilder builder = new StringBuilder("{\"ordersId\":\"20231018-0001\",\"products\":[");
+    for (int i = 0; i < 30; i++) {
+      if (i > 0) {
+        builder.append(',');
+      }
+      builder
+          .append("{\"productId\":\"")
+          .append(i)
+          .append("\",\"productName\":\"복순도가 손막걸리 (750ml)\",\"price\":12000,")
+          .append("\"thumbnail\":\"https://jeontongju.shop/image/")
+          .append(i)
+          .append(".png\"}");
+    }
+    return builder.append("]}").toString();
+  }
+}
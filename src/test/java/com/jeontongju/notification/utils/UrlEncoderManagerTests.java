@@ -0,0 +1,77 @@
+package com.jeontongju.notification.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class UrlEncoderManagerTests {
+
+  // ASCII, 한글, 이모지(서로게이트 쌍), 짝이 없는 서로게이트를 섞어서 생성
+  private static final String[] ALPHABETS = {
+    " !\"#$%&'()*+,-./0123456789:;<=>?@AZaz[\\]^_`{|}~\t\n",
+    "전통주점주문실패막걸리",
+    "é©ßΩ€",
+    "🍶😀",
+    "𐀀\uDBFF"
+  };
+
+  private final UrlEncoderManager urlEncoderManager = new UrlEncoderManager();
+
+  @Test
+  @DisplayName("무작위 문자열 10만 개에 대해 URLEncoder + replaceAll 결과와 같다")
+  void t1() throws UnsupportedEncodingException {
+
+    Random random = new Random(20231018L);
+    for (int i = 0; i < 100_000; i++) {
+      String value = randomString(random, random.nextInt(40));
+
+      assertThat(urlEncoderManager.encodeURIComponent(value))
+          .as("value=%s", value)
+          .isEqualTo(encodeWithReplaceAll(value));
+    }
+  }
+
+  @Test
+  @DisplayName("JSON 주문 내역과 경계 문자를 기존과 같게 인코딩한다")
+  void t2() throws UnsupportedEncodingException {
+
+    String[] values = {
+      "",
+      "plainValue-_.!~*'()",
+      "{\"ordersId\":\"1234\",\"productName\":\"복순도가 막걸리\",\"price\":10000}",
+      "%21%27%28%29%7E+",
+      "\uDC00lone low",
+      "lone high\uD800",
+      "🍶"
+    };
+    for (String value : values) {
+      assertThat(urlEncoderManager.encodeURIComponent(value))
+          .isEqualTo(encodeWithReplaceAll(value));
+    }
+  }
+
+  static String encodeWithReplaceAll(String value) throws UnsupportedEncodingException {
+
+    return URLEncoder.encode(value, "UTF-8")
+        .replaceAll("\\+", "%20")
+        .replaceAll("\\%21", "!")
+        .replaceAll("\\%27", "'")
+        .replaceAll("\\%28", "(")
+        .replaceAll("\\%29", ")")
+        .replaceAll("\\%7E", "~");
+  }
+
+  private String randomString(Random random, int length) {
+
+    StringBuilder builder = new StringBuilder(length);
+    for (int i = 0; i < length; i++) {
+      String alphabet = ALPHABETS[random.nextInt(ALPHABETS.length)];
+      builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+    }
+    return builder.toString();
+  }
+}